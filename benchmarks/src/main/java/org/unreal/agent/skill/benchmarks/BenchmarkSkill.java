@@ -0,0 +1,73 @@
+package org.unreal.agent.skill.benchmarks;
+
+import org.unreal.agent.skill.core.AgentSkill;
+import org.unreal.agent.skill.core.AgentSkillResult;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal skill whose execution cost is negligible, so benchmarks measure the framework around it.
+ */
+class BenchmarkSkill implements AgentSkill {
+
+    private final String name;
+    private final List<String> keywords;
+    private final AgentSkillResult result;
+
+    BenchmarkSkill(String name, List<String> keywords) {
+        this.name = name;
+        this.keywords = keywords;
+        this.result = AgentSkillResult.success().skillName(name).data("ok").build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Benchmark skill " + name;
+    }
+
+    @Override
+    public String getVersion() {
+        return "1.0.0";
+    }
+
+    @Override
+    public boolean canHandle(String request) {
+        for (String keyword : keywords) {
+            if (request.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public AgentSkillResult execute(String request, Map<String, Object> parameters) {
+        return result;
+    }
+
+    @Override
+    public Map<String, String> getRequiredParameters() {
+        return Map.of();
+    }
+
+    @Override
+    public Map<String, String> getOptionalParameters() {
+        return Map.of("format", "Output format");
+    }
+
+    @Override
+    public String getInstructions() {
+        return "Run the " + name + " skill on the request.";
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+}
@@ -0,0 +1,107 @@
+package org.unreal.agent.skill.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.unreal.agent.skill.AgentSkillManager;
+import org.unreal.agent.skill.cache.SimpleCache;
+import org.unreal.agent.skill.config.AgentSkillProperties;
+import org.unreal.agent.skill.folder.ProgressiveDisclosureService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache throughput under contention: three threads reading and one thread writing the same cache,
+ * for {@link SimpleCache} and the activation cache of {@link ProgressiveDisclosureService}.
+ * Keys are drawn from a set larger than the cache so reads see both hits and misses and writes
+ * trigger evictions.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheBenchmark {
+
+    private static final int CACHE_SIZE = 1000;
+    private static final int KEY_COUNT = 1250;
+
+    private String[] keys;
+    private SimpleCache<String, Object> simpleCache;
+    private ProgressiveDisclosureService disclosureService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = new String[KEY_COUNT];
+        AgentSkillManager skillManager = new AgentSkillManager();
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "skill-" + i;
+            skillManager.registerSkill(new BenchmarkSkill(keys[i], List.of("topic" + i)));
+        }
+
+        simpleCache = new SimpleCache<>(TimeUnit.MINUTES.toMillis(5), CACHE_SIZE);
+        for (int i = 0; i < CACHE_SIZE; i++) {
+            simpleCache.put(keys[i], keys[i]);
+        }
+
+        AgentSkillProperties properties = new AgentSkillProperties();
+        properties.setEnableMetadataCache(true);
+        properties.setMaxCacheSize(CACHE_SIZE);
+        disclosureService = new ProgressiveDisclosureService();
+        ReflectionTestUtils.setField(disclosureService, "skillManager", skillManager);
+        ReflectionTestUtils.setField(disclosureService, "skillProperties", properties);
+        for (int i = 0; i < CACHE_SIZE; i++) {
+            disclosureService.getSkillActivationInfo(keys[i]);
+        }
+    }
+
+    @Benchmark
+    @Group("simpleCache")
+    @GroupThreads(3)
+    public Object simpleCacheGet() {
+        return simpleCache.get(randomKey());
+    }
+
+    @Benchmark
+    @Group("simpleCache")
+    @GroupThreads(1)
+    public void simpleCachePut() {
+        String key = randomKey();
+        simpleCache.put(key, key);
+    }
+
+    @Benchmark
+    @Group("progressiveDisclosure")
+    @GroupThreads(3)
+    public Map<String, Object> disclosureGet() {
+        return disclosureService.getSkillActivationInfo(randomKey());
+    }
+
+    @Benchmark
+    @Group("progressiveDisclosure")
+    @GroupThreads(1)
+    public Map<String, Object> disclosurePut() {
+        String key = randomKey();
+        disclosureService.invalidateSkillCache(key);
+        return disclosureService.getSkillActivationInfo(key);
+    }
+
+    private String randomKey() {
+        return keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)];
+    }
+}
@@ -0,0 +1,65 @@
+package org.unreal.agent.skill.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.unreal.agent.skill.AgentSkillManager;
+import org.unreal.agent.skill.core.AgentSkill;
+import org.unreal.agent.skill.core.AgentSkillResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost the manager adds around a skill call: lookup, version selection, listener notification and
+ * failure handling in {@link AgentSkillManager#executeSkill(String, String, Map)}, compared with
+ * calling {@link AgentSkill#execute(String, Map)} directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExecutionOverheadBenchmark {
+
+    private static final String REQUEST = "summarize the quarterly report";
+    private static final Map<String, Object> PARAMETERS = Map.of("format", "markdown");
+
+    private AgentSkill skill;
+    private AgentSkillManager skillManager;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        skill = new BenchmarkSkill("report", List.of("report"));
+        skillManager = new AgentSkillManager();
+        for (int i = 0; i < 100; i++) {
+            skillManager.registerSkill(new BenchmarkSkill("skill-" + i, List.of("topic" + i)));
+        }
+        skillManager.registerSkill(skill);
+    }
+
+    @Benchmark
+    public AgentSkillResult direct() {
+        return skill.execute(REQUEST, PARAMETERS);
+    }
+
+    @Benchmark
+    public AgentSkillResult byName() {
+        return skillManager.executeSkill("report", REQUEST, PARAMETERS);
+    }
+
+    @Benchmark
+    public AgentSkillResult byRequest() {
+        return skillManager.executeSkill(REQUEST, PARAMETERS);
+    }
+}
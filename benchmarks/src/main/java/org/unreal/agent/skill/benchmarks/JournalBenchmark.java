@@ -0,0 +1,76 @@
+package org.unreal.agent.skill.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.unreal.agent.skill.core.AgentSkill;
+import org.unreal.agent.skill.journal.SkillExecutionJournal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Cost of recording one execution in the {@link SkillExecutionJournal}, from one thread and from four
+ * threads appending to the same segment. Segments roll over every 16MB and only the last two are kept,
+ * so the numbers include rollover.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JournalBenchmark {
+
+    private static final String REQUEST = "summarize the quarterly report";
+    private static final Map<String, Object> PARAMETERS = Map.of("format", "markdown");
+
+    private AgentSkill skill;
+    private Path directory;
+    private SkillExecutionJournal journal;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        skill = new BenchmarkSkill("report", List.of("report"));
+        directory = Files.createTempDirectory("skill-journal");
+        journal = new SkillExecutionJournal(directory, 16 * 1024 * 1024, 2);
+        journal.open();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        journal.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public void record() {
+        journal.record(skill, REQUEST, PARAMETERS, SkillExecutionJournal.STATUS_SUCCESS, 1_000);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordContended() {
+        journal.record(skill, REQUEST, PARAMETERS, SkillExecutionJournal.STATUS_SUCCESS, 1_000);
+    }
+}
@@ -0,0 +1,84 @@
+package org.unreal.agent.skill.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.unreal.agent.skill.folder.SkillDescriptor;
+import org.unreal.agent.skill.folder.SkillMarkdownParser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing a SKILL.md file: the full parse used when a skill is activated, and the frontmatter-only
+ * parse used for listings. The small file is a typical skill; the large one carries about 50 KB of
+ * instructions, the default size limit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarkdownParserBenchmark {
+
+    @Param({"small", "large"})
+    private String size;
+
+    private Path directory;
+    private Path skillFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("skill-md-benchmark");
+        skillFile = directory.resolve("SKILL.md");
+        int sections = "large".equals(size) ? 200 : 4;
+
+        StringBuilder content = new StringBuilder()
+                .append("---\n")
+                .append("name: pdf-processing\n")
+                .append("description: Extract text and tables from PDF files, fill forms and merge documents.\n")
+                .append("license: Apache-2.0\n")
+                .append("metadata:\n")
+                .append("  author: benchmarks\n")
+                .append("  version: \"1.0\"\n")
+                .append("allowed-tools: Bash(python:*) Read Write\n")
+                .append("---\n\n")
+                .append("# PDF Processing\n\n");
+        for (int i = 0; i < sections; i++) {
+            content.append("## Step ").append(i).append("\n\n")
+                    .append("Use the bundled script to process the document and check the output for errors. ")
+                    .append("Keep the original file untouched and write results next to it.\n\n")
+                    .append("```bash\npython scripts/extract.py --page ").append(i).append(" input.pdf\n```\n\n");
+        }
+        Files.writeString(skillFile, content);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(skillFile);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public SkillDescriptor parse() throws IOException {
+        return SkillMarkdownParser.parse(skillFile);
+    }
+
+    @Benchmark
+    public SkillDescriptor parseFrontmatter() throws IOException {
+        return SkillMarkdownParser.parseFrontmatter(skillFile);
+    }
+}
@@ -0,0 +1,70 @@
+package org.unreal.agent.skill.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.unreal.agent.skill.core.AgentSkillResult;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of {@link AgentSkillResult} as returned by the REST API, for a result with a
+ * short message and for one carrying a table of 500 rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultSerializationBenchmark {
+
+    @Param({"small", "large"})
+    private String size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private AgentSkillResult result;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Object data = "Report generated";
+        if ("large".equals(size)) {
+            List<Map<String, Object>> rows = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("id", i);
+                row.put("name", "item-" + i);
+                row.put("price", i * 1.25);
+                row.put("tags", List.of("alpha", "beta"));
+                rows.add(row);
+            }
+            data = rows;
+        }
+        result = AgentSkillResult.success()
+                .message("Skill executed successfully")
+                .skillName("data-analysis")
+                .data(data)
+                .metadata(Map.of("rows", "large".equals(size) ? 500 : 0, "source", "benchmark"))
+                .build();
+    }
+
+    @Benchmark
+    public String serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(result);
+    }
+}
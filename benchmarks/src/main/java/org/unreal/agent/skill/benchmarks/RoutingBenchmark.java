@@ -0,0 +1,62 @@
+package org.unreal.agent.skill.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.unreal.agent.skill.AgentSkillManager;
+import org.unreal.agent.skill.core.AgentSkill;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of {@link AgentSkillManager#findSkillForRequest(String)} as the number of registered
+ * skills grows. Every skill has two keywords of its own plus one shared by a tenth of the skills,
+ * so requests match a handful of candidates the way realistic skill sets do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoutingBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int skillCount;
+
+    private AgentSkillManager skillManager;
+    private String matchingRequest;
+    private String unmatchedRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        skillManager = new AgentSkillManager();
+        for (int i = 0; i < skillCount; i++) {
+            skillManager.registerSkill(new BenchmarkSkill("skill-" + i,
+                    List.of("topic" + i, "action" + i, "group" + (i % 10))));
+        }
+        int target = skillCount / 2;
+        matchingRequest = "please run action" + target + " on the latest topic" + target + " report";
+        unmatchedRequest = "a request that mentions none of the registered keywords at all";
+    }
+
+    @Benchmark
+    public AgentSkill findMatchingSkill() {
+        return skillManager.findSkillForRequest(matchingRequest);
+    }
+
+    @Benchmark
+    public AgentSkill findNoSkill() {
+        return skillManager.findSkillForRequest(unmatchedRequest);
+    }
+}
@@ -1,5 +1,9 @@
 package org.unreal.agent.skill.core;
 
+import org.unreal.agent.skill.execution.SkillExecutionPolicy;
+
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -68,4 +72,48 @@ public interface AgentSkill {
     default String getInstructions() {
         return null;
     }
+
+    /**
+     * Get the trigger keywords for this skill.
+     * The request router only consults {@link #canHandle(String)} for skills whose keywords
+     * occur in the request; skills without keywords are checked for every request, unless they
+     * accept even an empty request, in which case only requests sharing a term with their name or
+     * description reach them.
+     *
+     * @return list of trigger keywords, empty if the skill does not declare any
+     */
+    default List<String> getKeywords() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Get the per-skill execution limits for this skill.
+     * Skills without limits share the global executor configuration.
+     *
+     * @return the execution policy, {@link SkillExecutionPolicy#UNLIMITED} by default
+     */
+    default SkillExecutionPolicy getExecutionPolicy() {
+        return SkillExecutionPolicy.UNLIMITED;
+    }
+
+    /**
+     * Check whether this skill always returns the same result for the same request and parameters.
+     * Successful results of deterministic skills are memoized in the skill execution cache.
+     *
+     * @return true if results may be cached, false by default
+     */
+    default boolean isDeterministic() {
+        return false;
+    }
+
+    /**
+     * Check whether identical concurrent invocations of this skill may share one execution.
+     * Useful for skills backed by slow downstream calls, such as lookups, that are not stable
+     * enough to be memoized.
+     *
+     * @return true if identical in-flight invocations are coalesced, false by default
+     */
+    default boolean isCoalescing() {
+        return false;
+    }
 }
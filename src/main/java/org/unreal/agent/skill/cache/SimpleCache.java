@@ -1,123 +1,379 @@
 package org.unreal.agent.skill.cache;
 
+import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
 /**
- * Simple in-memory cache for storing skill metadata and other frequently accessed data.
- * 
+ * Bounded in-memory LRU cache for storing skill metadata and other frequently accessed data.
+ *
+ * <p>Entries are kept in two intrusive linked lists: one in access order for O(1) LRU eviction and
+ * one in write order for O(1) expiry, since every entry lives for the same TTL. Expired entries are
+ * dropped lazily on access and in bulk by {@link #cleanUp()}, which the owner may schedule.
+ *
+ * <p>Reads do not take the lock. A hit is looked up in a concurrent map and appended to a small lossy
+ * read buffer; the buffered accesses are replayed onto the access-order list by whichever reader wins a
+ * {@code tryLock}, and by every write before it evicts. Under heavy read contention some accesses are
+ * therefore overwritten before they are replayed, so the eviction order is an approximation of LRU.
+ *
+ * <p>The capacity is a total weight; by default every entry weighs 1, so {@code maxSize} is the
+ * maximum number of entries.
+ *
  * @param <K> the key type
  * @param <V> the value type
  */
 public class SimpleCache<K, V> {
-    
-    private final Map<K, CachedValue<V>> cache = new ConcurrentHashMap<>();
+
+    private static final int READ_BUFFER_SIZE = 64;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    private static final int READ_DRAIN_THRESHOLD = 16;
+
+    private final Map<K, Node<K, V>> cache = new ConcurrentHashMap<>();
     private final long ttlMillis;
-    private final int maxSize;
-    private final ReadWriteLock lock = new ReentrantReadWriteLock();
-    
+    private final long maxWeight;
+    private final ToIntFunction<? super V> weigher;
+    private final boolean recordStats;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicReferenceArray<Node<K, V>> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final AtomicLong reads = new AtomicLong();
+
+    /** Access order: head is least recently used. */
+    private final Node<K, V> accessOrder = Node.sentinel();
+    /** Write order: head is the oldest write and therefore expires first. */
+    private final Node<K, V> writeOrder = Node.sentinel();
+    private long totalWeight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
     public SimpleCache(long ttlMillis, int maxSize) {
+        this(ttlMillis, maxSize, value -> 1, true);
+    }
+
+    /**
+     * Create a weighted cache.
+     *
+     * @param ttlMillis time to live of each entry after it was written
+     * @param maxWeight maximum total weight of all entries
+     * @param weigher computes the weight of a value; must be non-negative
+     * @param recordStats whether to count hits, misses, evictions and expirations
+     */
+    public SimpleCache(long ttlMillis, long maxWeight, ToIntFunction<? super V> weigher, boolean recordStats) {
         this.ttlMillis = ttlMillis;
-        this.maxSize = maxSize;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.recordStats = recordStats;
     }
-    
+
     /**
      * Retrieves a value from the cache.
-     * 
+     *
      * @param key the key
      * @return the value if found and not expired, null otherwise
      */
     public V get(K key) {
-        CachedValue<V> cached = cache.get(key);
-        if (cached == null) {
+        Node<K, V> node = cache.get(key);
+        if (node == null) {
+            record(misses);
             return null;
         }
-        
-        if (isExpired(cached)) {
-            cache.remove(key); // Remove expired entry
+        if (isExpired(node, System.currentTimeMillis())) {
+            lock.lock();
+            try {
+                if (cache.get(key) == node) {
+                    removeNode(node);
+                    record(expirations);
+                }
+            } finally {
+                lock.unlock();
+            }
+            record(misses);
             return null;
         }
-        
-        return cached.getValue();
+        recordRead(node);
+        record(hits);
+        return node.value;
     }
-    
+
     /**
-     * Puts a value in the cache.
-     * 
+     * Puts a value in the cache, evicting the least recently used entries if it is full.
+     * A value heavier than the whole cache is not stored.
+     *
      * @param key the key
      * @param value the value
      */
     public void put(K key, V value) {
-        // Check if we need to evict entries due to size limit
-        if (cache.size() >= maxSize) {
-            // Simple eviction: remove oldest entries
-            cache.entrySet().removeIf(entry -> isExpired(entry.getValue()));
-            
-            // If still over size, remove random entries (in a real implementation, 
-            // you'd want a more sophisticated eviction strategy like LRU)
-            if (cache.size() >= maxSize) {
-                cache.entrySet().iterator().remove();
+        long now = System.currentTimeMillis();
+        int weight = weigher.applyAsInt(value);
+        lock.lock();
+        try {
+            drainReads();
+            Node<K, V> existing = cache.remove(key);
+            if (existing != null) {
+                unlink(existing);
+            }
+            if (weight > maxWeight) {
+                return;
+            }
+            expireEntries(now);
+
+            Node<K, V> node = new Node<>(key, value, weight, now);
+            cache.put(key, node);
+            moveToTail(accessOrder, node, true);
+            moveToTail(writeOrder, node, false);
+            totalWeight += weight;
+
+            while (totalWeight > maxWeight && accessOrder.next != accessOrder) {
+                removeNode(accessOrder.next);
+                record(evictions);
             }
+        } finally {
+            lock.unlock();
         }
-        
-        cache.put(key, new CachedValue<>(value, System.currentTimeMillis()));
     }
-    
+
     /**
      * Removes a value from the cache.
-     * 
+     *
      * @param key the key
      */
     public void remove(K key) {
-        cache.remove(key);
+        lock.lock();
+        try {
+            Node<K, V> node = cache.remove(key);
+            if (node != null) {
+                unlink(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all values whose key matches a filter.
+     *
+     * @param filter selects the keys to remove
+     */
+    public void removeIf(Predicate<? super K> filter) {
+        lock.lock();
+        try {
+            Iterator<Node<K, V>> nodes = cache.values().iterator();
+            while (nodes.hasNext()) {
+                Node<K, V> node = nodes.next();
+                if (filter.test(node.key)) {
+                    nodes.remove();
+                    unlink(node);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
     }
-    
+
     /**
      * Clears the entire cache.
      */
     public void clear() {
-        cache.clear();
+        lock.lock();
+        try {
+            cache.clear();
+            accessOrder.next = accessOrder.prev = accessOrder;
+            writeOrder.writeNext = writeOrder.writePrev = writeOrder;
+            totalWeight = 0;
+        } finally {
+            lock.unlock();
+        }
     }
-    
+
     /**
-     * Checks if a cached value is expired.
-     * 
-     * @param cachedValue the cached value
-     * @return true if expired, false otherwise
+     * Removes all expired entries.
      */
-    private boolean isExpired(CachedValue<V> cachedValue) {
-        return System.currentTimeMillis() - cachedValue.getTimestamp() > ttlMillis;
+    public void cleanUp() {
+        long now = System.currentTimeMillis();
+        lock.lock();
+        try {
+            expireEntries(now);
+        } finally {
+            lock.unlock();
+        }
     }
-    
+
     /**
      * Gets the current size of the cache.
-     * 
+     *
      * @return the cache size
      */
     public int size() {
         return cache.size();
     }
-    
+
     /**
-     * Inner class to hold cached values with timestamps.
+     * Gets the total weight of the cached entries.
+     *
+     * @return the cache weight
      */
-    private static class CachedValue<V> {
+    public long weight() {
+        lock.lock();
+        try {
+            return totalWeight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets a snapshot of the cache counters.
+     *
+     * @return hit, miss, eviction and expiration counts; all zero if statistics are disabled
+     */
+    public Stats getStats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum());
+    }
+
+    private void recordRead(Node<K, V> node) {
+        long read = reads.getAndIncrement();
+        readBuffer.lazySet((int) (read & READ_BUFFER_MASK), node);
+        if ((read + 1) % READ_DRAIN_THRESHOLD == 0 && lock.tryLock()) {
+            try {
+                drainReads();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Replay buffered reads onto the access-order list, oldest slot first; caller holds the lock.
+     */
+    private void drainReads() {
+        int start = (int) reads.get();
+        for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+            Node<K, V> node = readBuffer.getAndSet((start + i) & READ_BUFFER_MASK, null);
+            if (node != null && cache.get(node.key) == node) {
+                moveToTail(accessOrder, node, true);
+            }
+        }
+    }
+
+    private void expireEntries(long now) {
+        while (writeOrder.writeNext != writeOrder && isExpired(writeOrder.writeNext, now)) {
+            removeNode(writeOrder.writeNext);
+            record(expirations);
+        }
+    }
+
+    private boolean isExpired(Node<K, V> node, long now) {
+        return now - node.timestamp > ttlMillis;
+    }
+
+    private void removeNode(Node<K, V> node) {
+        cache.remove(node.key);
+        unlink(node);
+    }
+
+    private void unlink(Node<K, V> node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.writePrev.writeNext = node.writeNext;
+        node.writeNext.writePrev = node.writePrev;
+        totalWeight -= node.weight;
+    }
+
+    private void moveToTail(Node<K, V> list, Node<K, V> node, boolean access) {
+        if (access) {
+            if (node.prev != null) {
+                node.prev.next = node.next;
+                node.next.prev = node.prev;
+            }
+            node.prev = list.prev;
+            node.next = list;
+            list.prev.next = node;
+            list.prev = node;
+        } else {
+            node.writePrev = list.writePrev;
+            node.writeNext = list;
+            list.writePrev.writeNext = node;
+            list.writePrev = node;
+        }
+    }
+
+    private void record(LongAdder counter) {
+        if (recordStats) {
+            counter.increment();
+        }
+    }
+
+    /**
+     * Cache entry linked into both the access-order and the write-order list.
+     */
+    private static final class Node<K, V> {
+        private final K key;
         private final V value;
+        private final int weight;
         private final long timestamp;
-        
-        public CachedValue(V value, long timestamp) {
+        private Node<K, V> prev;
+        private Node<K, V> next;
+        private Node<K, V> writePrev;
+        private Node<K, V> writeNext;
+
+        private Node(K key, V value, int weight, long timestamp) {
+            this.key = key;
             this.value = value;
+            this.weight = weight;
             this.timestamp = timestamp;
         }
-        
-        public V getValue() {
-            return value;
+
+        private static <K, V> Node<K, V> sentinel() {
+            Node<K, V> sentinel = new Node<>(null, null, 0, 0);
+            sentinel.prev = sentinel.next = sentinel;
+            sentinel.writePrev = sentinel.writeNext = sentinel;
+            return sentinel;
+        }
+    }
+
+    /**
+     * Snapshot of cache counters.
+     */
+    public static class Stats {
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final long expirationCount;
+
+        public Stats(long hitCount, long missCount, long evictionCount, long expirationCount) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.expirationCount = expirationCount;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        public long getEvictionCount() {
+            return evictionCount;
         }
-        
-        public long getTimestamp() {
-            return timestamp;
+
+        public long getExpirationCount() {
+            return expirationCount;
+        }
+
+        public double getHitRate() {
+            long requests = hitCount + missCount;
+            return requests == 0 ? 0.0 : (double) hitCount / requests;
         }
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,14 @@
 package org.unreal.agent.skill.cache;
 
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.unreal.agent.skill.config.AgentSkillProperties;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Cache manager for the Agent Skill framework.
  */
@@ -12,6 +17,7 @@ public class SkillCacheManager {
     
     private final SimpleCache<String, Object> skillMetadataCache;
     private final SimpleCache<String, Object> skillExecutionCache;
+    private final ScheduledExecutorService cleaner;
     
     @Autowired
     private AgentSkillProperties properties;
@@ -21,8 +27,37 @@ public class SkillCacheManager {
         long ttl = properties.getCacheExpirationMs();
         int maxSize = properties.getMaxCacheSize();
         
-        this.skillMetadataCache = new SimpleCache<>(ttl, maxSize);
-        this.skillExecutionCache = new SimpleCache<>(ttl / 2, maxSize / 2); // Shorter TTL for execution results
+        // Hit ratios are published as metrics when those are enabled
+        boolean recordStats = properties.isEnableCacheStats() || properties.isMetricsEnabled();
+        
+        this.skillMetadataCache = new SimpleCache<>(ttl, maxSize, value -> 1, recordStats);
+        // Shorter TTL for execution results
+        this.skillExecutionCache = new SimpleCache<>(ttl / 2, Math.max(1, maxSize / 2), value -> 1, recordStats);
+        
+        // Expired entries are also dropped on access; the sweep frees memory held by keys nobody reads again
+        long sweepInterval = Math.max(1000, ttl / 2);
+        this.cleaner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "skill-cache-cleaner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.cleaner.scheduleWithFixedDelay(this::cleanUp, sweepInterval, sweepInterval, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Removes expired entries from all caches.
+     */
+    public void cleanUp() {
+        skillMetadataCache.cleanUp();
+        skillExecutionCache.cleanUp();
+    }
+    
+    /**
+     * Stops the scheduled expiry sweep.
+     */
+    @PreDestroy
+    public void shutdown() {
+        cleaner.shutdownNow();
     }
     
     /**
@@ -99,7 +134,9 @@ public class SkillCacheManager {
     public CacheStatistics getCacheStatistics() {
         return new CacheStatistics(
             skillMetadataCache.size(),
-            skillExecutionCache.size()
+            skillExecutionCache.size(),
+            skillMetadataCache.getStats(),
+            skillExecutionCache.getStats()
         );
     }
     
@@ -109,10 +146,20 @@ public class SkillCacheManager {
     public static class CacheStatistics {
         private final int metadataCacheSize;
         private final int executionCacheSize;
+        private final SimpleCache.Stats metadataCacheStats;
+        private final SimpleCache.Stats executionCacheStats;
         
         public CacheStatistics(int metadataCacheSize, int executionCacheSize) {
+            this(metadataCacheSize, executionCacheSize,
+                    new SimpleCache.Stats(0, 0, 0, 0), new SimpleCache.Stats(0, 0, 0, 0));
+        }
+        
+        public CacheStatistics(int metadataCacheSize, int executionCacheSize,
+                               SimpleCache.Stats metadataCacheStats, SimpleCache.Stats executionCacheStats) {
             this.metadataCacheSize = metadataCacheSize;
             this.executionCacheSize = executionCacheSize;
+            this.metadataCacheStats = metadataCacheStats;
+            this.executionCacheStats = executionCacheStats;
         }
         
         public int getMetadataCacheSize() {
@@ -126,5 +173,13 @@ public class SkillCacheManager {
         public int getTotalCacheSize() {
             return metadataCacheSize + executionCacheSize;
         }
+        
+        public SimpleCache.Stats getMetadataCacheStats() {
+            return metadataCacheStats;
+        }
+        
+        public SimpleCache.Stats getExecutionCacheStats() {
+            return executionCacheStats;
+        }
     }
 }
\ No newline at end of file
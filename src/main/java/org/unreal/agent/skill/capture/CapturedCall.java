@@ -0,0 +1,131 @@
+package org.unreal.agent.skill.capture;
+
+import org.unreal.agent.skill.execution.SkillInvocation;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One sampled call to the skill API, written as a JSON line by the {@link TrafficRecorder} and read
+ * back by the {@link TrafficReplayer}.
+ */
+public class CapturedCall {
+
+    /**
+     * The kind of call that was captured.
+     */
+    public enum Operation {
+        /** {@code executeSkill} by name */
+        EXECUTE,
+        /** {@code executeSkillVersion} */
+        EXECUTE_VERSION,
+        /** {@code executeSkillAsync} */
+        EXECUTE_ASYNC,
+        /** {@code submitBatch}, with the whole invocation list */
+        EXECUTE_BATCH,
+        /** {@code executeSkillStreaming} */
+        EXECUTE_STREAM,
+        /** {@code findSkillForRequest}, or {@code rankSkillsForRequest} when {@code k} is set */
+        FIND,
+        /** first tier of progressive disclosure */
+        DISCOVERY,
+        /** second tier of progressive disclosure */
+        ACTIVATION,
+        /** third tier of progressive disclosure */
+        EXECUTION_CONTEXT,
+        /** all tiers of progressive disclosure */
+        PREPARE
+    }
+
+    private long timestamp;
+    private Operation operation;
+    private String skillName;
+    private String version;
+    private String request;
+    private Map<String, Object> parameters;
+    private Integer k;
+    private List<SkillInvocation> invocations;
+
+    public CapturedCall() {}
+
+    public CapturedCall(long timestamp, Operation operation, String skillName, String version, String request,
+                        Map<String, Object> parameters, Integer k) {
+        this.timestamp = timestamp;
+        this.operation = operation;
+        this.skillName = skillName;
+        this.version = version;
+        this.request = request;
+        this.parameters = parameters;
+        this.k = k;
+    }
+
+    /**
+     * @return when the call was made, in epoch milliseconds
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public void setOperation(Operation operation) {
+        this.operation = operation;
+    }
+
+    public String getSkillName() {
+        return skillName;
+    }
+
+    public void setSkillName(String skillName) {
+        this.skillName = skillName;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public void setVersion(String version) {
+        this.version = version;
+    }
+
+    public String getRequest() {
+        return request;
+    }
+
+    public void setRequest(String request) {
+        this.request = request;
+    }
+
+    public Map<String, Object> getParameters() {
+        return parameters;
+    }
+
+    public void setParameters(Map<String, Object> parameters) {
+        this.parameters = parameters;
+    }
+
+    public Integer getK() {
+        return k;
+    }
+
+    public void setK(Integer k) {
+        this.k = k;
+    }
+
+    /**
+     * @return the invocations of a batch call, null for other calls
+     */
+    public List<SkillInvocation> getInvocations() {
+        return invocations;
+    }
+
+    public void setInvocations(List<SkillInvocation> invocations) {
+        this.invocations = invocations;
+    }
+}
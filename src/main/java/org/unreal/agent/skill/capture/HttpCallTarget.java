@@ -0,0 +1,123 @@
+package org.unreal.agent.skill.capture;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replays captured calls against the skill REST API of a running instance, so a replay goes through
+ * the same request parsing, controller and serialization as the captured traffic. Operations without
+ * an endpoint, the progressive disclosure calls, are passed to a fallback target.
+ *
+ * <p>A call succeeds if the endpoint answers with a 2xx status and, for executions, every returned
+ * skill result is successful; a streamed execution succeeds if its final result line does.
+ */
+public class HttpCallTarget implements TrafficReplayer.CallTarget {
+
+    private static final String API_PATH = "/api/agent-skills";
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final TrafficReplayer.CallTarget fallback;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * @param baseUrl URL of the instance, e.g. {@code http://localhost:8080}
+     * @param fallback executes operations that have no endpoint
+     */
+    public HttpCallTarget(String baseUrl, TrafficReplayer.CallTarget fallback) {
+        this(HttpClient.newHttpClient(), baseUrl, fallback);
+    }
+
+    HttpCallTarget(HttpClient client, String baseUrl, TrafficReplayer.CallTarget fallback) {
+        this.client = client;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public boolean invoke(CapturedCall call) throws Exception {
+        String skillPath = "/execute/" + segment(call.getSkillName());
+        return switch (call.getOperation()) {
+            case EXECUTE -> isSuccess(post(skillPath, execution(call)));
+            case EXECUTE_VERSION -> isSuccess(post(skillPath + "/versions/" + segment(call.getVersion()), execution(call)));
+            case EXECUTE_ASYNC -> isSuccess(post(skillPath + "/async", execution(call)));
+            case EXECUTE_STREAM -> isStreamSuccess(post(skillPath + "/stream", execution(call)));
+            case EXECUTE_BATCH -> isBatchSuccess(post("/execute/batch",
+                    call.getInvocations() != null ? call.getInvocations() : List.of()));
+            case FIND -> isOk(post(call.getK() != null ? "/find?k=" + call.getK() : "/find",
+                    Map.of("request", requestOf(call))));
+            case DISCOVERY, ACTIVATION, EXECUTION_CONTEXT, PREPARE -> fallback.invoke(call);
+        };
+    }
+
+    private HttpResponse<String> post(String path, Object body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + API_PATH + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static Map<String, Object> execution(CapturedCall call) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("request", requestOf(call));
+        body.put("parameters", call.getParameters() != null ? call.getParameters() : Map.of());
+        return body;
+    }
+
+    private static String requestOf(CapturedCall call) {
+        return call.getRequest() != null ? call.getRequest() : "";
+    }
+
+    private static String segment(String value) {
+        return URLEncoder.encode(value != null ? value : "", StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    private static boolean isOk(HttpResponse<String> response) {
+        return response.statusCode() / 100 == 2;
+    }
+
+    private boolean isSuccess(HttpResponse<String> response) throws IOException {
+        return isOk(response) && objectMapper.readTree(response.body()).path("success").asBoolean(false);
+    }
+
+    private boolean isBatchSuccess(HttpResponse<String> response) throws IOException {
+        if (!isOk(response)) {
+            return false;
+        }
+        for (JsonNode result : objectMapper.readTree(response.body()).path("results")) {
+            if (!result.path("success").asBoolean(false)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isStreamSuccess(HttpResponse<String> response) throws IOException {
+        if (!isOk(response)) {
+            return false;
+        }
+        boolean success = false;
+        for (String line : response.body().split("\n")) {
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonNode event = objectMapper.readTree(line);
+            if ("result".equals(event.path("type").asText())) {
+                success = event.path("data").path("success").asBoolean(false);
+            }
+        }
+        return success;
+    }
+}
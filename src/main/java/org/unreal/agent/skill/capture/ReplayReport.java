@@ -0,0 +1,153 @@
+package org.unreal.agent.skill.capture;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Result of a {@link TrafficReplayer} run: throughput and latency percentiles per operation and skill.
+ * Keys are the operation in lower case, followed by {@code :skill} for calls aimed at a skill, e.g.
+ * {@code execute:report} or {@code discovery}.
+ */
+public class ReplayReport {
+
+    private final Map<String, Stats> stats;
+    private final long durationNanos;
+
+    ReplayReport(Map<String, Latencies> latencies, long durationNanos) {
+        Map<String, Stats> byKey = new TreeMap<>();
+        latencies.forEach((key, recorded) -> byKey.put(key, recorded.toStats(durationNanos)));
+        this.stats = Collections.unmodifiableMap(byKey);
+        this.durationNanos = durationNanos;
+    }
+
+    /**
+     * @return statistics per operation and skill, sorted by key
+     */
+    public Map<String, Stats> getStats() {
+        return stats;
+    }
+
+    /**
+     * @return wall-clock duration of the replay
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * @return the report as a table, one line per operation and skill
+     */
+    public String format() {
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT, "%-40s %8s %7s %10s %10s %10s %10s %10s%n",
+                "call", "count", "errors", "calls/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        stats.forEach((key, s) -> table.append(String.format(Locale.ROOT, "%-40s %8d %7d %10.1f %10.3f %10.3f %10.3f %10.3f%n",
+                key, s.getCount(), s.getErrors(), s.getThroughput(), millis(s.getP50Nanos()), millis(s.getP95Nanos()),
+                millis(s.getP99Nanos()), millis(s.getMaxNanos()))));
+        return table.toString();
+    }
+
+    static String keyOf(CapturedCall call) {
+        String operation = call.getOperation() != null ? call.getOperation().name().toLowerCase(Locale.ROOT).replace('_', '-') : "unknown";
+        return call.getSkillName() != null ? operation + ":" + call.getSkillName() : operation;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Statistics of one operation and skill.
+     */
+    public static class Stats {
+        private final long count;
+        private final long errors;
+        private final double throughput;
+        private final long p50Nanos;
+        private final long p95Nanos;
+        private final long p99Nanos;
+        private final long maxNanos;
+
+        Stats(long count, long errors, double throughput, long p50Nanos, long p95Nanos, long p99Nanos, long maxNanos) {
+            this.count = count;
+            this.errors = errors;
+            this.throughput = throughput;
+            this.p50Nanos = p50Nanos;
+            this.p95Nanos = p95Nanos;
+            this.p99Nanos = p99Nanos;
+            this.maxNanos = maxNanos;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return calls that threw or reported failure
+         */
+        public long getErrors() {
+            return errors;
+        }
+
+        /**
+         * @return completed calls per second over the whole replay
+         */
+        public double getThroughput() {
+            return throughput;
+        }
+
+        public long getP50Nanos() {
+            return p50Nanos;
+        }
+
+        public long getP95Nanos() {
+            return p95Nanos;
+        }
+
+        public long getP99Nanos() {
+            return p99Nanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+    }
+
+    /**
+     * Latencies of one operation and skill, collected while replaying.
+     */
+    static final class Latencies {
+        private long[] values = new long[64];
+        private int count;
+        private long errors;
+
+        synchronized void add(long latencyNanos, boolean success) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = latencyNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized Stats toStats(long durationNanos) {
+            long[] sorted = Arrays.copyOf(values, count);
+            Arrays.sort(sorted);
+            double seconds = durationNanos / 1_000_000_000.0;
+            return new Stats(count, errors, seconds > 0 ? count / seconds : 0,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    count > 0 ? sorted[count - 1] : 0);
+        }
+
+        private static long percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile * sorted.length);
+            return sorted[Math.max(0, rank - 1)];
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package org.unreal.agent.skill.capture;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.unreal.agent.skill.config.AgentSkillProperties;
+import org.unreal.agent.skill.execution.SkillInvocation;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Samples calls to the skill API into a JSON lines file for {@link TrafficReplayer}, enabled with
+ * {@code agent.skill.capture-enabled}.
+ *
+ * <p>One in {@code capture-sample-rate} calls is kept. Calls are queued and written by a background
+ * thread, so capturing adds no I/O to the request; when the queue is full the call is dropped. The
+ * file is appended to, so several runs can be captured into one file. Captured requests and parameters
+ * are written as they were received.
+ */
+@Component
+@ConditionalOnProperty(prefix = "agent.skill", name = "capture-enabled", havingValue = "true")
+public class TrafficRecorder implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrafficRecorder.class);
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+
+    private final Path file;
+    private final int sampleRate;
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final BlockingQueue<CapturedCall> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final LongAdder capturedCalls = new LongAdder();
+    private final LongAdder droppedCalls = new LongAdder();
+    private volatile boolean running;
+    private Thread writer;
+
+    @Autowired
+    public TrafficRecorder(AgentSkillProperties properties) {
+        this(Paths.get(properties.getCaptureFile()), properties.getCaptureSampleRate());
+    }
+
+    /**
+     * @param file the capture file, created with its parent directories if missing
+     * @param sampleRate keep one in this many calls
+     */
+    public TrafficRecorder(Path file, int sampleRate) {
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("Sample rate must be at least 1: " + sampleRate);
+        }
+        this.file = file;
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Open the capture file and start the writer thread.
+     *
+     * @throws IOException if the file cannot be opened
+     */
+    @PostConstruct
+    public synchronized void start() throws IOException {
+        if (writer != null) {
+            return;
+        }
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        running = true;
+        writer = new Thread(() -> writeLoop(out), "traffic-capture");
+        writer.setDaemon(true);
+        writer.start();
+        logger.info("Capturing 1 in {} skill API calls to {}", sampleRate, file.toAbsolutePath());
+    }
+
+    /**
+     * Sample a call.
+     *
+     * @param operation the kind of call
+     * @param skillName the skill name, null for calls not aimed at a skill
+     * @param version the skill version, null unless a specific version was called
+     * @param request the request text, null if the call has none
+     * @param parameters the parameters, null if the call has none
+     * @param k the number of ranked matches asked for, null if not ranked
+     */
+    public void record(CapturedCall.Operation operation, String skillName, String version, String request,
+                       Map<String, Object> parameters, Integer k) {
+        if (!running || (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0)) {
+            return;
+        }
+        enqueue(new CapturedCall(System.currentTimeMillis(), operation, skillName, version, request,
+                parameters != null ? new LinkedHashMap<>(parameters) : null, k));
+    }
+
+    /**
+     * Sample a batch call. The batch is kept or skipped as a whole, so a replay submits it again as one
+     * batch with the same invocations.
+     *
+     * @param invocations the invocations of the batch, in request order
+     */
+    public void recordBatch(List<SkillInvocation> invocations) {
+        if (!running || (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0)) {
+            return;
+        }
+        List<SkillInvocation> copies = new ArrayList<>(invocations.size());
+        for (SkillInvocation invocation : invocations) {
+            copies.add(invocation != null ? new SkillInvocation(invocation.getSkillName(), invocation.getRequest(),
+                    new LinkedHashMap<>(invocation.getParameters())) : null);
+        }
+        CapturedCall call = new CapturedCall(System.currentTimeMillis(), CapturedCall.Operation.EXECUTE_BATCH,
+                null, null, null, null, null);
+        call.setInvocations(copies);
+        enqueue(call);
+    }
+
+    private void enqueue(CapturedCall call) {
+        if (queue.offer(call)) {
+            capturedCalls.increment();
+        } else {
+            droppedCalls.increment();
+        }
+    }
+
+    /**
+     * @return calls queued for writing
+     */
+    public long getCapturedCalls() {
+        return capturedCalls.sum();
+    }
+
+    /**
+     * @return sampled calls dropped because the writer fell behind
+     */
+    public long getDroppedCalls() {
+        return droppedCalls.sum();
+    }
+
+    /**
+     * Write the queued calls and close the capture file.
+     */
+    @PreDestroy
+    @Override
+    public synchronized void close() {
+        Thread thread = writer;
+        if (thread == null) {
+            return;
+        }
+        running = false;
+        try {
+            thread.join(SHUTDOWN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+    }
+
+    private void writeLoop(BufferedWriter out) {
+        List<CapturedCall> batch = new ArrayList<>();
+        try (out) {
+            while (running || !queue.isEmpty()) {
+                CapturedCall first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch);
+                for (CapturedCall call : batch) {
+                    try {
+                        out.write(objectMapper.writeValueAsString(call));
+                        out.newLine();
+                    } catch (IOException e) {
+                        logger.warn("Failed to capture {} call of skill {}", call.getOperation(), call.getSkillName(), e);
+                    }
+                }
+                out.flush();
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            logger.error("Failed to write capture file {}; capturing stopped", file, e);
+            running = false;
+        }
+    }
+}
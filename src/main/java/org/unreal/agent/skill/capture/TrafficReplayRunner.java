@@ -0,0 +1,80 @@
+package org.unreal.agent.skill.capture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.unreal.agent.skill.config.AgentSkillProperties;
+import org.unreal.agent.skill.folder.ProgressiveDisclosureService;
+
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Replays a capture file once the application has started, enabled by setting
+ * {@code agent.skill.replay-file}. Executions and lookups are sent through the REST API by an
+ * {@link HttpCallTarget}, to {@code agent.skill.replay-target-url} or else to this instance's own port,
+ * so they take the same path as the captured calls. Progressive disclosure calls have no endpoint and
+ * go straight to the {@link ProgressiveDisclosureService}. The report is logged when all calls have
+ * completed. Keep capturing disabled while replaying.
+ */
+@Component
+@ConditionalOnProperty(prefix = "agent.skill", name = "replay-file")
+public class TrafficReplayRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrafficReplayRunner.class);
+
+    @Autowired(required = false)
+    private ProgressiveDisclosureService disclosureService;
+
+    @Autowired
+    private AgentSkillProperties skillProperties;
+
+    @Autowired
+    private Environment environment;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        List<CapturedCall> calls = TrafficReplayer.readCalls(Paths.get(skillProperties.getReplayFile()));
+        String targetUrl = targetUrl();
+        logger.info("Replaying {} captured calls from {} against {} at {}x speed-up with concurrency {}", calls.size(),
+                skillProperties.getReplayFile(), targetUrl, skillProperties.getReplaySpeedup(),
+                skillProperties.getReplayConcurrency());
+        ReplayReport report = new TrafficReplayer(new HttpCallTarget(targetUrl, this::invokeDisclosure),
+                skillProperties.getReplaySpeedup(), skillProperties.getReplayConcurrency()).replay(calls);
+        logger.info("Replay finished in {}ms:\n{}", report.getDurationNanos() / 1_000_000, report.format());
+    }
+
+    private String targetUrl() {
+        if (skillProperties.getReplayTargetUrl() != null) {
+            return skillProperties.getReplayTargetUrl();
+        }
+        String port = environment.getProperty("local.server.port");
+        if (port == null) {
+            throw new IllegalStateException("No web server to replay against; set agent.skill.replay-target-url");
+        }
+        return "http://localhost:" + port;
+    }
+
+    private boolean invokeDisclosure(CapturedCall call) {
+        String skillName = call.getSkillName();
+        return switch (call.getOperation()) {
+            case DISCOVERY -> disclosureService().getSkillDiscoveryInfo() != null;
+            case ACTIVATION -> disclosureService().getSkillActivationInfo(skillName) != null;
+            case EXECUTION_CONTEXT -> disclosureService().getSkillExecutionContext(skillName) != null;
+            case PREPARE -> disclosureService().prepareSkillForExecution(skillName) != null;
+            default -> throw new IllegalArgumentException("Not a progressive disclosure call: " + call.getOperation());
+        };
+    }
+
+    private ProgressiveDisclosureService disclosureService() {
+        if (disclosureService == null) {
+            throw new IllegalStateException("Progressive disclosure service is not available");
+        }
+        return disclosureService;
+    }
+}
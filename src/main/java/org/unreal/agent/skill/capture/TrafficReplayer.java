@@ -0,0 +1,144 @@
+package org.unreal.agent.skill.capture;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays captured calls against a {@link CallTarget} and measures throughput and latency per
+ * operation and skill.
+ *
+ * <p>Calls are issued in capture order on a pool of {@code concurrency} threads. With a positive
+ * speed-up the original gaps between calls are kept, divided by the speed-up, and latency is measured
+ * from the time a call was due, so calls that wait for a free thread count as slow rather than being
+ * sent later. A speed-up of 0 sends calls as fast as the threads allow and measures from the start of
+ * each call.
+ */
+public class TrafficReplayer {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrafficReplayer.class);
+
+    /**
+     * Executes one replayed call.
+     */
+    @FunctionalInterface
+    public interface CallTarget {
+
+        /**
+         * @param call the call to execute
+         * @return whether the call succeeded
+         * @throws Exception if the call failed; counted as an error
+         */
+        boolean invoke(CapturedCall call) throws Exception;
+    }
+
+    private final CallTarget target;
+    private final double speedup;
+    private final int concurrency;
+
+    /**
+     * @param target executes the calls
+     * @param speedup factor by which the captured timeline is compressed; 0 to replay without pauses
+     * @param concurrency number of calls in flight at most
+     */
+    public TrafficReplayer(CallTarget target, double speedup, int concurrency) {
+        if (speedup < 0 || concurrency < 1) {
+            throw new IllegalArgumentException("Speed-up must be non-negative and concurrency positive");
+        }
+        this.target = target;
+        this.speedup = speedup;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Read a capture file written by {@link TrafficRecorder}. Blank lines are skipped.
+     *
+     * @param file the capture file
+     * @return the calls, in file order
+     * @throws IOException if the file cannot be read or a line is not a captured call
+     */
+    public static List<CapturedCall> readCalls(Path file) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        List<CapturedCall> calls = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    calls.add(objectMapper.readValue(line, CapturedCall.class));
+                }
+            }
+        }
+        return calls;
+    }
+
+    /**
+     * Replay calls and wait for all of them to complete.
+     *
+     * @param calls the calls to replay
+     * @return throughput and latency per operation and skill
+     * @throws InterruptedException if interrupted while replaying
+     */
+    public ReplayReport replay(List<CapturedCall> calls) throws InterruptedException {
+        List<CapturedCall> ordered = new ArrayList<>(calls);
+        ordered.sort(Comparator.comparingLong(CapturedCall::getTimestamp));
+        Map<String, ReplayReport.Latencies> latencies = new ConcurrentHashMap<>();
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "traffic-replay-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long startNanos = System.nanoTime();
+        try {
+            long firstTimestamp = ordered.isEmpty() ? 0 : ordered.get(0).getTimestamp();
+            for (CapturedCall call : ordered) {
+                long dueNanos = -1;
+                if (speedup > 0) {
+                    dueNanos = startNanos + (long) (TimeUnit.MILLISECONDS.toNanos(call.getTimestamp() - firstTimestamp) / speedup);
+                    long waitNanos;
+                    while ((waitNanos = dueNanos - System.nanoTime()) > 0) {
+                        LockSupport.parkNanos(waitNanos);
+                        if (Thread.interrupted()) {
+                            throw new InterruptedException();
+                        }
+                    }
+                }
+                long due = dueNanos;
+                ReplayReport.Latencies recorder = latencies.computeIfAbsent(ReplayReport.keyOf(call), key -> new ReplayReport.Latencies());
+                executor.execute(() -> {
+                    long callStart = due >= 0 ? due : System.nanoTime();
+                    boolean success;
+                    try {
+                        success = target.invoke(call);
+                    } catch (Exception e) {
+                        logger.debug("Replayed {} call of skill {} failed", call.getOperation(), call.getSkillName(), e);
+                        success = false;
+                    }
+                    recorder.add(System.nanoTime() - callStart, success);
+                });
+            }
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        return new ReplayReport(latencies, System.nanoTime() - startNanos);
+    }
+}
@@ -3,9 +3,12 @@ package org.unreal.agent.skill.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.PositiveOrZero;
 import java.util.Arrays;
 
 /**
@@ -38,10 +41,127 @@ public class AgentSkillProperties {
     private int maxConcurrentExecutions = 10;
 
     /**
-     * Whether to enable skill execution metrics.
+     * Maximum number of asynchronous executions waiting for a free worker before new ones are rejected.
+     */
+    @Min(value = 1, message = "Execution queue capacity must be at least 1")
+    private int executionQueueCapacity = 100;
+
+    /**
+     * How asynchronous skill executions are run: {@code platform-threads} (bounded thread pool) or
+     * {@code virtual-threads} (one virtual thread per execution, requires Java 21).
+     */
+    @Pattern(regexp = "platform-threads|virtual-threads", message = "Execution mode must be platform-threads or virtual-threads")
+    private String executionMode = "platform-threads";
+
+    /**
+     * Whether to publish Micrometer metrics of skill execution, routing, loading, caching and
+     * directory watching. Requires a {@code MeterRegistry}, e.g. from Spring Boot Actuator.
      */
     private boolean metricsEnabled = false;
 
+    /**
+     * How skill execution events are published: {@code async} (queued on the calling thread and
+     * delivered in batches by a dispatcher thread) or {@code sync} (listeners run on the calling thread).
+     */
+    @Pattern(regexp = "async|sync", message = "Event mode must be async or sync")
+    private String eventMode = "async";
+
+    /**
+     * Number of execution events the async event buffer holds, rounded up to a power of two.
+     */
+    @Min(value = 2, message = "Event buffer size must be at least 2")
+    @Max(value = 1 << 30, message = "Event buffer size must be at most 2^30")
+    private int eventBufferSize = 8192;
+
+    /**
+     * Maximum number of execution events delivered to listeners in one batch.
+     */
+    @Min(value = 1, message = "Event batch size must be at least 1")
+    private int eventBatchSize = 256;
+
+    /**
+     * What happens when listeners fall behind: {@code drop} (new events are dropped once the event
+     * buffer is full) or {@code sample} (once the buffer is half full only one in
+     * {@code event-sample-rate} events is kept, and events are dropped when it is full).
+     */
+    @Pattern(regexp = "drop|sample", message = "Event overflow policy must be drop or sample")
+    private String eventOverflowPolicy = "drop";
+
+    /**
+     * One in how many events is kept while the sample overflow policy is thinning out events.
+     */
+    @Min(value = 1, message = "Event sample rate must be at least 1")
+    private int eventSampleRate = 10;
+
+    /**
+     * Whether async execution events keep the request, parameters and result for Spring listeners of
+     * {@code SkillExecutedEvent}. Listener beans can ask for payloads themselves.
+     */
+    private boolean eventPayloadsEnabled = false;
+
+    /**
+     * Whether to record every skill execution in a memory-mapped binary journal.
+     */
+    private boolean journalEnabled = false;
+
+    /**
+     * Directory of the execution journal segments.
+     */
+    @NotBlank(message = "Journal directory cannot be blank")
+    private String journalDirectory = "journal";
+
+    /**
+     * Size of each journal segment file in megabytes; a new segment is started when one is full.
+     */
+    @Min(value = 1, message = "Journal segment size must be at least 1MB")
+    @Max(value = 1024, message = "Journal segment size must be at most 1024MB")
+    private int journalSegmentSizeMb = 64;
+
+    /**
+     * Number of journal segments to keep; the oldest is deleted on rollover. 0 keeps all segments.
+     */
+    @Min(value = 0, message = "Journal max segments cannot be negative")
+    private int journalMaxSegments = 0;
+
+    /**
+     * Whether to sample skill API calls into {@link #captureFile} for replay.
+     */
+    private boolean captureEnabled = false;
+
+    /**
+     * JSON lines file that captured calls are appended to.
+     */
+    @NotBlank(message = "Capture file cannot be blank")
+    private String captureFile = "capture/traffic.jsonl";
+
+    /**
+     * One in how many skill API calls is captured.
+     */
+    @Min(value = 1, message = "Capture sample rate must be at least 1")
+    private int captureSampleRate = 1;
+
+    /**
+     * Capture file to replay against this instance after startup; replay is off when unset.
+     */
+    private String replayFile;
+
+    /**
+     * Factor by which the captured timeline is compressed when replaying; 0 replays without pauses.
+     */
+    @PositiveOrZero(message = "Replay speed-up cannot be negative")
+    private double replaySpeedup = 1.0;
+
+    /**
+     * Maximum number of replayed calls in flight.
+     */
+    @Min(value = 1, message = "Replay concurrency must be at least 1")
+    private int replayConcurrency = 8;
+
+    /**
+     * URL of the instance that replayed executions and lookups are sent to; this instance when unset.
+     */
+    private String replayTargetUrl;
+
     // Folder-based skill properties
 
     /**
@@ -66,11 +186,52 @@ public class AgentSkillProperties {
     private boolean autoLoadSkills = true;
 
     /**
-     * File watch polling interval in milliseconds.
+     * Number of threads used to parse and instantiate skill folders on load: 1 loads sequentially,
+     * 0 uses one thread per available processor.
+     */
+    @Min(value = 0, message = "Skill load parallelism cannot be negative")
+    private int skillLoadParallelism = 1;
+
+    /**
+     * Whether to keep parsed skill descriptors in an index file in the skills directory, so that
+     * unchanged descriptor files are not re-parsed on restart.
+     */
+    private boolean descriptorIndexEnabled = false;
+
+    /**
+     * Whether class-backed folder skills are registered from their descriptor and only loaded on first use.
+     */
+    private boolean lazySkillLoading = false;
+
+    /**
+     * Time in milliseconds after which the implementation of an unused class-backed folder skill is
+     * unloaded and its class loader closed; the skill is reloaded on its next use. 0 disables unloading.
+     */
+    @Min(value = 0, message = "Idle unload time cannot be negative")
+    private long idleUnloadMs = 0;
+
+    /**
+     * File watch polling interval in milliseconds. Hot reload waits until a skill folder has had no
+     * changes for this long, then reloads the skill once for all changes seen.
      */
     @Min(value = 100, message = "Watch polling interval must be at least 100ms")
     private long watchPollingInterval = 1000;
 
+    /**
+     * How changes in the skills directory are detected: {@code native} (file system notifications,
+     * falling back to scanning if the platform cannot watch the tree) or {@code polling} (periodic
+     * modification-time scans, e.g. for network file systems).
+     */
+    @Pattern(regexp = "native|polling", message = "Watch mode must be native or polling")
+    private String watchMode = "native";
+
+    /**
+     * Interval in milliseconds between modification-time scans of the skills directory when changes
+     * are detected by polling.
+     */
+    @Min(value = 100, message = "Watch scan interval must be at least 100ms")
+    private long watchScanInterval = 5000;
+
     /**
      * Whether to validate skills on load.
      */
@@ -160,6 +321,22 @@ public class AgentSkillProperties {
         this.maxConcurrentExecutions = maxConcurrentExecutions;
     }
 
+    public int getExecutionQueueCapacity() {
+        return executionQueueCapacity;
+    }
+
+    public void setExecutionQueueCapacity(int executionQueueCapacity) {
+        this.executionQueueCapacity = executionQueueCapacity;
+    }
+
+    public String getExecutionMode() {
+        return executionMode;
+    }
+
+    public void setExecutionMode(String executionMode) {
+        this.executionMode = executionMode;
+    }
+
     public boolean isMetricsEnabled() {
         return metricsEnabled;
     }
@@ -168,6 +345,142 @@ public class AgentSkillProperties {
         this.metricsEnabled = metricsEnabled;
     }
 
+    public String getEventMode() {
+        return eventMode;
+    }
+
+    public void setEventMode(String eventMode) {
+        this.eventMode = eventMode;
+    }
+
+    public int getEventBufferSize() {
+        return eventBufferSize;
+    }
+
+    public void setEventBufferSize(int eventBufferSize) {
+        this.eventBufferSize = eventBufferSize;
+    }
+
+    public int getEventBatchSize() {
+        return eventBatchSize;
+    }
+
+    public void setEventBatchSize(int eventBatchSize) {
+        this.eventBatchSize = eventBatchSize;
+    }
+
+    public String getEventOverflowPolicy() {
+        return eventOverflowPolicy;
+    }
+
+    public void setEventOverflowPolicy(String eventOverflowPolicy) {
+        this.eventOverflowPolicy = eventOverflowPolicy;
+    }
+
+    public int getEventSampleRate() {
+        return eventSampleRate;
+    }
+
+    public void setEventSampleRate(int eventSampleRate) {
+        this.eventSampleRate = eventSampleRate;
+    }
+
+    public boolean isEventPayloadsEnabled() {
+        return eventPayloadsEnabled;
+    }
+
+    public void setEventPayloadsEnabled(boolean eventPayloadsEnabled) {
+        this.eventPayloadsEnabled = eventPayloadsEnabled;
+    }
+
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    public void setJournalEnabled(boolean journalEnabled) {
+        this.journalEnabled = journalEnabled;
+    }
+
+    public String getJournalDirectory() {
+        return journalDirectory;
+    }
+
+    public void setJournalDirectory(String journalDirectory) {
+        this.journalDirectory = journalDirectory;
+    }
+
+    public int getJournalSegmentSizeMb() {
+        return journalSegmentSizeMb;
+    }
+
+    public void setJournalSegmentSizeMb(int journalSegmentSizeMb) {
+        this.journalSegmentSizeMb = journalSegmentSizeMb;
+    }
+
+    public int getJournalMaxSegments() {
+        return journalMaxSegments;
+    }
+
+    public void setJournalMaxSegments(int journalMaxSegments) {
+        this.journalMaxSegments = journalMaxSegments;
+    }
+
+    public boolean isCaptureEnabled() {
+        return captureEnabled;
+    }
+
+    public void setCaptureEnabled(boolean captureEnabled) {
+        this.captureEnabled = captureEnabled;
+    }
+
+    public String getCaptureFile() {
+        return captureFile;
+    }
+
+    public void setCaptureFile(String captureFile) {
+        this.captureFile = captureFile;
+    }
+
+    public int getCaptureSampleRate() {
+        return captureSampleRate;
+    }
+
+    public void setCaptureSampleRate(int captureSampleRate) {
+        this.captureSampleRate = captureSampleRate;
+    }
+
+    public String getReplayFile() {
+        return replayFile;
+    }
+
+    public void setReplayFile(String replayFile) {
+        this.replayFile = replayFile;
+    }
+
+    public double getReplaySpeedup() {
+        return replaySpeedup;
+    }
+
+    public void setReplaySpeedup(double replaySpeedup) {
+        this.replaySpeedup = replaySpeedup;
+    }
+
+    public int getReplayConcurrency() {
+        return replayConcurrency;
+    }
+
+    public void setReplayConcurrency(int replayConcurrency) {
+        this.replayConcurrency = replayConcurrency;
+    }
+
+    public String getReplayTargetUrl() {
+        return replayTargetUrl;
+    }
+
+    public void setReplayTargetUrl(String replayTargetUrl) {
+        this.replayTargetUrl = replayTargetUrl;
+    }
+
     public boolean isFolderBasedSkills() {
         return folderBasedSkills;
     }
@@ -200,6 +513,38 @@ public class AgentSkillProperties {
         this.autoLoadSkills = autoLoadSkills;
     }
 
+    public int getSkillLoadParallelism() {
+        return skillLoadParallelism;
+    }
+
+    public void setSkillLoadParallelism(int skillLoadParallelism) {
+        this.skillLoadParallelism = skillLoadParallelism;
+    }
+
+    public boolean isDescriptorIndexEnabled() {
+        return descriptorIndexEnabled;
+    }
+
+    public void setDescriptorIndexEnabled(boolean descriptorIndexEnabled) {
+        this.descriptorIndexEnabled = descriptorIndexEnabled;
+    }
+
+    public boolean isLazySkillLoading() {
+        return lazySkillLoading;
+    }
+
+    public void setLazySkillLoading(boolean lazySkillLoading) {
+        this.lazySkillLoading = lazySkillLoading;
+    }
+
+    public long getIdleUnloadMs() {
+        return idleUnloadMs;
+    }
+
+    public void setIdleUnloadMs(long idleUnloadMs) {
+        this.idleUnloadMs = idleUnloadMs;
+    }
+
     public long getWatchPollingInterval() {
         return watchPollingInterval;
     }
@@ -208,6 +553,22 @@ public class AgentSkillProperties {
         this.watchPollingInterval = watchPollingInterval;
     }
 
+    public String getWatchMode() {
+        return watchMode;
+    }
+
+    public void setWatchMode(String watchMode) {
+        this.watchMode = watchMode;
+    }
+
+    public long getWatchScanInterval() {
+        return watchScanInterval;
+    }
+
+    public void setWatchScanInterval(long watchScanInterval) {
+        this.watchScanInterval = watchScanInterval;
+    }
+
     public boolean isValidateSkillsOnLoad() {
         return validateSkillsOnLoad;
     }
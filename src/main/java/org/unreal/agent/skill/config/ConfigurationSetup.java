@@ -41,12 +41,36 @@ public class ConfigurationSetup {
         logger.info("  Auto Register: {}", properties.isAutoRegister());
         logger.info("  Execution Timeout: {}ms", properties.getExecutionTimeout());
         logger.info("  Max Concurrent Executions: {}", properties.getMaxConcurrentExecutions());
+        logger.info("  Execution Queue Capacity: {}", properties.getExecutionQueueCapacity());
+        logger.info("  Execution Mode: {}", properties.getExecutionMode());
         logger.info("  Metrics Enabled: {}", properties.isMetricsEnabled());
+        logger.info("  Event Mode: {}", properties.getEventMode());
+        logger.info("  Event Buffer Size: {}", properties.getEventBufferSize());
+        logger.info("  Event Batch Size: {}", properties.getEventBatchSize());
+        logger.info("  Event Overflow Policy: {}", properties.getEventOverflowPolicy());
+        logger.info("  Event Sample Rate: 1/{}", properties.getEventSampleRate());
+        logger.info("  Event Payloads Enabled: {}", properties.isEventPayloadsEnabled());
+        logger.info("  Journal Enabled: {}", properties.isJournalEnabled());
+        logger.info("  Journal Directory: {}", properties.getJournalDirectory());
+        logger.info("  Journal Segment Size: {}MB", properties.getJournalSegmentSizeMb());
+        logger.info("  Journal Max Segments: {}", properties.getJournalMaxSegments());
+        logger.info("  Capture Enabled: {}", properties.isCaptureEnabled());
+        logger.info("  Capture File: {}", properties.getCaptureFile());
+        logger.info("  Capture Sample Rate: 1/{}", properties.getCaptureSampleRate());
+        logger.info("  Replay File: {}", properties.getReplayFile());
+        logger.info("  Replay Speed-up: {}x", properties.getReplaySpeedup());
+        logger.info("  Replay Concurrency: {}", properties.getReplayConcurrency());
         logger.info("  Folder-Based Skills: {}", properties.isFolderBasedSkills());
         logger.info("  Skills Directory: {}", properties.getSkillsDirectory());
         logger.info("  Hot Reload Enabled: {}", properties.isHotReloadEnabled());
         logger.info("  Auto Load Skills: {}", properties.isAutoLoadSkills());
+        logger.info("  Skill Load Parallelism: {}", properties.getSkillLoadParallelism());
+        logger.info("  Descriptor Index Enabled: {}", properties.isDescriptorIndexEnabled());
+        logger.info("  Lazy Skill Loading: {}", properties.isLazySkillLoading());
+        logger.info("  Idle Unload: {}ms", properties.getIdleUnloadMs());
         logger.info("  Watch Polling Interval: {}ms", properties.getWatchPollingInterval());
+        logger.info("  Watch Mode: {}", properties.getWatchMode());
+        logger.info("  Watch Scan Interval: {}ms", properties.getWatchScanInterval());
         logger.info("  Validate Skills On Load: {}", properties.isValidateSkillsOnLoad());
         logger.info("  Descriptor Patterns: {}", String.join(", ", properties.getDescriptorPatterns()));
         logger.info("  agentskills.io Enabled: {}", properties.isAgentskillsEnabled());
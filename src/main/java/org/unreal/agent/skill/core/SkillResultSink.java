@@ -0,0 +1,25 @@
+package org.unreal.agent.skill.core;
+
+/**
+ * Receives the partial results of a {@link StreamingAgentSkill} while it executes.
+ */
+@FunctionalInterface
+public interface SkillResultSink {
+
+    /**
+     * Forward a partial result to the caller.
+     *
+     * @param chunk the partial result, serialized as JSON when sent to HTTP clients
+     */
+    void emit(Object chunk);
+
+    /**
+     * Check whether the caller has gone away, e.g. the HTTP client disconnected or the execution
+     * timed out. Long-running skills should stop producing chunks once this returns true.
+     *
+     * @return true if further chunks will be discarded
+     */
+    default boolean isCancelled() {
+        return false;
+    }
+}
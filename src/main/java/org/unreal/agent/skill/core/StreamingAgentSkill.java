@@ -0,0 +1,48 @@
+package org.unreal.agent.skill.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Agent skill that produces its output incrementally.
+ *
+ * <p>Partial results are pushed to a {@link SkillResultSink} as soon as they are available, so
+ * streaming endpoints can forward them to the client without holding the whole payload in memory.
+ * The returned {@link AgentSkillResult} summarizes the execution and is sent last.
+ */
+public interface StreamingAgentSkill extends AgentSkill {
+
+    /**
+     * Execute the skill, emitting partial results to the sink.
+     *
+     * @param request the input request
+     * @param parameters additional parameters for the skill execution
+     * @param sink receiver of partial results
+     * @return the final result of skill execution
+     */
+    AgentSkillResult executeStreaming(String request, Map<String, Object> parameters, SkillResultSink sink);
+
+    /**
+     * Execute the skill without streaming. The emitted chunks are collected and returned as the
+     * result data unless the final result carries data of its own.
+     *
+     * @param request the input request
+     * @param parameters additional parameters for the skill execution
+     * @return the result of skill execution
+     */
+    @Override
+    default AgentSkillResult execute(String request, Map<String, Object> parameters) {
+        List<Object> chunks = new ArrayList<>();
+        AgentSkillResult result = executeStreaming(request, parameters, chunks::add);
+        if (result == null || result.getData() != null || chunks.isEmpty()) {
+            return result;
+        }
+        AgentSkillResult.Builder builder = result.isSuccess() ? AgentSkillResult.success() : AgentSkillResult.failure();
+        return builder.message(result.getMessage())
+                .data(chunks)
+                .skillName(result.getSkillName())
+                .metadata(result.getMetadata())
+                .build();
+    }
+}
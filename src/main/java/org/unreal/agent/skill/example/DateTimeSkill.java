@@ -7,6 +7,7 @@ import org.unreal.agent.skill.core.AgentSkillResult;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -16,6 +17,8 @@ import java.util.Map;
 @Component
 public class DateTimeSkill implements AgentSkill {
     
+    private static final List<String> KEYWORDS = List.of("time", "date", "current", "now", "today");
+    
     @Override
     public String getName() {
         return "datetime";
@@ -37,11 +40,12 @@ public class DateTimeSkill implements AgentSkill {
             return false;
         }
         String lowerRequest = request.toLowerCase();
-        return lowerRequest.contains("time") || 
-               lowerRequest.contains("date") || 
-               lowerRequest.contains("current") ||
-               lowerRequest.contains("now") ||
-               lowerRequest.contains("today");
+        return KEYWORDS.stream().anyMatch(lowerRequest::contains);
+    }
+    
+    @Override
+    public List<String> getKeywords() {
+        return KEYWORDS;
     }
     
     @Override
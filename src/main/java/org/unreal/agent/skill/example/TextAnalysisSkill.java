@@ -5,6 +5,7 @@ import org.unreal.agent.skill.core.AgentSkill;
 import org.unreal.agent.skill.core.AgentSkillResult;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -14,6 +15,8 @@ import java.util.Map;
 @Component
 public class TextAnalysisSkill implements AgentSkill {
     
+    private static final List<String> KEYWORDS = List.of("analyze", "count", "sentiment");
+    
     @Override
     public String getName() {
         return "text-analysis";
@@ -35,11 +38,17 @@ public class TextAnalysisSkill implements AgentSkill {
             return false;
         }
         String lowerRequest = request.toLowerCase();
-        return lowerRequest.contains("analyze") || 
-               lowerRequest.contains("count") || 
-               lowerRequest.contains("word count") ||
-               lowerRequest.contains("character count") ||
-               lowerRequest.contains("sentiment");
+        return KEYWORDS.stream().anyMatch(lowerRequest::contains);
+    }
+    
+    @Override
+    public List<String> getKeywords() {
+        return KEYWORDS;
+    }
+    
+    @Override
+    public boolean isDeterministic() {
+        return true;
     }
     
     @Override
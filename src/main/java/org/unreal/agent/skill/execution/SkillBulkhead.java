@@ -0,0 +1,168 @@
+package org.unreal.agent.skill.execution;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.unreal.agent.skill.core.AgentSkillResult;
+import org.unreal.agent.skill.metrics.SkillMetrics;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Bulkhead isolating the executions of one skill.
+ *
+ * <p>At most {@link SkillExecutionPolicy#getMaxConcurrency()} executions of the skill are handed to the
+ * {@link SkillExecutor} at a time. Up to {@link SkillExecutionPolicy#getQueueSize()} further executions
+ * wait here without occupying an executor worker; beyond that, executions fail fast. A saturated
+ * skill therefore holds at most {@code maxConcurrency} executor workers. The bulkheads do not reserve
+ * capacity, though: other skills are only guaranteed free workers while the concurrency limits of all
+ * bounded skills together stay below the executor's pool size.
+ */
+public class SkillBulkhead {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillBulkhead.class);
+
+    private final String skillName;
+    private final SkillExecutionPolicy policy;
+    private final Deque<Waiting> waiting = new ArrayDeque<>();
+    private int running;
+
+    public SkillBulkhead(String skillName, SkillExecutionPolicy policy) {
+        this.skillName = skillName;
+        this.policy = policy;
+    }
+
+    /**
+     * Run a skill execution within the limits of this bulkhead.
+     *
+     * @param executor the executor to run admitted executions on
+     * @param task the execution to run
+     * @return future completed with the task's result, or with a failure result when the bulkhead
+     *         is saturated or the skill's timeout expires
+     */
+    public CompletableFuture<AgentSkillResult> submit(SkillExecutor executor, Supplier<AgentSkillResult> task) {
+        if (!policy.hasConcurrencyLimit()) {
+            return dispatch(executor, task);
+        }
+
+        CompletableFuture<AgentSkillResult> result = new CompletableFuture<>();
+        Waiting queued = null;
+        synchronized (this) {
+            if (running < policy.getMaxConcurrency()) {
+                running++;
+            } else if (waiting.size() < policy.getQueueSize()) {
+                queued = new Waiting(executor, task, result);
+                waiting.add(queued);
+            } else {
+                return CompletableFuture.completedFuture(saturatedResult(executor.getMetrics()));
+            }
+        }
+
+        if (queued != null) {
+            Waiting entry = queued;
+            if (policy.hasTimeout()) {
+                result.completeOnTimeout(SkillExecutor.timeoutResult(skillName, policy.getTimeoutMs()),
+                        policy.getTimeoutMs(), TimeUnit.MILLISECONDS);
+            }
+            // Free the queue slot as soon as a waiting execution times out
+            result.whenComplete((r, e) -> {
+                boolean expired;
+                synchronized (this) {
+                    expired = waiting.remove(entry);
+                }
+                SkillMetrics metrics = executor.getMetrics();
+                if (expired && metrics != null) {
+                    metrics.recordTimeout(skillName);
+                }
+            });
+            return result;
+        }
+
+        start(executor, task, result);
+        return result;
+    }
+
+    public String getSkillName() {
+        return skillName;
+    }
+
+    public SkillExecutionPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * @return executions of this skill currently handed to the executor
+     */
+    public synchronized int getRunningCount() {
+        return running;
+    }
+
+    /**
+     * @return executions of this skill waiting for a slot
+     */
+    public synchronized int getQueuedCount() {
+        return waiting.size();
+    }
+
+    private void start(SkillExecutor executor, Supplier<AgentSkillResult> task, CompletableFuture<AgentSkillResult> result) {
+        dispatch(executor, task).whenComplete((r, e) -> {
+            // Free the slot before completing so callers observe the bulkhead as released
+            release();
+            if (e != null) {
+                result.completeExceptionally(e);
+            } else {
+                result.complete(r);
+            }
+        });
+    }
+
+    private void release() {
+        Waiting next;
+        synchronized (this) {
+            do {
+                next = waiting.poll();
+            } while (next != null && next.result.isDone());
+            if (next == null) {
+                running--;
+                return;
+            }
+        }
+        start(next.executor, next.task, next.result);
+    }
+
+    private CompletableFuture<AgentSkillResult> dispatch(SkillExecutor executor, Supplier<AgentSkillResult> task) {
+        return policy.hasTimeout()
+                ? executor.submit(skillName, policy.getTimeoutMs(), task)
+                : executor.submit(skillName, task);
+    }
+
+    private AgentSkillResult saturatedResult(SkillMetrics metrics) {
+        logger.warn("Skill execution rejected, bulkhead full: {} ({})", skillName, policy);
+        if (metrics != null) {
+            metrics.recordRejection(skillName);
+        }
+        return AgentSkillResult.failure()
+                .message("Skill is at its concurrency limit: " + skillName
+                        + " (maxConcurrency=" + policy.getMaxConcurrency()
+                        + ", queueSize=" + policy.getQueueSize() + ")")
+                .skillName(skillName)
+                .metadata(Map.of("error", "bulkhead_full"))
+                .build();
+    }
+
+    private static final class Waiting {
+        private final SkillExecutor executor;
+        private final Supplier<AgentSkillResult> task;
+        private final CompletableFuture<AgentSkillResult> result;
+
+        private Waiting(SkillExecutor executor, Supplier<AgentSkillResult> task, CompletableFuture<AgentSkillResult> result) {
+            this.executor = executor;
+            this.task = task;
+            this.result = result;
+        }
+    }
+}
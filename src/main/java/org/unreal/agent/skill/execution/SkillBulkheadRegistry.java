@@ -0,0 +1,79 @@
+package org.unreal.agent.skill.execution;
+
+import org.unreal.agent.skill.core.AgentSkill;
+import org.unreal.agent.skill.core.AgentSkillResult;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Bulkheads of the skills registered with a skill manager, built from each skill's
+ * {@link AgentSkill#getExecutionPolicy() execution policy}. Skills without limits have no bulkhead.
+ */
+public class SkillBulkheadRegistry {
+
+    private final Map<String, SkillBulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    /**
+     * Create, replace or drop the bulkhead of a skill according to its execution policy. A skill
+     * re-registered with an equal policy, for example after a reload, keeps its bulkhead together with
+     * the executions running and queued in it.
+     *
+     * @param skill the registered skill
+     */
+    public void register(AgentSkill skill) {
+        SkillExecutionPolicy policy = skill.getExecutionPolicy();
+        if (policy == null || policy.isUnlimited()) {
+            bulkheads.remove(skill.getName());
+        } else {
+            bulkheads.compute(skill.getName(), (name, existing) ->
+                    existing != null && existing.getPolicy().equals(policy) ? existing : new SkillBulkhead(name, policy));
+        }
+    }
+
+    /**
+     * Drop the bulkhead of a skill.
+     *
+     * @param skillName the name of the unregistered skill
+     */
+    public void unregister(String skillName) {
+        if (skillName != null) {
+            bulkheads.remove(skillName);
+        }
+    }
+
+    /**
+     * Check whether a skill has per-skill limits.
+     *
+     * @param skillName the skill name
+     * @return true if executions of the skill go through a bulkhead
+     */
+    public boolean isBounded(String skillName) {
+        return skillName != null && bulkheads.containsKey(skillName);
+    }
+
+    /**
+     * Get the bulkhead of a skill.
+     *
+     * @param skillName the skill name
+     * @return the bulkhead, null if the skill has no per-skill limits
+     */
+    public SkillBulkhead get(String skillName) {
+        return skillName != null ? bulkheads.get(skillName) : null;
+    }
+
+    /**
+     * Run a skill execution through its bulkhead, or directly on the executor if it has none.
+     *
+     * @param executor the executor to run the execution on
+     * @param skillName the skill name
+     * @param task the execution to run
+     * @return future execution result
+     */
+    public CompletableFuture<AgentSkillResult> submit(SkillExecutor executor, String skillName, Supplier<AgentSkillResult> task) {
+        SkillBulkhead bulkhead = get(skillName);
+        return bulkhead != null ? bulkhead.submit(executor, task) : executor.submit(skillName, task);
+    }
+}
@@ -0,0 +1,100 @@
+package org.unreal.agent.skill.execution;
+
+import java.util.Objects;
+
+/**
+ * Per-skill execution limits.
+ *
+ * <p>{@code maxConcurrency} bounds how many executions of the skill run at once and {@code queueSize}
+ * how many more may wait for a slot; {@code timeoutMs} overrides the global execution timeout.
+ * Unset values leave the corresponding limit to the global configuration.
+ */
+public final class SkillExecutionPolicy {
+
+    /** Policy without per-skill limits. */
+    public static final SkillExecutionPolicy UNLIMITED = new SkillExecutionPolicy(0, 0, 0);
+
+    private final int maxConcurrency;
+    private final int queueSize;
+    private final long timeoutMs;
+
+    private SkillExecutionPolicy(int maxConcurrency, int queueSize, long timeoutMs) {
+        this.maxConcurrency = maxConcurrency;
+        this.queueSize = queueSize;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * Create a policy; null or non-positive values mean "not limited".
+     *
+     * @param maxConcurrency maximum concurrent executions of the skill
+     * @param queueSize maximum executions waiting for a slot
+     * @param timeoutMs execution timeout in milliseconds
+     * @return the policy
+     */
+    public static SkillExecutionPolicy of(Integer maxConcurrency, Integer queueSize, Long timeoutMs) {
+        int concurrency = maxConcurrency != null && maxConcurrency > 0 ? maxConcurrency : 0;
+        int queue = queueSize != null && queueSize > 0 ? queueSize : 0;
+        long timeout = timeoutMs != null && timeoutMs > 0 ? timeoutMs : 0;
+        if (concurrency == 0 && timeout == 0) {
+            return UNLIMITED;
+        }
+        return new SkillExecutionPolicy(concurrency, queue, timeout);
+    }
+
+    /**
+     * @return maximum concurrent executions, 0 if not limited
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * @return maximum waiting executions; only meaningful when concurrency is limited
+     */
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    /**
+     * @return execution timeout in milliseconds, 0 to use the global timeout
+     */
+    public long getTimeoutMs() {
+        return timeoutMs;
+    }
+
+    public boolean hasConcurrencyLimit() {
+        return maxConcurrency > 0;
+    }
+
+    public boolean hasTimeout() {
+        return timeoutMs > 0;
+    }
+
+    public boolean isUnlimited() {
+        return !hasConcurrencyLimit() && !hasTimeout();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SkillExecutionPolicy)) {
+            return false;
+        }
+        SkillExecutionPolicy other = (SkillExecutionPolicy) o;
+        return maxConcurrency == other.maxConcurrency && queueSize == other.queueSize && timeoutMs == other.timeoutMs;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxConcurrency, queueSize, timeoutMs);
+    }
+
+    @Override
+    public String toString() {
+        return "SkillExecutionPolicy{maxConcurrency=" + maxConcurrency + ", queueSize=" + queueSize
+                + ", timeoutMs=" + timeoutMs + "}";
+    }
+}
@@ -0,0 +1,290 @@
+package org.unreal.agent.skill.execution;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.unreal.agent.skill.config.AgentSkillProperties;
+import org.unreal.agent.skill.core.AgentSkillResult;
+import org.unreal.agent.skill.metrics.SkillMetrics;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Bounded executor for asynchronous skill execution.
+ *
+ * <p>At most {@code maxConcurrentExecutions} skills run at the same time and at most
+ * {@code executionQueueCapacity} further executions wait for a worker; anything beyond that is
+ * rejected immediately. An execution that exceeds {@code executionTimeout} completes with a
+ * timeout result and its worker thread is interrupted.
+ *
+ * <p>In {@code virtual-threads} mode each execution gets its own virtual thread and the same limits
+ * are enforced with semaphores, so blocked I/O-bound skills do not pin platform threads. Virtual
+ * threads need Java 21; on older runtimes the executor falls back to the platform thread pool.
+ */
+@Component
+public class SkillExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillExecutor.class);
+
+    private static final long DEFAULT_TIMEOUT_MS = 30000;
+    private static final int DEFAULT_MAX_CONCURRENT = 10;
+    private static final int DEFAULT_QUEUE_CAPACITY = 100;
+
+    public static final String MODE_PLATFORM_THREADS = "platform-threads";
+    public static final String MODE_VIRTUAL_THREADS = "virtual-threads";
+
+    private final long timeoutMillis;
+    private final int maxConcurrentExecutions;
+    private final int queueCapacity;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService timer;
+
+    /** Executions admitted and not yet completed (running or waiting); only used with virtual threads. */
+    private final Semaphore admitted;
+    /** Executions running; only used with virtual threads. */
+    private final Semaphore running;
+
+    @Autowired(required = false)
+    private SkillMetrics metrics;
+
+    @Autowired
+    public SkillExecutor(AgentSkillProperties properties) {
+        this(properties.getExecutionTimeout(), properties.getMaxConcurrentExecutions(),
+                properties.getExecutionQueueCapacity(),
+                MODE_VIRTUAL_THREADS.equalsIgnoreCase(properties.getExecutionMode()));
+    }
+
+    /**
+     * Create an executor with the framework defaults, used when no Spring context is available.
+     */
+    public SkillExecutor() {
+        this(DEFAULT_TIMEOUT_MS, DEFAULT_MAX_CONCURRENT, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public SkillExecutor(long timeoutMillis, int maxConcurrentExecutions, int queueCapacity) {
+        this(timeoutMillis, maxConcurrentExecutions, queueCapacity, false);
+    }
+
+    public SkillExecutor(long timeoutMillis, int maxConcurrentExecutions, int queueCapacity, boolean virtualThreads) {
+        this.timeoutMillis = timeoutMillis;
+        this.maxConcurrentExecutions = maxConcurrentExecutions;
+        this.queueCapacity = queueCapacity;
+        ExecutorService virtualWorkers = virtualThreads ? newVirtualThreadExecutor() : null;
+        if (virtualWorkers != null) {
+            this.workers = virtualWorkers;
+            this.admitted = new Semaphore(maxConcurrentExecutions + queueCapacity);
+            this.running = new Semaphore(maxConcurrentExecutions);
+            logger.info("Skill executions run on virtual threads (max concurrent: {})", maxConcurrentExecutions);
+        } else {
+            if (virtualThreads) {
+                logger.warn("Virtual threads require Java 21, falling back to platform threads");
+            }
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(maxConcurrentExecutions, maxConcurrentExecutions,
+                    60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity), daemonThreads("skill-exec-"));
+            pool.allowCoreThreadTimeOut(true);
+            this.workers = pool;
+            this.admitted = null;
+            this.running = null;
+        }
+        this.timer = Executors.newSingleThreadScheduledExecutor(daemonThreads("skill-exec-timer-"));
+    }
+
+    /**
+     * Run a skill execution on the bounded pool.
+     *
+     * @param skillName the name of the skill, used for timeout and rejection results
+     * @param task the execution to run
+     * @return future completed with the task's result, or with a failure result on timeout or rejection
+     */
+    public CompletableFuture<AgentSkillResult> submit(String skillName, Supplier<AgentSkillResult> task) {
+        return submit(skillName, timeoutMillis, task);
+    }
+
+    /**
+     * Run a skill execution on the bounded pool with a specific timeout.
+     *
+     * @param skillName the name of the skill, used for timeout and rejection results
+     * @param timeoutMillis the execution timeout in milliseconds
+     * @param task the execution to run
+     * @return future completed with the task's result, or with a failure result on timeout or rejection
+     */
+    public CompletableFuture<AgentSkillResult> submit(String skillName, long timeoutMillis, Supplier<AgentSkillResult> task) {
+        if (admitted != null && !admitted.tryAcquire()) {
+            return rejected(skillName);
+        }
+
+        CompletableFuture<AgentSkillResult> result = new CompletableFuture<>();
+        Runnable execution = () -> {
+            if (result.isDone()) {
+                return;
+            }
+            try {
+                result.complete(task.get());
+            } catch (Throwable e) {
+                result.complete(AgentSkillResult.failure()
+                        .message("Skill execution failed: " + e.getMessage())
+                        .skillName(skillName)
+                        .metadata(Map.of("error", e.getClass().getSimpleName()))
+                        .build());
+            }
+        };
+
+        Future<?> submitted;
+        try {
+            submitted = workers.submit(admitted == null ? execution : () -> runWithPermit(execution));
+        } catch (RejectedExecutionException e) {
+            if (admitted != null) {
+                admitted.release();
+            }
+            return rejected(skillName);
+        }
+
+        ScheduledFuture<?> timeout = timer.schedule(() -> {
+            if (result.complete(timeoutResult(skillName, timeoutMillis))) {
+                logger.warn("Skill execution timed out after {}ms: {}", timeoutMillis, skillName);
+                if (metrics != null) {
+                    metrics.recordTimeout(skillName);
+                }
+                submitted.cancel(true);
+            }
+        }, timeoutMillis, TimeUnit.MILLISECONDS);
+        result.whenComplete((r, e) -> {
+            timeout.cancel(false);
+            if (admitted != null) {
+                admitted.release();
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Get the number of executions currently running.
+     *
+     * @return active execution count
+     */
+    public int getActiveCount() {
+        if (running != null) {
+            return maxConcurrentExecutions - running.availablePermits();
+        }
+        return ((ThreadPoolExecutor) workers).getActiveCount();
+    }
+
+    /**
+     * Get the number of executions waiting for a worker.
+     *
+     * @return queued execution count
+     */
+    public int getQueuedCount() {
+        if (admitted != null) {
+            int inFlight = maxConcurrentExecutions + queueCapacity - admitted.availablePermits();
+            return Math.max(0, inFlight - getActiveCount());
+        }
+        return ((ThreadPoolExecutor) workers).getQueue().size();
+    }
+
+    /**
+     * Check whether executions run on virtual threads.
+     *
+     * @return true in virtual-threads mode
+     */
+    public boolean isVirtualThreads() {
+        return admitted != null;
+    }
+
+    /**
+     * @return metrics recording timeouts and rejections, null if metrics are disabled
+     */
+    SkillMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Stop accepting executions and interrupt running ones.
+     */
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+        timer.shutdownNow();
+    }
+
+    private void runWithPermit(Runnable execution) {
+        try {
+            running.acquire();
+        } catch (InterruptedException e) {
+            // Timed out while waiting for a permit; the timeout result has already been delivered
+            return;
+        }
+        try {
+            execution.run();
+        } finally {
+            running.release();
+        }
+    }
+
+    /**
+     * Build the result reported for an execution that exceeded its timeout.
+     *
+     * @param skillName the name of the skill
+     * @param timeoutMillis the timeout that was exceeded
+     * @return failure result with {@code error=timeout} metadata
+     */
+    static AgentSkillResult timeoutResult(String skillName, long timeoutMillis) {
+        return AgentSkillResult.failure()
+                .message("Skill execution timed out after " + timeoutMillis + "ms")
+                .skillName(skillName)
+                .metadata(Map.of("error", "timeout"))
+                .build();
+    }
+
+    private CompletableFuture<AgentSkillResult> rejected(String skillName) {
+        logger.warn("Skill execution rejected, executor saturated: {}", skillName);
+        if (metrics != null) {
+            metrics.recordRejection(skillName);
+        }
+        return CompletableFuture.completedFuture(AgentSkillResult.failure()
+                .message("Skill execution rejected: too many concurrent executions")
+                .skillName(skillName)
+                .metadata(Map.of("error", "rejected"))
+                .build());
+    }
+
+    /**
+     * Create a virtual-thread-per-task executor when running on Java 21 or later.
+     * Looked up reflectively so the framework still compiles and runs on Java 17.
+     *
+     * @return the executor, or null if virtual threads are not available
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package org.unreal.agent.skill.execution;
+
+import java.util.Map;
+
+/**
+ * One skill call within a batch execution.
+ */
+public class SkillInvocation {
+
+    private String skillName;
+    private String request = "";
+    private Map<String, Object> parameters = Map.of();
+
+    public SkillInvocation() {}
+
+    public SkillInvocation(String skillName, String request, Map<String, Object> parameters) {
+        this.skillName = skillName;
+        setRequest(request);
+        setParameters(parameters);
+    }
+
+    public String getSkillName() {
+        return skillName;
+    }
+
+    public void setSkillName(String skillName) {
+        this.skillName = skillName;
+    }
+
+    public String getRequest() {
+        return request;
+    }
+
+    public void setRequest(String request) {
+        this.request = request != null ? request : "";
+    }
+
+    public Map<String, Object> getParameters() {
+        return parameters;
+    }
+
+    public void setParameters(Map<String, Object> parameters) {
+        this.parameters = parameters != null ? parameters : Map.of();
+    }
+}
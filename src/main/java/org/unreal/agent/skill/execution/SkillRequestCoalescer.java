@@ -0,0 +1,67 @@
+package org.unreal.agent.skill.execution;
+
+import org.unreal.agent.skill.core.AgentSkill;
+import org.unreal.agent.skill.core.AgentSkillResult;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Shares one in-flight execution between identical concurrent invocations of a
+ * {@link AgentSkill#isCoalescing() coalescing} skill.
+ *
+ * <p>Invocations are identical when their skill, version, request and parameters produce the same
+ * {@link SkillResultMemoizer#keyOf key}. Unlike memoization nothing is retained: an invocation
+ * arriving after the shared execution finished runs the skill again.
+ */
+public class SkillRequestCoalescer {
+
+    private final SingleFlight<String, AgentSkillResult> inFlight = new SingleFlight<>();
+
+    /**
+     * Run the computation, or join the identical invocation already running.
+     *
+     * @param skill the skill being executed
+     * @param request the request to process
+     * @param parameters the parameters for skill execution
+     * @param computation executes the skill
+     * @return the shared result
+     */
+    public AgentSkillResult execute(AgentSkill skill, String request, Map<String, Object> parameters,
+                                    Supplier<AgentSkillResult> computation) {
+        String key = SkillResultMemoizer.keyOf(skill, request, parameters);
+        if (key == null) {
+            return computation.get();
+        }
+        return inFlight.execute(key, computation);
+    }
+
+    /**
+     * Start the execution, or join the identical invocation already in flight. Only the first
+     * invocation starts an execution, so callers joining it take no execution slot of their own.
+     *
+     * @param skill the skill being executed
+     * @param request the request to process
+     * @param parameters the parameters for skill execution
+     * @param execution starts the execution of the skill
+     * @return future completed with the shared result
+     */
+    public CompletableFuture<AgentSkillResult> submit(AgentSkill skill, String request, Map<String, Object> parameters,
+                                                      Supplier<CompletableFuture<AgentSkillResult>> execution) {
+        String key = SkillResultMemoizer.keyOf(skill, request, parameters);
+        if (key == null) {
+            return execution.get();
+        }
+        return inFlight.submit(key, execution);
+    }
+
+    /**
+     * Get the number of executions currently shared.
+     *
+     * @return in-flight execution count
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,170 @@
+package org.unreal.agent.skill.execution;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.unreal.agent.skill.cache.SimpleCache;
+import org.unreal.agent.skill.cache.SkillCacheManager;
+import org.unreal.agent.skill.core.AgentSkill;
+import org.unreal.agent.skill.core.AgentSkillResult;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes the results of {@link AgentSkill#isDeterministic() deterministic} skills in the skill
+ * execution cache.
+ *
+ * <p>The cache key is a SHA-256 digest over the skill name, version, request and the parameters
+ * serialized as JSON with map entries sorted by key, so equal parameter maps produce the same key
+ * regardless of insertion order. Only successful results are cached. Concurrent misses on the same
+ * key are coalesced so the skill runs once. Skill managers drop a skill's entries with
+ * {@link #invalidate(String)} whenever the skill is registered again or unregistered, so a reloaded
+ * skill never serves results of the code it replaced.
+ */
+@Component
+public class SkillResultMemoizer {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillResultMemoizer.class);
+
+    private static final ObjectMapper CANONICAL_JSON = JsonMapper.builder()
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .build();
+
+    private final SimpleCache<String, Object> cache;
+    private final SingleFlight<String, AgentSkillResult> inFlight = new SingleFlight<>();
+
+    @Autowired
+    public SkillResultMemoizer(SkillCacheManager cacheManager) {
+        this(cacheManager.getSkillExecutionCache());
+    }
+
+    public SkillResultMemoizer(SimpleCache<String, Object> cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Return the cached result for this invocation, or run the computation and cache its result.
+     *
+     * @param skill the skill being executed
+     * @param request the request to process
+     * @param parameters the parameters for skill execution
+     * @param computation executes the skill
+     * @return the cached or computed result
+     */
+    public AgentSkillResult execute(AgentSkill skill, String request, Map<String, Object> parameters,
+                                    Supplier<AgentSkillResult> computation) {
+        String key = keyOf(skill, request, parameters);
+        if (key == null) {
+            return computation.get();
+        }
+
+        Object cached = cache.get(key);
+        if (cached instanceof AgentSkillResult) {
+            return (AgentSkillResult) cached;
+        }
+
+        return inFlight.execute(key, () -> {
+            AgentSkillResult result = computation.get();
+            if (result != null && result.isSuccess()) {
+                cache.put(key, result);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Get the cached result of an invocation without running the skill.
+     *
+     * @param skill the skill being executed
+     * @param request the request to process
+     * @param parameters the parameters for skill execution
+     * @return the cached result, null if there is none
+     */
+    public AgentSkillResult getCached(AgentSkill skill, String request, Map<String, Object> parameters) {
+        String key = keyOf(skill, request, parameters);
+        if (key == null) {
+            return null;
+        }
+        Object cached = cache.get(key);
+        return cached instanceof AgentSkillResult ? (AgentSkillResult) cached : null;
+    }
+
+    /**
+     * Return the cached result for this invocation, or start the execution and cache its result.
+     * Concurrent misses share the execution started by the first of them.
+     *
+     * @param skill the skill being executed
+     * @param request the request to process
+     * @param parameters the parameters for skill execution
+     * @param execution starts the execution of the skill
+     * @return future completed with the cached or computed result
+     */
+    public CompletableFuture<AgentSkillResult> submit(AgentSkill skill, String request, Map<String, Object> parameters,
+                                                      Supplier<CompletableFuture<AgentSkillResult>> execution) {
+        String key = keyOf(skill, request, parameters);
+        if (key == null) {
+            return execution.get();
+        }
+
+        Object cached = cache.get(key);
+        if (cached instanceof AgentSkillResult) {
+            return CompletableFuture.completedFuture((AgentSkillResult) cached);
+        }
+
+        return inFlight.submit(key, () -> execution.get().thenApply(result -> {
+            if (result != null && result.isSuccess()) {
+                cache.put(key, result);
+            }
+            return result;
+        }));
+    }
+
+    /**
+     * Drop all cached results of a skill, of every version.
+     *
+     * @param skillName the skill name
+     */
+    public void invalidate(String skillName) {
+        if (skillName == null) {
+            return;
+        }
+        String prefix = skillName + ':';
+        cache.removeIf(key -> key.startsWith(prefix));
+    }
+
+    /**
+     * Compute the canonical cache key of an invocation.
+     *
+     * @param skill the skill being executed
+     * @param request the request to process
+     * @param parameters the parameters for skill execution
+     * @return the key, or null if the parameters cannot be serialized
+     */
+    static String keyOf(AgentSkill skill, String request, Map<String, Object> parameters) {
+        try {
+            String canonical = skill.getName() + '\0' + skill.getVersion() + '\0'
+                    + (request != null ? request : "") + '\0'
+                    + CANONICAL_JSON.writeValueAsString(parameters != null ? parameters : Map.of());
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return skill.getName() + ':' + HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (JsonProcessingException e) {
+            logger.debug("Parameters of {} are not serializable, skipping memoization", skill.getName());
+            return null;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -2,14 +2,15 @@ package org.unreal.agent.skill.folder;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -21,6 +22,9 @@ public class AgentSkillManager {
     
     private static final Logger logger = LoggerFactory.getLogger(AgentSkillManager.class);
     
+    @Autowired(required = false)
+    private SkillMetadataCatalog metadataCatalog = new SkillMetadataCatalog();
+    
     /**
      * Validate a skill against agentskills.io specification.
      * 
@@ -40,7 +44,7 @@ public class AgentSkillManager {
             }
             
             // Parse SKILL.md and validate frontmatter
-            SkillDescriptor descriptor = SkillMarkdownParser.parse(skillMd);
+            SkillDescriptor descriptor = SkillMarkdownParser.parseFrontmatter(skillMd);
             
             // Validate required fields
             if (descriptor.getName() == null || descriptor.getName().trim().isEmpty()) {
@@ -158,47 +162,49 @@ public class AgentSkillManager {
      */
     public SkillMetadata getSkillMetadata(Path skillPath) {
         try {
-            Path skillMd = skillPath.resolve("SKILL.md");
-            if (!Files.exists(skillMd)) {
-                return null;
-            }
-            
-            SkillDescriptor descriptor = SkillMarkdownParser.parse(skillMd);
-            
-            // Discovery metadata (name, description only)
-            String discoveryInfo = String.format("%s: %s", 
-                descriptor.getName(), 
-                truncateDescription(descriptor.getDescription()));
-            
-            // Full metadata including additional fields
-            Map<String, Object> fullMetadata = new HashMap<>();
-            fullMetadata.put("name", descriptor.getName());
-            fullMetadata.put("description", descriptor.getDescription());
-            fullMetadata.put("version", descriptor.getVersion());
-            fullMetadata.put("author", descriptor.getAuthor());
-            fullMetadata.put("license", descriptor.getLicense());
-            fullMetadata.put("compatibility", descriptor.getCompatibility());
-            fullMetadata.put("keywords", descriptor.getKeywords());
-            fullMetadata.put("allowed_tools", descriptor.getAllowedTools());
-            fullMetadata.put("metadata", descriptor.getExtraMetadata());
-            
-            // File information
-            fullMetadata.put("file_size", getFileSize(skillMd));
-            fullMetadata.put("last_modified", getFileModified(skillMd));
-            
-            // Structure information
-            fullMetadata.put("has_scripts", Files.exists(skillPath.resolve("scripts")));
-            fullMetadata.put("has_references", Files.exists(skillPath.resolve("references")));
-            fullMetadata.put("has_assets", Files.exists(skillPath.resolve("assets")));
-            
-            return new SkillMetadata(discoveryInfo, fullMetadata, descriptor.getInstructions());
-            
+            SkillMetadataCatalog.Entry entry = metadataCatalog.get(skillPath);
+            return entry != null ? toSkillMetadata(entry) : null;
         } catch (Exception e) {
             logger.error("Failed to get skill metadata: " + skillPath, e);
             return null;
         }
     }
     
+    /**
+     * Build skill metadata from a cached catalog entry.
+     */
+    private SkillMetadata toSkillMetadata(SkillMetadataCatalog.Entry entry) {
+        SkillDescriptor descriptor = entry.getDescriptor();
+        
+        // Discovery metadata (name, description only)
+        String discoveryInfo = String.format("%s: %s", 
+            descriptor.getName(), 
+            truncateDescription(descriptor.getDescription()));
+        
+        // Full metadata including additional fields
+        Map<String, Object> fullMetadata = new HashMap<>();
+        fullMetadata.put("name", descriptor.getName());
+        fullMetadata.put("description", descriptor.getDescription());
+        fullMetadata.put("version", descriptor.getVersion());
+        fullMetadata.put("author", descriptor.getAuthor());
+        fullMetadata.put("license", descriptor.getLicense());
+        fullMetadata.put("compatibility", descriptor.getCompatibility());
+        fullMetadata.put("keywords", descriptor.getKeywords());
+        fullMetadata.put("allowed_tools", descriptor.getAllowedTools());
+        fullMetadata.put("metadata", descriptor.getExtraMetadata());
+        
+        // File information
+        fullMetadata.put("file_size", formatFileSize(entry.getSkillMdSize()));
+        fullMetadata.put("last_modified", entry.getSkillMdModified().toString());
+        
+        // Structure information
+        fullMetadata.put("has_scripts", entry.hasScripts());
+        fullMetadata.put("has_references", entry.hasReferences());
+        fullMetadata.put("has_assets", entry.hasAssets());
+        
+        return new SkillMetadata(discoveryInfo, fullMetadata, descriptor::getInstructions);
+    }
+    
     /**
      * Truncate description for discovery purposes.
      * 
@@ -212,29 +218,6 @@ public class AgentSkillManager {
         return description.substring(0, 147) + "...";
     }
     
-    /**
-     * Get file size in human readable format.
-     */
-    private String getFileSize(Path file) {
-        try {
-            long bytes = Files.size(file);
-            return formatFileSize(bytes);
-        } catch (IOException e) {
-            return "unknown";
-        }
-    }
-    
-    /**
-     * Get file last modified time.
-     */
-    private String getFileModified(Path file) {
-        try {
-            return Files.getLastModifiedTime(file).toString();
-        } catch (IOException e) {
-            return "unknown";
-        }
-    }
-    
     /**
      * Format file size in human readable format.
      */
@@ -257,16 +240,8 @@ public class AgentSkillManager {
      * @return list of SkillMetadata objects
      */
     public List<SkillMetadata> listSkillsInDirectory(Path skillsDir) {
-        if (!Files.exists(skillsDir) || !Files.isDirectory(skillsDir)) {
-            logger.warn("Skills directory does not exist: {}", skillsDir);
-            return Collections.emptyList();
-        }
-        
-        return Arrays.stream(skillsDir.toFile().listFiles())
-                .filter(File::isDirectory)
-                .map(File::toPath)
-                .map(this::getSkillMetadata)
-                .filter(Objects::nonNull)
+        return metadataCatalog.list(skillsDir).stream()
+                .map(this::toSkillMetadata)
                 .sorted(Comparator.comparing(meta -> meta.getName()))
                 .collect(Collectors.toList());
     }
@@ -350,9 +325,16 @@ public class AgentSkillManager {
         private final String name;
         private final String discoveryInfo;
         private final Map<String, Object> fullMetadata;
-        private final String instructions;
+        private final Supplier<String> instructions;
         
         public SkillMetadata(String discoveryInfo, Map<String, Object> fullMetadata, String instructions) {
+            this(discoveryInfo, fullMetadata, () -> instructions);
+        }
+        
+        /**
+         * @param instructions supplies the instructions when first requested, so listings need not read them
+         */
+        public SkillMetadata(String discoveryInfo, Map<String, Object> fullMetadata, Supplier<String> instructions) {
             this.discoveryInfo = discoveryInfo;
             this.fullMetadata = fullMetadata;
             this.instructions = instructions;
@@ -372,7 +354,7 @@ public class AgentSkillManager {
         }
         
         public String getInstructions() {
-            return instructions;
+            return instructions.get();
         }
     }
     
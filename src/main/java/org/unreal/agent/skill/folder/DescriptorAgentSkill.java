@@ -2,8 +2,10 @@ package org.unreal.agent.skill.folder;
 
 import org.unreal.agent.skill.core.AgentSkill;
 import org.unreal.agent.skill.core.AgentSkillResult;
+import org.unreal.agent.skill.execution.SkillExecutionPolicy;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -80,4 +82,24 @@ public class DescriptorAgentSkill implements AgentSkill {
     public String getInstructions() {
         return descriptor.getInstructions();
     }
+
+    @Override
+    public List<String> getKeywords() {
+        return descriptor.getTriggerKeywords();
+    }
+
+    @Override
+    public SkillExecutionPolicy getExecutionPolicy() {
+        return descriptor.getExecutionPolicy();
+    }
+
+    @Override
+    public boolean isDeterministic() {
+        return descriptor.isDeterministic();
+    }
+
+    @Override
+    public boolean isCoalescing() {
+        return descriptor.isCoalesce();
+    }
 }
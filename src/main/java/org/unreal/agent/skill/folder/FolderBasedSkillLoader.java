@@ -1,5 +1,7 @@
 package org.unreal.agent.skill.folder;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -7,6 +9,8 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Component;
 import org.unreal.agent.skill.core.AgentSkill;
 import org.unreal.agent.skill.core.AgentSkillResult;
+import org.unreal.agent.skill.manager.SkillManager;
+import org.unreal.agent.skill.metrics.SkillMetrics;
 import org.unreal.agent.skill.util.SecureClassLoader;
 import org.unreal.agent.skill.util.SecurityUtils;
 
@@ -19,8 +23,17 @@ import java.net.URLClassLoader;
 import java.nio.file.*;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service for loading and managing folder-based skills.
@@ -36,77 +49,167 @@ public class FolderBasedSkillLoader {
 
     @Autowired
     private org.unreal.agent.skill.config.AgentSkillProperties skillProperties;
+
+    @Autowired(required = false)
+    private SkillMetrics metrics;
     
     private final Map<String, LoadedSkill> loadedSkills = new ConcurrentHashMap<>();
-    private final Map<String, URLClassLoader> classLoaders = new ConcurrentHashMap<>();
+    private final AtomicLong loadedSkillsVersion = new AtomicLong();
+    private final Set<URLClassLoader> classLoaders = ConcurrentHashMap.newKeySet();
+    private volatile SkillLoadReport lastLoadReport;
+    private final LongAdder idleUnloads = new LongAdder();
+    private ScheduledExecutorService idleUnloader;
     
     /**
      * Load skills from a directory.
      * 
+     * Folders holding another version of an already loaded skill are kept under
+     * {@code name@version}, after the first version.
+     * 
      * @param skillsDirectory the directory containing skill folders
      * @return map of skill name to LoadedSkill
      */
     public Map<String, LoadedSkill> loadSkillsFromDirectory(Path skillsDirectory) {
-        Map<String, LoadedSkill> skills = new HashMap<>();
+        Map<String, LoadedSkill> skills = new LinkedHashMap<>();
         
         if (!Files.exists(skillsDirectory) || !Files.isDirectory(skillsDirectory)) {
             logger.warn("Skills directory does not exist: {}", skillsDirectory);
             return skills;
         }
         
-        try {
-            Files.list(skillsDirectory)
-                .filter(Files::isDirectory)
-                .forEach(skillFolder -> {
-                    try {
-                        LoadedSkill skill = loadSkillFromFolder(skillFolder);
-                        if (skill != null) {
-                            skills.put(skill.getDescriptor().getName(), skill);
-                            loadedSkills.put(skill.getDescriptor().getName(), skill);
-                        }
-                    } catch (Exception e) {
-                        logger.error("Failed to load skill from folder: {}", skillFolder, e);
-                    }
-                });
+        List<Path> skillFolders;
+        try (Stream<Path> entries = Files.list(skillsDirectory)) {
+            skillFolders = entries.filter(Files::isDirectory).sorted().collect(Collectors.toList());
         } catch (IOException e) {
             logger.error("Failed to list skill directories", e);
+            return skills;
+        }
+        
+        long start = System.nanoTime();
+        SkillDescriptorIndex index = skillProperties != null && skillProperties.isDescriptorIndexEnabled()
+            ? SkillDescriptorIndex.open(skillsDirectory)
+            : null;
+        int parallelism = Math.min(getLoadParallelism(), Math.max(1, skillFolders.size()));
+        List<FolderLoad> loads = parallelism > 1
+            ? loadFoldersInParallel(skillFolders, parallelism, index)
+            : skillFolders.stream().map(folder -> loadTimed(folder, index)).collect(Collectors.toList());
+        if (index != null) {
+            index.save();
+        }
+        
+        // Register in folder name order so the result does not depend on thread scheduling
+        List<SkillLoadReport.Entry> entries = new ArrayList<>(loads.size());
+        for (FolderLoad load : loads) {
+            String skillName = load.skill != null ? load.skill.getDescriptor().getName() : null;
+            if (skillName != null) {
+                // A further version of a skill found in another folder runs side by side with the first
+                String key = isSideVersion(skills.get(skillName), load.skill) ? versionKey(load.skill) : skillName;
+                skills.put(key, load.skill);
+                loadedSkills.put(key, load.skill);
+                loadedSkillsVersion.incrementAndGet();
+            }
+            entries.add(new SkillLoadReport.Entry(load.skillFolder, skillName, load.durationMillis));
+        }
+        
+        SkillLoadReport report = new SkillLoadReport(skillsDirectory, parallelism,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), entries);
+        lastLoadReport = report;
+        logger.info("{}", report);
+        if (logger.isDebugEnabled()) {
+            report.getSlowest(10).forEach(entry -> logger.debug("  {}", entry));
         }
         
         return skills;
     }
     
     /**
-     * Load a single skill from a folder.
+     * Get the timing report of the most recent directory load.
+     * 
+     * @return the report, or null if no directory has been loaded yet
+     */
+    public SkillLoadReport getLastLoadReport() {
+        return lastLoadReport;
+    }
+    
+    private int getLoadParallelism() {
+        int configured = skillProperties != null ? skillProperties.getSkillLoadParallelism() : 1;
+        return configured > 0 ? configured : Runtime.getRuntime().availableProcessors();
+    }
+    
+    /**
+     * Parse and instantiate skill folders on a dedicated pool, keeping the folders' order.
+     */
+    private List<FolderLoad> loadFoldersInParallel(List<Path> skillFolders, int parallelism, SkillDescriptorIndex index) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.submit(() -> skillFolders.parallelStream()
+                    .map(folder -> loadTimed(folder, index))
+                    .collect(Collectors.toList()))
+                .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while loading skills in parallel");
+            return List.of();
+        } catch (ExecutionException e) {
+            logger.error("Parallel skill loading failed, loading sequentially", e.getCause());
+            return skillFolders.stream().map(folder -> loadTimed(folder, index)).collect(Collectors.toList());
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    private FolderLoad loadTimed(Path skillFolder, SkillDescriptorIndex index) {
+        long start = System.nanoTime();
+        LoadedSkill skill = loadSkillFromFolder(skillFolder, index);
+        long elapsedNanos = System.nanoTime() - start;
+        if (metrics != null && skill != null) {
+            metrics.recordLoad(skill.getDescriptor().getName(), elapsedNanos, false);
+        }
+        return new FolderLoad(skillFolder, skill, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+    
+    /**
+     * Load a single skill from a folder and track it as loaded.
      * 
      * @param skillFolder the skill folder path
      * @return LoadedSkill instance or null if loading failed
      */
     public LoadedSkill loadSkillFromFolder(Path skillFolder) {
+        LoadedSkill skill = loadSkillFromFolder(skillFolder, null);
+        if (skill != null) {
+            loadedSkills.put(skill.getDescriptor().getName(), skill);
+            loadedSkillsVersion.incrementAndGet();
+        }
+        return skill;
+    }
+    
+    /**
+     * Load a single skill from a folder, taking its descriptor from the index when unchanged.
+     * 
+     * @param skillFolder the skill folder path
+     * @param index the descriptor index, or null to always parse the descriptor file
+     * @return LoadedSkill instance or null if loading failed
+     */
+    private LoadedSkill loadSkillFromFolder(Path skillFolder, SkillDescriptorIndex index) {
         try {
-            // Look for SKILL.md (agentskills.io spec)
-            Path skillMd = skillFolder.resolve("SKILL.md");
-            
-            SkillDescriptor descriptor = null;
+            // Look for SKILL.md (agentskills.io spec), then other skill descriptor files
             Path descriptorFile = null;
+            for (String candidate : List.of("SKILL.md", "skill.json", "skill.yaml", "skill.yml")) {
+                Path file = skillFolder.resolve(candidate);
+                if (Files.exists(file)) {
+                    descriptorFile = file;
+                    break;
+                }
+            }
             
-            if (Files.exists(skillMd)) {
-                descriptor = SkillMarkdownParser.parse(skillMd);
-                descriptorFile = skillMd;
-            } else {
-                // Look for other skill descriptor files
-                Path jsonDescriptor = skillFolder.resolve("skill.json");
-                Path yamlDescriptor = skillFolder.resolve("skill.yaml");
-                Path ymlDescriptor = skillFolder.resolve("skill.yml");
-                
-                if (Files.exists(jsonDescriptor)) {
-                    descriptor = SkillDescriptor.fromFile(jsonDescriptor);
-                    descriptorFile = jsonDescriptor;
-                } else if (Files.exists(yamlDescriptor)) {
-                    descriptor = loadYamlDescriptor(yamlDescriptor);
-                    descriptorFile = yamlDescriptor;
-                } else if (Files.exists(ymlDescriptor)) {
-                    descriptor = loadYamlDescriptor(ymlDescriptor);
-                    descriptorFile = ymlDescriptor;
+            SkillDescriptor descriptor = null;
+            if (descriptorFile != null) {
+                descriptor = index != null ? index.lookup(descriptorFile) : null;
+                if (descriptor == null) {
+                    descriptor = parseDescriptor(descriptorFile);
+                    if (descriptor != null && index != null) {
+                        index.put(descriptorFile, descriptor);
+                    }
                 }
             }
             
@@ -127,16 +230,22 @@ public class FolderBasedSkillLoader {
             
             // Load the skill implementation
             AgentSkill skillInstance;
-            if (descriptor.getInstructions() != null && descriptor.getMain() == null) {
+            if (descriptor.getMain() == null && descriptor.hasInstructions()) {
                 // Instruction-only skill from SKILL.md
                 skillInstance = new MarkdownAgentSkill(descriptor);
-            } else {
-                // Try to load an implementation; if none found, fall back to a descriptor-backed skill
-                skillInstance = loadSkillInstance(skillFolder, descriptor);
-                if (skillInstance == null) {
-                    logger.info("Falling back to DescriptorAgentSkill for: {}", descriptor.getName());
-                    skillInstance = new DescriptorAgentSkill(descriptor);
+            } else if (descriptor.getMain() != null || isLazySkillLoading() || getIdleUnloadMs() > 0) {
+                // Load through a proxy so the implementation can be deferred to first use, unloaded when
+                // idle, and drained before its class loader is closed when a new version replaces it
+                SkillDescriptor lazyDescriptor = descriptor;
+                LazyAgentSkill lazySkill = LazyAgentSkill.of(descriptor,
+                    () -> loadSkillInstanceOrDescriptor(skillFolder, lazyDescriptor),
+                    this::releaseClassLoader);
+                if (!isLazySkillLoading()) {
+                    lazySkill.getDelegate();
                 }
+                skillInstance = lazySkill;
+            } else {
+                skillInstance = loadSkillInstanceOrDescriptor(skillFolder, descriptor);
             }
             
             if (skillInstance == null) {
@@ -145,7 +254,7 @@ public class FolderBasedSkillLoader {
             }
             
             LoadedSkill loadedSkill = new LoadedSkill(descriptor, skillInstance, skillFolder, descriptorFile);
-            logger.info("Successfully loaded skill: {} from {}", descriptor.getName(), skillFolder);
+            logger.debug("Successfully loaded skill: {} from {}", descriptor.getName(), skillFolder);
             
             return loadedSkill;
             
@@ -155,6 +264,32 @@ public class FolderBasedSkillLoader {
         }
     }
     
+    /**
+     * Parse a descriptor file according to its format.
+     */
+    private SkillDescriptor parseDescriptor(Path descriptorFile) throws IOException {
+        String fileName = descriptorFile.getFileName().toString();
+        if (fileName.equals("SKILL.md")) {
+            return SkillMarkdownParser.parseFrontmatter(descriptorFile);
+        }
+        if (fileName.equals("skill.json")) {
+            return SkillDescriptor.fromFile(descriptorFile);
+        }
+        return loadYamlDescriptor(descriptorFile);
+    }
+    
+    /**
+     * Load the skill implementation; if none is found, fall back to a descriptor-backed skill.
+     */
+    private AgentSkill loadSkillInstanceOrDescriptor(Path skillFolder, SkillDescriptor descriptor) {
+        AgentSkill skillInstance = loadSkillInstance(skillFolder, descriptor);
+        if (skillInstance == null) {
+            logger.info("Falling back to DescriptorAgentSkill for: {}", descriptor.getName());
+            skillInstance = new DescriptorAgentSkill(descriptor);
+        }
+        return skillInstance;
+    }
+    
     /**
      * Load skill instance from descriptor and folder.
      * 
@@ -216,10 +351,11 @@ public class FolderBasedSkillLoader {
         Object instance = skillClass.getDeclaredConstructor().newInstance();
 
         if (instance instanceof AgentSkill) {
-            classLoaders.put(mainClass, classLoader);
+            classLoaders.add(classLoader);
             return (AgentSkill) instance;
         }
 
+        classLoader.close();
         return null;
     }
     
@@ -242,10 +378,11 @@ public class FolderBasedSkillLoader {
         Object instance = skillClass.getDeclaredConstructor().newInstance();
 
         if (instance instanceof AgentSkill) {
-            classLoaders.put(mainClass, classLoader);
+            classLoaders.add(classLoader);
             return (AgentSkill) instance;
         }
 
+        classLoader.close();
         return null;
     }
     
@@ -339,6 +476,18 @@ public class FolderBasedSkillLoader {
             descriptor.setAuthor(props.getProperty("author"));
             descriptor.setMain(props.getProperty("main"));
             descriptor.setEnabled(Boolean.parseBoolean(props.getProperty("enabled", "true")));
+            if (props.getProperty("maxConcurrency") != null) {
+                descriptor.setMaxConcurrency(Integer.valueOf(props.getProperty("maxConcurrency")));
+            }
+            if (props.getProperty("queueSize") != null) {
+                descriptor.setQueueSize(Integer.valueOf(props.getProperty("queueSize")));
+            }
+            if (props.getProperty("timeoutMs") != null) {
+                descriptor.setTimeoutMs(Long.valueOf(props.getProperty("timeoutMs")));
+            }
+            descriptor.setDeterministic(Boolean.parseBoolean(props.getProperty("deterministic", "false")));
+            descriptor.setCoalesce(Boolean.parseBoolean(props.getProperty("coalesce", "false")));
+            descriptor.setStreaming(Boolean.parseBoolean(props.getProperty("streaming", "false")));
             
             return descriptor;
         } catch (Exception e) {
@@ -356,15 +505,9 @@ public class FolderBasedSkillLoader {
     public boolean unloadSkill(String skillName) {
         LoadedSkill skill = loadedSkills.remove(skillName);
         if (skill != null) {
+            loadedSkillsVersion.incrementAndGet();
             try {
-                URLClassLoader classLoader = classLoaders.remove(skill.getDescriptor().getMain());
-                if (classLoader != null) {
-                    try {
-                        classLoader.close();
-                    } catch (IOException e) {
-                        logger.warn("Failed to close class loader for skill: {}", skillName, e);
-                    }
-                }
+                retire(skill, null);
                 logger.info("Successfully unloaded skill: {}", skillName);
                 return true;
             } catch (Exception e) {
@@ -374,22 +517,248 @@ public class FolderBasedSkillLoader {
         return false;
     }
     
+    /**
+     * Take a loaded skill out of service without waiting for it. Calls in progress finish on it and the
+     * last one releases its implementation; calls that still reach it afterwards go to the successor.
+     * 
+     * @param skill the skill to retire
+     * @param successor the version replacing it, or null if it is removed
+     */
+    private void retire(LoadedSkill skill, AgentSkill successor) {
+        AgentSkill instance = skill.getSkillInstance();
+        if (instance instanceof LazyAgentSkill && !((LazyAgentSkill) instance).retire(successor)) {
+            logger.debug("Skill {} still has calls in progress; it is released when they finish",
+                skill.getDescriptor().getName());
+        }
+    }
+    
+    /**
+     * Close the class loader created for a skill implementation, if any.
+     */
+    private void releaseClassLoader(AgentSkill implementation) {
+        ClassLoader owner = implementation.getClass().getClassLoader();
+        if (owner instanceof URLClassLoader && classLoaders.remove(owner)) {
+            try {
+                ((URLClassLoader) owner).close();
+            } catch (IOException e) {
+                logger.warn("Failed to close class loader for: {}", implementation.getClass().getName(), e);
+            }
+        }
+    }
+    
+    /**
+     * Unload the implementations of skills that have not been used within the idle window, keeping
+     * their descriptors registered. They are loaded again on their next use.
+     * 
+     * @param idleMillis minimum time since a skill's last use
+     * @return number of skills unloaded
+     */
+    public int unloadIdleSkills(long idleMillis) {
+        int unloaded = 0;
+        for (LoadedSkill skill : loadedSkills.values()) {
+            if (skill.getSkillInstance() instanceof LazyAgentSkill
+                    && ((LazyAgentSkill) skill.getSkillInstance()).unloadIfIdle(idleMillis)) {
+                logger.debug("Unloaded idle skill: {}", skill.getDescriptor().getName());
+                unloaded++;
+            }
+        }
+        if (unloaded > 0) {
+            idleUnloads.add(unloaded);
+            logger.info("Unloaded {} idle skill(s)", unloaded);
+        }
+        return unloaded;
+    }
+    
+    /**
+     * Get how many folder skills currently have their implementation loaded.
+     * 
+     * @return loaded and dormant skill counts
+     */
+    public ResidencyStats getResidencyStats() {
+        int loaded = 0;
+        int dormant = 0;
+        for (LoadedSkill skill : loadedSkills.values()) {
+            AgentSkill instance = skill.getSkillInstance();
+            if (instance instanceof LazyAgentSkill && !((LazyAgentSkill) instance).isLoaded()) {
+                dormant++;
+            } else {
+                loaded++;
+            }
+        }
+        return new ResidencyStats(loaded, dormant, classLoaders.size(), idleUnloads.sum());
+    }
+    
+    /**
+     * Start the periodic unloading of idle skills if an idle window is configured.
+     */
+    @PostConstruct
+    public void startIdleUnloading() {
+        long idleMillis = getIdleUnloadMs();
+        if (idleMillis <= 0 || idleUnloader != null) {
+            return;
+        }
+        long sweepInterval = Math.max(1000, idleMillis / 2);
+        idleUnloader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "skill-idle-unloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        idleUnloader.scheduleWithFixedDelay(() -> unloadIdleSkills(idleMillis), sweepInterval, sweepInterval, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Stops the idle skill sweep.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (idleUnloader != null) {
+            idleUnloader.shutdownNow();
+        }
+    }
+    
+    private boolean isLazySkillLoading() {
+        return skillProperties != null && skillProperties.isLazySkillLoading();
+    }
+    
+    private long getIdleUnloadMs() {
+        return skillProperties != null ? skillProperties.getIdleUnloadMs() : 0;
+    }
+    
     /**
      * Reload a skill.
      * 
      * @param skillName the skill name to reload
-     * @return reloaded LoadedSkill or null
+     * @return reloaded LoadedSkill, or null if the skill is unknown or the new version failed to load
      */
     public LoadedSkill reloadSkill(String skillName) {
         LoadedSkill oldSkill = loadedSkills.get(skillName);
         if (oldSkill != null) {
-            Path skillFolder = oldSkill.getSkillFolder();
-            unloadSkill(skillName);
-            return loadSkillFromFolder(skillFolder);
+            return swapSkill(oldSkill.getSkillFolder(), null);
         }
         return null;
     }
     
+    /**
+     * Load the current contents of a skill folder and swap them in for the version loaded from that
+     * folder, blue/green style. The new version is loaded completely before it replaces the old one,
+     * so the skill never disappears from the registry, and if loading fails the old version stays in
+     * service. The old version then drains: calls in progress finish on it, calls that still reach it
+     * are passed on to the new version, and its class loader is closed once it is idle.
+     * 
+     * @param skillFolder the skill folder
+     * @param registry registry to publish the new version to, or null to only track it here
+     * @return the new version, or null if it could not be loaded
+     */
+    public LoadedSkill swapSkill(Path skillFolder, SkillManager registry) {
+        long start = System.nanoTime();
+        LoadedSkill next = loadSkillFromFolder(skillFolder, null);
+        long elapsedNanos = System.nanoTime() - start;
+        if (next == null) {
+            logger.warn("Keeping the current version of the skill in {}, the new version failed to load", skillFolder);
+            return null;
+        }
+        
+        String skillName = next.getDescriptor().getName();
+        String previousKey;
+        LoadedSkill previous;
+        LoadedSkill displaced;
+        boolean sideVersion;
+        synchronized (loadedSkills) {
+            previousKey = findLoadedKey(skillFolder);
+            previous = previousKey != null ? loadedSkills.get(previousKey) : null;
+            LoadedSkill primary = loadedSkills.get(skillName);
+            sideVersion = primary != previous && isSideVersion(primary, next);
+            String key = sideVersion ? versionKey(next) : skillName;
+            displaced = loadedSkills.put(key, next);
+            if (previous != null && !previousKey.equals(key)) {
+                loadedSkills.remove(previousKey, previous);
+            } else {
+                previousKey = null;
+            }
+            loadedSkillsVersion.incrementAndGet();
+        }
+        
+        if (registry != null) {
+            // Registering under an existing name replaces the entry in one step
+            if (sideVersion) {
+                registry.registerSkillVersion(next.getSkillInstance());
+            } else {
+                registry.registerSkill(next.getSkillInstance());
+            }
+            if (previousKey != null) {
+                SkillDescriptor replaced = previous.getDescriptor();
+                if (previousKey.equals(replaced.getName())) {
+                    registry.unregisterSkill(replaced.getName());
+                } else {
+                    registry.unregisterSkillVersion(replaced.getName(), replaced.getVersion());
+                }
+            }
+        }
+        
+        if (metrics != null) {
+            metrics.recordLoad(skillName, elapsedNanos, previous != null);
+        }
+        if (previous != null) {
+            retire(previous, next.getSkillInstance());
+        }
+        if (displaced != null && displaced != previous) {
+            retire(displaced, next.getSkillInstance());
+        }
+        logger.info("Swapped in skill {} version {}", skillName, next.getDescriptor().getVersion());
+        return next;
+    }
+    
+    /**
+     * Check that a folder holds a loadable skill without tracking or registering it, e.g. before
+     * deploying it. The implementation is loaded once and released again.
+     * 
+     * @param skillFolder the skill folder
+     * @return the skill's descriptor, or null if the skill cannot be loaded
+     */
+    public SkillDescriptor verifySkill(Path skillFolder) {
+        LoadedSkill staged = loadSkillFromFolder(skillFolder, null);
+        if (staged == null) {
+            return null;
+        }
+        try {
+            if (staged.getSkillInstance() instanceof LazyAgentSkill) {
+                ((LazyAgentSkill) staged.getSkillInstance()).getDelegate();
+            }
+            return staged.getDescriptor();
+        } catch (RuntimeException e) {
+            logger.warn("Skill in {} failed to load: {}", skillFolder, e.getMessage());
+            return null;
+        } finally {
+            retire(staged, null);
+        }
+    }
+    
+    /**
+     * Find the key of the skill loaded from a folder.
+     */
+    private String findLoadedKey(Path skillFolder) {
+        Path folder = skillFolder.toAbsolutePath().normalize();
+        for (Map.Entry<String, LoadedSkill> entry : loadedSkills.entrySet()) {
+            Path loadedFrom = entry.getValue().getSkillFolder();
+            if (loadedFrom != null && loadedFrom.toAbsolutePath().normalize().equals(folder)) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Check whether a skill is another version of a skill already loaded from a different folder.
+     */
+    private static boolean isSideVersion(LoadedSkill existing, LoadedSkill skill) {
+        return existing != null && existing != skill
+            && !Objects.equals(existing.getDescriptor().getVersion(), skill.getDescriptor().getVersion());
+    }
+    
+    private static String versionKey(LoadedSkill skill) {
+        return skill.getDescriptor().getName() + "@" + skill.getDescriptor().getVersion();
+    }
+    
     /**
      * Get all loaded skills.
      * 
@@ -399,6 +768,14 @@ public class FolderBasedSkillLoader {
         return new HashMap<>(loadedSkills);
     }
     
+    /**
+     * @return a counter that changes whenever a skill is added to, replaced in or removed from
+     *         {@link #getLoadedSkills()}
+     */
+    public long getLoadedSkillsVersion() {
+        return loadedSkillsVersion.get();
+    }
+    
     /**
      * Get loaded skill by name.
      * 
@@ -409,6 +786,55 @@ public class FolderBasedSkillLoader {
         return loadedSkills.get(skillName);
     }
     
+    /**
+     * Counts of folder skills with a loaded implementation and of dormant skills registered by
+     * descriptor only.
+     */
+    public static class ResidencyStats {
+        private final int loadedSkills;
+        private final int dormantSkills;
+        private final int openClassLoaders;
+        private final long idleUnloads;
+        
+        public ResidencyStats(int loadedSkills, int dormantSkills, int openClassLoaders, long idleUnloads) {
+            this.loadedSkills = loadedSkills;
+            this.dormantSkills = dormantSkills;
+            this.openClassLoaders = openClassLoaders;
+            this.idleUnloads = idleUnloads;
+        }
+        
+        public int getLoadedSkills() {
+            return loadedSkills;
+        }
+        
+        public int getDormantSkills() {
+            return dormantSkills;
+        }
+        
+        public int getOpenClassLoaders() {
+            return openClassLoaders;
+        }
+        
+        public long getIdleUnloads() {
+            return idleUnloads;
+        }
+    }
+    
+    /**
+     * Outcome of loading one skill folder, before registration.
+     */
+    private static final class FolderLoad {
+        private final Path skillFolder;
+        private final LoadedSkill skill;
+        private final long durationMillis;
+        
+        private FolderLoad(Path skillFolder, LoadedSkill skill, long durationMillis) {
+            this.skillFolder = skillFolder;
+            this.skill = skill;
+            this.durationMillis = durationMillis;
+        }
+    }
+    
     /**
      * Represents a loaded folder-based skill.
      */
@@ -0,0 +1,344 @@
+package org.unreal.agent.skill.folder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.unreal.agent.skill.core.AgentSkill;
+import org.unreal.agent.skill.core.AgentSkillResult;
+import org.unreal.agent.skill.core.StreamingAgentSkill;
+import org.unreal.agent.skill.execution.SkillExecutionPolicy;
+import org.unreal.agent.skill.routing.SkillRouter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Proxy for a class-backed folder skill that defers loading its implementation until first use.
+ *
+ * <p>Metadata is answered from the {@link SkillDescriptor}, so the skill can be registered and listed
+ * without creating a class loader. The implementation is loaded once, on the first call to
+ * {@link #execute} or {@link #executeStreaming}; concurrent first calls wait for the same load.
+ * Routing never loads the skill: {@link #canHandle} is always answered from the descriptor's keywords,
+ * or from its name and description if it declares none, so whether a request is routed to the skill
+ * does not depend on whether the implementation happens to be loaded.
+ *
+ * <p>An idle skill can be {@link #unloadIfIdle unloaded} again, dropping the implementation so its
+ * class loader can be closed; the next call loads it anew. Calls in progress hold a read lock that
+ * unloading never waits for, so a busy skill is simply not unloaded.
+ *
+ * <p>When a new version replaces the skill it is {@link #retire retired} without waiting: calls in
+ * progress finish on the old implementation, later calls are passed to the new version, and the last
+ * call to finish releases the implementation.
+ *
+ * <p>Whether the skill streams is also decided from the descriptor, as the implementation is not loaded
+ * yet: skills declaring {@code streaming: true} are proxied by a {@link LazyStreamingAgentSkill}.
+ */
+public class LazyAgentSkill implements AgentSkill {
+
+    private static final Logger logger = LoggerFactory.getLogger(LazyAgentSkill.class);
+
+    private final SkillDescriptor descriptor;
+    private final Supplier<AgentSkill> loader;
+    private final Consumer<AgentSkill> onUnload;
+    private final ReentrantReadWriteLock usage = new ReentrantReadWriteLock();
+    private final List<String> triggerKeywords;
+    private final Set<String> metadataTerms;
+    private volatile AgentSkill delegate;
+    private volatile boolean retired;
+    private volatile AgentSkill successor;
+    private volatile long lastUsedTime = System.currentTimeMillis();
+
+    /**
+     * @param descriptor the skill's descriptor
+     * @param loader creates the skill implementation; invoked once per load
+     */
+    public LazyAgentSkill(SkillDescriptor descriptor, Supplier<AgentSkill> loader) {
+        this(descriptor, loader, implementation -> { });
+    }
+
+    /**
+     * @param descriptor the skill's descriptor
+     * @param loader creates the skill implementation; invoked once per load
+     * @param onUnload releases resources of the unloaded implementation, such as its class loader
+     */
+    public LazyAgentSkill(SkillDescriptor descriptor, Supplier<AgentSkill> loader, Consumer<AgentSkill> onUnload) {
+        this.descriptor = descriptor;
+        this.loader = loader;
+        this.onUnload = onUnload;
+        this.triggerKeywords = new ArrayList<>();
+        for (String keyword : descriptor.getTriggerKeywords()) {
+            if (keyword != null && !keyword.isBlank()) {
+                triggerKeywords.add(keyword.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        this.metadataTerms = new HashSet<>(SkillRouter.terms(descriptor.getName()));
+        metadataTerms.addAll(SkillRouter.terms(descriptor.getDescription()));
+    }
+
+    /**
+     * Create the proxy matching the descriptor: a {@link LazyStreamingAgentSkill} if it declares
+     * {@code streaming: true}, a plain {@code LazyAgentSkill} otherwise.
+     *
+     * @param descriptor the skill's descriptor
+     * @param loader creates the skill implementation; invoked once per load
+     * @param onUnload releases resources of the unloaded implementation, such as its class loader
+     * @return the proxy
+     */
+    public static LazyAgentSkill of(SkillDescriptor descriptor, Supplier<AgentSkill> loader, Consumer<AgentSkill> onUnload) {
+        return descriptor.isStreaming()
+                ? new LazyStreamingAgentSkill(descriptor, loader, onUnload)
+                : new LazyAgentSkill(descriptor, loader, onUnload);
+    }
+
+    /**
+     * Expose underlying descriptor for management/API usage (read-only).
+     */
+    public SkillDescriptor getDescriptor() {
+        return descriptor;
+    }
+
+    /**
+     * @return true while the skill implementation is loaded
+     */
+    public boolean isLoaded() {
+        return delegate != null;
+    }
+
+    /**
+     * @return time of the last execution, or of creation if there was none; {@link #canHandle}
+     *         probes do not count
+     */
+    public long getLastUsedTime() {
+        return lastUsedTime;
+    }
+
+    /**
+     * Unload the implementation if it has not been used for the given time and no call is in progress.
+     *
+     * @param idleMillis minimum time since the last use
+     * @return true if the implementation was unloaded
+     */
+    public boolean unloadIfIdle(long idleMillis) {
+        if (delegate == null || System.currentTimeMillis() - lastUsedTime < idleMillis) {
+            return false;
+        }
+        if (!usage.writeLock().tryLock()) {
+            return false;
+        }
+        try {
+            AgentSkill unloaded;
+            synchronized (this) {
+                unloaded = delegate;
+                if (unloaded == null) {
+                    return false;
+                }
+                delegate = null;
+            }
+            onUnload.accept(unloaded);
+            return true;
+        } finally {
+            usage.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Take the skill out of service without waiting for calls in progress. Calls arriving afterwards go
+     * to the successor, or fail if there is none. The implementation is released right away if the
+     * skill is idle, otherwise by the last call in progress when it returns.
+     *
+     * @param successor the version replacing this skill, or null if the skill is removed
+     * @return true if the implementation was released right away, false if calls are still draining
+     */
+    public boolean retire(AgentSkill successor) {
+        this.successor = successor;
+        retired = true;
+        return releaseIfRetired();
+    }
+
+    /**
+     * Release the implementation of a retired skill unless a call is still using it.
+     *
+     * @return true if no call was in progress
+     */
+    private boolean releaseIfRetired() {
+        if (!retired || !usage.writeLock().tryLock()) {
+            return false;
+        }
+        try {
+            AgentSkill unloaded;
+            synchronized (this) {
+                unloaded = delegate;
+                delegate = null;
+            }
+            if (unloaded != null) {
+                onUnload.accept(unloaded);
+            }
+            return true;
+        } finally {
+            usage.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return true once the skill has been retired
+     */
+    public boolean isRetired() {
+        return retired;
+    }
+
+    /**
+     * Get the skill implementation, loading it if it is not loaded.
+     *
+     * @return the loaded skill
+     */
+    public AgentSkill getDelegate() {
+        AgentSkill current = delegate;
+        if (current == null) {
+            synchronized (this) {
+                current = delegate;
+                if (current == null) {
+                    current = loader.get();
+                    if (current == null) {
+                        throw new IllegalStateException("Failed to load skill: " + getName());
+                    }
+                    if (current instanceof StreamingAgentSkill && !(this instanceof StreamingAgentSkill)) {
+                        logger.warn("Skill {} streams but its descriptor does not declare streaming: true; "
+                                + "it is executed without streaming", getName());
+                    }
+                    delegate = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public AgentSkillResult execute(String request, Map<String, Object> parameters) {
+        return use(skill -> skill.execute(request, parameters));
+    }
+
+    /**
+     * Answer from the descriptor without loading, whether or not the implementation is loaded: a request
+     * is accepted if it contains one of the declared keywords or, for a skill without keywords, shares a
+     * term with the skill's name or description. A routing probe is not a use, so a skill that is only
+     * asked keeps becoming idle.
+     */
+    @Override
+    public boolean canHandle(String request) {
+        return matchesDescriptor(request);
+    }
+
+    private boolean matchesDescriptor(String request) {
+        if (request == null) {
+            return false;
+        }
+        if (!triggerKeywords.isEmpty()) {
+            String text = request.toLowerCase(Locale.ROOT);
+            for (String keyword : triggerKeywords) {
+                if (text.contains(keyword)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        for (String term : SkillRouter.terms(request)) {
+            if (metadataTerms.contains(term)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Run a call on the implementation, or on the successor once the skill is retired.
+     *
+     * @param call the call to run
+     * @return the call's result
+     */
+    <T> T use(Function<AgentSkill, T> call) {
+        if (!retired) {
+            usage.readLock().lock();
+            try {
+                // Retiring cannot release the implementation while this lock is held
+                if (!retired) {
+                    lastUsedTime = System.currentTimeMillis();
+                    return call.apply(getDelegate());
+                }
+            } finally {
+                lastUsedTime = System.currentTimeMillis();
+                usage.readLock().unlock();
+                // Whichever call finishes last on a retired skill releases its implementation
+                releaseIfRetired();
+            }
+        }
+        AgentSkill next = successor;
+        if (next == null) {
+            throw new IllegalStateException("Skill has been unloaded: " + getName());
+        }
+        return call.apply(next);
+    }
+
+    @Override
+    public String getName() {
+        return descriptor.getName();
+    }
+
+    @Override
+    public String getDescription() {
+        return descriptor.getDescription();
+    }
+
+    @Override
+    public String getVersion() {
+        return descriptor.getVersion();
+    }
+
+    @Override
+    public Map<String, String> getRequiredParameters() {
+        if (descriptor.getParameters() != null && descriptor.getParameters().getRequired() != null) {
+            return descriptor.getParameters().getRequired();
+        }
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public Map<String, String> getOptionalParameters() {
+        if (descriptor.getParameters() != null && descriptor.getParameters().getOptional() != null) {
+            return descriptor.getParameters().getOptional();
+        }
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public String getInstructions() {
+        return descriptor.getInstructions();
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return descriptor.getTriggerKeywords();
+    }
+
+    @Override
+    public SkillExecutionPolicy getExecutionPolicy() {
+        return descriptor.getExecutionPolicy();
+    }
+
+    @Override
+    public boolean isDeterministic() {
+        return descriptor.isDeterministic();
+    }
+
+    @Override
+    public boolean isCoalescing() {
+        return descriptor.isCoalesce();
+    }
+}
@@ -0,0 +1,35 @@
+package org.unreal.agent.skill.folder;
+
+import org.unreal.agent.skill.core.AgentSkill;
+import org.unreal.agent.skill.core.AgentSkillResult;
+import org.unreal.agent.skill.core.SkillResultSink;
+import org.unreal.agent.skill.core.StreamingAgentSkill;
+
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * {@link LazyAgentSkill} for a skill whose descriptor declares {@code streaming: true}, so skill managers
+ * and streaming endpoints treat it as a {@link StreamingAgentSkill} before it is loaded. Partial results
+ * of the implementation are forwarded to the sink; an implementation that turns out not to stream
+ * produces only its final result.
+ */
+public class LazyStreamingAgentSkill extends LazyAgentSkill implements StreamingAgentSkill {
+
+    /**
+     * @param descriptor the skill's descriptor
+     * @param loader creates the skill implementation; invoked once per load
+     * @param onUnload releases resources of the unloaded implementation, such as its class loader
+     */
+    public LazyStreamingAgentSkill(SkillDescriptor descriptor, Supplier<AgentSkill> loader, Consumer<AgentSkill> onUnload) {
+        super(descriptor, loader, onUnload);
+    }
+
+    @Override
+    public AgentSkillResult executeStreaming(String request, Map<String, Object> parameters, SkillResultSink sink) {
+        return use(skill -> skill instanceof StreamingAgentSkill
+                ? ((StreamingAgentSkill) skill).executeStreaming(request, parameters, sink)
+                : skill.execute(request, parameters));
+    }
+}
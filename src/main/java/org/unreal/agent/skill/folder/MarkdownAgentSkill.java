@@ -2,9 +2,11 @@ package org.unreal.agent.skill.folder;
 
 import org.unreal.agent.skill.core.AgentSkill;
 import org.unreal.agent.skill.core.AgentSkillResult;
+import org.unreal.agent.skill.execution.SkillExecutionPolicy;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -73,4 +75,24 @@ public class MarkdownAgentSkill implements AgentSkill {
     public String getInstructions() {
         return descriptor.getInstructions();
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<String> getKeywords() {
+        return descriptor.getTriggerKeywords();
+    }
+
+    @Override
+    public SkillExecutionPolicy getExecutionPolicy() {
+        return descriptor.getExecutionPolicy();
+    }
+
+    @Override
+    public boolean isDeterministic() {
+        return descriptor.isDeterministic();
+    }
+
+    @Override
+    public boolean isCoalescing() {
+        return descriptor.isCoalesce();
+    }
+}
@@ -6,6 +6,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.unreal.agent.skill.core.AgentSkill;
 import org.unreal.agent.skill.AgentSkillManager;
+import org.unreal.agent.skill.capture.CapturedCall.Operation;
+import org.unreal.agent.skill.capture.TrafficRecorder;
 import org.unreal.agent.skill.config.AgentSkillProperties;
 import org.unreal.agent.skill.vo.SkillMetadataVo;
 
@@ -42,6 +44,9 @@ public class ProgressiveDisclosureService {
     @Autowired
     private AgentSkillProperties skillProperties;
 
+    @Autowired(required = false)
+    private TrafficRecorder trafficRecorder;
+
     // Cache storage
     private final Map<String, CacheEntry<Object>> skillMetadataCache = new ConcurrentHashMap<>();
     
@@ -85,6 +90,11 @@ public class ProgressiveDisclosureService {
      * @return List of skill discovery information strings
      */
     public List<String> getSkillDiscoveryInfo() {
+        capture(Operation.DISCOVERY, null);
+        return discoveryInfo();
+    }
+
+    private List<String> discoveryInfo() {
         return skillManager.getAllSkills().stream()
                 .map(skill -> String.format("%s: %s", skill.getName(), skill.getDescription()))
                 .collect(Collectors.toList());
@@ -110,6 +120,11 @@ public class ProgressiveDisclosureService {
      * @return Detailed skill information
      */
     public Map<String, Object> getSkillActivationInfo(String skillName) {
+        capture(Operation.ACTIVATION, skillName);
+        return activationInfo(skillName);
+    }
+
+    private Map<String, Object> activationInfo(String skillName) {
         String cacheKey = "activation_" + skillName;
 
         // Check cache first if caching is enabled
@@ -305,7 +320,12 @@ public class ProgressiveDisclosureService {
      * @return Execution context
      */
     public Map<String, Object> getSkillExecutionContext(String skillName) {
-        Map<String, Object> activationInfo = getSkillActivationInfo(skillName);
+        capture(Operation.EXECUTION_CONTEXT, skillName);
+        return executionContext(skillName);
+    }
+
+    private Map<String, Object> executionContext(String skillName) {
+        Map<String, Object> activationInfo = activationInfo(skillName);
         if (activationInfo == null) {
             return null;
         }
@@ -346,12 +366,13 @@ public class ProgressiveDisclosureService {
      * @return Prepared skill context
      */
     public Map<String, Object> prepareSkillForExecution(String skillName) {
+        capture(Operation.PREPARE, skillName);
         Map<String, Object> discoveryInfo = new ConcurrentHashMap<>();
 
         // Get all tiers of information progressively
-        List<String> discoveryTier = getSkillDiscoveryInfo();
-        Map<String, Object> activationTier = getSkillActivationInfo(skillName);
-        Map<String, Object> executionTier = getSkillExecutionContext(skillName);
+        List<String> discoveryTier = discoveryInfo();
+        Map<String, Object> activationTier = activationInfo(skillName);
+        Map<String, Object> executionTier = executionContext(skillName);
 
         discoveryInfo.put("tier_1_discovery", discoveryTier);
         discoveryInfo.put("tier_2_activation", activationTier);
@@ -360,6 +381,12 @@ public class ProgressiveDisclosureService {
         return discoveryInfo;
     }
 
+    private void capture(Operation operation, String skillName) {
+        if (trafficRecorder != null) {
+            trafficRecorder.record(operation, skillName, null, null, null, null);
+        }
+    }
+
     // ==================== Cache Statistics Methods ====================
 
     /**
@@ -1,15 +1,19 @@
 package org.unreal.agent.skill.folder;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.unreal.agent.skill.execution.SkillExecutionPolicy;
 import org.unreal.agent.skill.folder.model.SkillEntryPoint;
 import org.unreal.agent.skill.folder.model.SkillParameters;
 import org.unreal.agent.skill.folder.model.SkillResources;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Metadata descriptor for folder-based skills.
@@ -65,8 +69,29 @@ public class SkillDescriptor {
     @JsonProperty("license")
     private String license;
 
+    @JsonProperty("maxConcurrency")
+    private Integer maxConcurrency;
+
+    @JsonProperty("queueSize")
+    private Integer queueSize;
+
+    @JsonProperty("timeoutMs")
+    private Long timeoutMs;
+
+    @JsonProperty("deterministic")
+    private boolean deterministic;
+
+    @JsonProperty("coalesce")
+    private boolean coalesce;
+
+    @JsonProperty("streaming")
+    private boolean streaming;
+
     private String instructions;
 
+    @JsonIgnore
+    private Supplier<String> instructionsLoader;
+
     @JsonProperty("metadata")
     private Map<String, Object> extraMetadata;
 
@@ -127,8 +152,54 @@ public class SkillDescriptor {
     public String getLicense() { return license; }
     public void setLicense(String license) { this.license = license; }
 
-    public String getInstructions() { return instructions; }
-    public void setInstructions(String instructions) { this.instructions = instructions; }
+    public Integer getMaxConcurrency() { return maxConcurrency; }
+    public void setMaxConcurrency(Integer maxConcurrency) { this.maxConcurrency = maxConcurrency; }
+
+    public Integer getQueueSize() { return queueSize; }
+    public void setQueueSize(Integer queueSize) { this.queueSize = queueSize; }
+
+    public Long getTimeoutMs() { return timeoutMs; }
+    public void setTimeoutMs(Long timeoutMs) { this.timeoutMs = timeoutMs; }
+
+    public boolean isDeterministic() { return deterministic; }
+    public void setDeterministic(boolean deterministic) { this.deterministic = deterministic; }
+
+    public boolean isCoalesce() { return coalesce; }
+    public void setCoalesce(boolean coalesce) { this.coalesce = coalesce; }
+
+    public boolean isStreaming() { return streaming; }
+    public void setStreaming(boolean streaming) { this.streaming = streaming; }
+
+    public synchronized String getInstructions() {
+        if (instructions == null && instructionsLoader != null) {
+            instructions = instructionsLoader.get();
+            instructionsLoader = null;
+        }
+        return instructions;
+    }
+
+    /**
+     * @return true if the descriptor has instructions, loaded or not; never reads them
+     */
+    public synchronized boolean hasInstructions() {
+        return instructions != null || instructionsLoader != null;
+    }
+
+    public synchronized void setInstructions(String instructions) {
+        this.instructions = instructions;
+        this.instructionsLoader = null;
+    }
+
+    /**
+     * Defer reading the instructions until {@link #getInstructions()} is first called.
+     *
+     * @param instructionsLoader reads the instructions; invoked at most once
+     */
+    @JsonIgnore
+    public synchronized void setInstructionsLoader(Supplier<String> instructionsLoader) {
+        this.instructions = null;
+        this.instructionsLoader = instructionsLoader;
+    }
 
     public Map<String, Object> getExtraMetadata() { return extraMetadata; }
     public void setExtraMetadata(Map<String, Object> extraMetadata) { this.extraMetadata = extraMetadata; }
@@ -141,6 +212,29 @@ public class SkillDescriptor {
         this.extraMetadata.put(key, value);
     }
 
+    /**
+     * Keywords and tags combined, used as routing triggers for this skill.
+     */
+    @JsonIgnore
+    public List<String> getTriggerKeywords() {
+        List<String> triggers = new ArrayList<>();
+        if (keywords != null) {
+            triggers.addAll(keywords);
+        }
+        if (tags != null) {
+            triggers.addAll(tags);
+        }
+        return triggers;
+    }
+
+    /**
+     * Per-skill execution limits declared by maxConcurrency, queueSize and timeoutMs.
+     */
+    @JsonIgnore
+    public SkillExecutionPolicy getExecutionPolicy() {
+        return SkillExecutionPolicy.of(maxConcurrency, queueSize, timeoutMs);
+    }
+
     public static SkillDescriptor fromFile(Path descriptorFile) throws IOException {
         ObjectMapper mapper = new ObjectMapper();
         return mapper.readValue(descriptorFile.toFile(), SkillDescriptor.class);
@@ -155,7 +249,7 @@ public class SkillDescriptor {
         return name != null && !name.trim().isEmpty() &&
                version != null && !version.trim().isEmpty() &&
                description != null && !description.trim().isEmpty() &&
-               (main != null || instructions != null);
+               (main != null || hasInstructions());
     }
 
     public static String getSkillFolderName(Path descriptorFile) {
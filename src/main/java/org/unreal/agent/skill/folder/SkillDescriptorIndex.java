@@ -0,0 +1,266 @@
+package org.unreal.agent.skill.folder;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * On-disk index of parsed skill descriptors, kept in the skills directory so warm restarts can skip
+ * re-reading and re-parsing unchanged SKILL.md, skill.json and skill.yaml files.
+ *
+ * <p>Each entry is keyed by the descriptor file's path relative to the skills directory and records
+ * its modification time, size and SHA-256 content hash together with the parsed descriptor as JSON.
+ * An entry is reused when mtime and size match; when only the mtime differs the content hash decides,
+ * so touching a file without changing it does not force a re-parse. Entries for descriptor files not
+ * seen during a load are dropped on {@link #save()}. The Markdown body of a SKILL.md is not indexed:
+ * it stays in the file and is read when the instructions of a looked-up descriptor are first requested.
+ *
+ * <p>The file is a flat binary layout read through a memory mapping:
+ * magic, format version, entry count, then per entry the UTF-8 path, mtime, size, hash and descriptor
+ * JSON, each variable-length field prefixed by its length.
+ */
+public class SkillDescriptorIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillDescriptorIndex.class);
+
+    public static final String INDEX_FILE_NAME = ".skill-index";
+
+    private static final int MAGIC = 0x534B4958; // "SKIX"
+    private static final int FORMAT_VERSION = 1;
+
+    private static final ObjectMapper mapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final ObjectWriter withoutInstructions = mapper.copy()
+            .addMixIn(SkillDescriptor.class, WithoutInstructions.class)
+            .writer();
+
+    private final Path skillsDirectory;
+    private final Path indexFile;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<String> seen = ConcurrentHashMap.newKeySet();
+    private volatile boolean dirty;
+
+    private SkillDescriptorIndex(Path skillsDirectory) {
+        this.skillsDirectory = skillsDirectory;
+        this.indexFile = skillsDirectory.resolve(INDEX_FILE_NAME);
+    }
+
+    /**
+     * Open the index of a skills directory. A missing, outdated or corrupt index file yields an
+     * empty index.
+     *
+     * @param skillsDirectory the skills directory
+     * @return the index
+     */
+    public static SkillDescriptorIndex open(Path skillsDirectory) {
+        SkillDescriptorIndex index = new SkillDescriptorIndex(skillsDirectory);
+        if (Files.isRegularFile(index.indexFile)) {
+            try {
+                index.read();
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Ignoring unreadable skill descriptor index: {}", index.indexFile, e);
+                index.entries.clear();
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Get the indexed descriptor of a file if the file is unchanged since it was indexed.
+     *
+     * @param descriptorFile the descriptor file
+     * @return a fresh copy of the indexed descriptor, or null if the file is not indexed or has changed
+     */
+    public SkillDescriptor lookup(Path descriptorFile) {
+        String key = keyOf(descriptorFile);
+        seen.add(key);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(descriptorFile, BasicFileAttributes.class);
+            long mtime = attributes.lastModifiedTime().toMillis();
+            if (attributes.size() != entry.size) {
+                return null;
+            }
+            if (mtime != entry.mtime) {
+                if (!Arrays.equals(entry.hash, hash(Files.readAllBytes(descriptorFile)))) {
+                    return null;
+                }
+                entries.put(key, new Entry(mtime, entry.size, entry.hash, entry.descriptorJson));
+                dirty = true;
+            }
+            SkillDescriptor descriptor = mapper.readValue(entry.descriptorJson, SkillDescriptor.class);
+            if (isSkillMd(descriptorFile)) {
+                SkillMarkdownParser.loadBodyOnDemand(descriptor, descriptorFile);
+            }
+            return descriptor;
+        } catch (IOException e) {
+            logger.debug("Skill descriptor index entry not usable for {}", descriptorFile, e);
+            return null;
+        }
+    }
+
+    /**
+     * Index a freshly parsed descriptor. Must be called before the descriptor is modified by loading.
+     *
+     * @param descriptorFile the descriptor file the descriptor was parsed from
+     * @param descriptor the parsed descriptor
+     */
+    public void put(Path descriptorFile, SkillDescriptor descriptor) {
+        String key = keyOf(descriptorFile);
+        seen.add(key);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(descriptorFile, BasicFileAttributes.class);
+            byte[] content = Files.readAllBytes(descriptorFile);
+            entries.put(key, new Entry(attributes.lastModifiedTime().toMillis(), content.length, hash(content),
+                    (isSkillMd(descriptorFile) ? withoutInstructions : mapper.writer()).writeValueAsBytes(descriptor)));
+            dirty = true;
+        } catch (IOException e) {
+            logger.debug("Failed to index skill descriptor {}", descriptorFile, e);
+        }
+    }
+
+    private static boolean isSkillMd(Path descriptorFile) {
+        return descriptorFile.getFileName().toString().equals("SKILL.md");
+    }
+
+    /**
+     * Write the index back to disk if it changed, dropping entries whose descriptor files were not
+     * looked up or indexed since the index was opened.
+     */
+    public void save() {
+        if (entries.keySet().retainAll(seen)) {
+            dirty = true;
+        }
+        if (!dirty) {
+            return;
+        }
+        Path tempFile = indexFile.resolveSibling(INDEX_FILE_NAME + ".tmp");
+        try {
+            try (OutputStream file = Files.newOutputStream(tempFile);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(entries.size());
+                for (Map.Entry<String, Entry> e : entries.entrySet()) {
+                    Entry entry = e.getValue();
+                    writeBytes(out, e.getKey().getBytes(StandardCharsets.UTF_8));
+                    out.writeLong(entry.mtime);
+                    out.writeLong(entry.size);
+                    writeBytes(out, entry.hash);
+                    writeBytes(out, entry.descriptorJson);
+                }
+            }
+            try {
+                Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            dirty = false;
+            logger.debug("Saved skill descriptor index with {} entries: {}", entries.size(), indexFile);
+        } catch (IOException e) {
+            logger.warn("Failed to save skill descriptor index: {}", indexFile, e);
+        }
+    }
+
+    /**
+     * @return number of indexed descriptor files
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void read() throws IOException {
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                logger.info("Skill descriptor index has an unknown format, rebuilding: {}", indexFile);
+                return;
+            }
+            int count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                String key = new String(readBytes(buffer), StandardCharsets.UTF_8);
+                long mtime = buffer.getLong();
+                long size = buffer.getLong();
+                byte[] hash = readBytes(buffer);
+                byte[] descriptorJson = readBytes(buffer);
+                entries.put(key, new Entry(mtime, size, hash, descriptorJson));
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated skill descriptor index", e);
+        }
+    }
+
+    private String keyOf(Path descriptorFile) {
+        Path absolute = descriptorFile.toAbsolutePath().normalize();
+        Path base = skillsDirectory.toAbsolutePath().normalize();
+        return (absolute.startsWith(base) ? base.relativize(absolute) : absolute).toString();
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static byte[] hash(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class Entry {
+        private final long mtime;
+        private final long size;
+        private final byte[] hash;
+        private final byte[] descriptorJson;
+
+        private Entry(long mtime, long size, byte[] hash, byte[] descriptorJson) {
+            this.mtime = mtime;
+            this.size = size;
+            this.hash = hash;
+            this.descriptorJson = descriptorJson;
+        }
+    }
+
+    /**
+     * Leaves the instructions out of serialized SKILL.md descriptors without reading a deferred body.
+     */
+    @JsonIgnoreProperties("instructions")
+    private abstract static class WithoutInstructions {
+    }
+}
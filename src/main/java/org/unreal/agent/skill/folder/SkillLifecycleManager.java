@@ -6,13 +6,23 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.unreal.agent.skill.core.AgentSkill;
 import org.unreal.agent.skill.AgentSkillManager;
+import org.unreal.agent.skill.config.AgentSkillProperties;
+import org.unreal.agent.skill.metrics.SkillMetrics;
 
+import com.sun.nio.file.ExtendedWatchEventModifier;
+
+import java.io.IOException;
 import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Service for managing the lifecycle of folder-based skills.
@@ -29,6 +39,15 @@ import java.util.concurrent.TimeUnit;
     @Autowired
     private AgentSkillManager skillManager;
 
+    @Autowired(required = false)
+    private SkillMetadataCatalog metadataCatalog;
+
+    @Autowired(required = false)
+    private AgentSkillProperties skillProperties;
+
+    @Autowired(required = false)
+    private SkillMetrics metrics;
+
     // Setters to allow programmatic wiring when auto-configuration creates the instance
     public void setSkillLoader(FolderBasedSkillLoader skillLoader) {
         this.skillLoader = skillLoader;
@@ -38,9 +57,29 @@ import java.util.concurrent.TimeUnit;
         this.skillManager = skillManager;
     }
     
+    private static final long DEFAULT_QUIET_WINDOW_MS = 1000;
+    private static final long DEFAULT_SCAN_INTERVAL_MS = 5000;
+    private static final String WATCH_MODE_POLLING = "polling";
+    private static final WatchEvent.Kind<?>[] WATCH_EVENT_KINDS = {
+        StandardWatchEventKinds.ENTRY_CREATE,
+        StandardWatchEventKinds.ENTRY_DELETE,
+        StandardWatchEventKinds.ENTRY_MODIFY
+    };
+    private static final int RELOAD_THREADS = Math.min(4, Runtime.getRuntime().availableProcessors());
+
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+    private final ExecutorService reloadExecutor = Executors.newFixedThreadPool(RELOAD_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "skill-reload");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<Path, PendingReload> pendingReloads = new ConcurrentHashMap<>();
+    private final Set<Path> reloadsInProgress = ConcurrentHashMap.newKeySet();
     private final Map<String, WatchKey> watchKeys = new ConcurrentHashMap<>();
+    private final AtomicBoolean polling = new AtomicBoolean();
+    private volatile boolean recursiveWatchSupported = true;
     private WatchService watchService;
+    private SkillTreeScanner treeScanner;
     private Path skillsDirectory;
     private boolean hotReloadEnabled = true;
     
@@ -60,14 +99,10 @@ import java.util.concurrent.TimeUnit;
                 logger.warn("SkillLifecycleManager dependencies not available, skipping initialize(). skillLoader={}, skillManager={}", skillLoader, skillManager);
                 return;
             }
-            // Initialize watch service
-            watchService = FileSystems.getDefault().newWatchService();
-            
-            // Register directory for changes
-            registerWatchDirectory(skillsDirectory);
-            
-            // Start the file watcher thread
-            startFileWatcher();
+            // Take a snapshot of the tree, then watch it for changes
+            treeScanner = new SkillTreeScanner(skillsDirectory);
+            treeScanner.scan();
+            startWatching();
             
             // Load existing skills
             loadExistingSkills();
@@ -88,39 +123,85 @@ import java.util.concurrent.TimeUnit;
         Map<String, FolderBasedSkillLoader.LoadedSkill> loadedSkills = 
             skillLoader.loadSkillsFromDirectory(skillsDirectory);
         
+        // The first version of each skill becomes its primary version, later ones run beside it
         for (FolderBasedSkillLoader.LoadedSkill loadedSkill : loadedSkills.values()) {
             AgentSkill skillInstance = loadedSkill.getSkillInstance();
-            skillManager.registerSkill(skillInstance);
-            
-            // Watch individual skill folders for changes
-            registerWatchDirectory(loadedSkill.getSkillFolder());
+            skillManager.registerSkillVersion(skillInstance);
         }
         
         logger.info("Loaded {} skills from directory", loadedSkills.size());
     }
     
     /**
-     * Register a directory for file watching.
+     * Watch the skills directory tree with file system notifications, or scan it periodically if
+     * polling is configured or the platform cannot watch it.
+     */
+    private void startWatching() {
+        if (!WATCH_MODE_POLLING.equalsIgnoreCase(getWatchMode())) {
+            try {
+                watchService = FileSystems.getDefault().newWatchService();
+                registerTree(skillsDirectory);
+                startFileWatcher();
+                return;
+            } catch (IOException | UnsupportedOperationException e) {
+                logger.warn("File system notifications unavailable for {}, scanning for changes instead: {}",
+                    skillsDirectory, e.getMessage());
+            }
+        }
+        startPolling();
+    }
+    
+    /**
+     * Watch a directory and everything below it. Where the platform supports it the whole tree is
+     * covered by one registration; otherwise each directory in the tree is registered.
      * 
-     * @param directory the directory to watch
+     * @param root the directory to watch
+     * @throws IOException if a directory cannot be registered, e.g. because the watch limit is reached
      */
-    private void registerWatchDirectory(Path directory) {
-        try {
-            if (!Files.exists(directory)) {
-                logger.warn("Directory does not exist for watching: {}", directory);
+    private void registerTree(Path root) throws IOException {
+        if (watchService == null || !Files.isDirectory(root)) {
+            return;
+        }
+        if (recursiveWatchSupported) {
+            try {
+                WatchKey key = root.register(watchService, WATCH_EVENT_KINDS, ExtendedWatchEventModifier.FILE_TREE);
+                watchKeys.put(root.toAbsolutePath().normalize().toString(), key);
+                markWatched(root);
+                logger.debug("Registered recursive watch for directory: {}", root);
                 return;
+            } catch (UnsupportedOperationException e) {
+                recursiveWatchSupported = false;
             }
-            
-            WatchKey key = directory.register(watchService,
-                StandardWatchEventKinds.ENTRY_CREATE,
-                StandardWatchEventKinds.ENTRY_DELETE,
-                StandardWatchEventKinds.ENTRY_MODIFY);
-            
-            watchKeys.put(directory.toString(), key);
-            logger.debug("Registered watch for directory: {}", directory);
-            
-        } catch (Exception e) {
-            logger.error("Failed to register watch for directory: {}", directory, e);
+        }
+        
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) throws IOException {
+                if (!dir.equals(root) && dir.getFileName().toString().startsWith(".")) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                registerWatchDirectory(dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+    
+    /**
+     * Register a single directory for file watching.
+     * 
+     * @param directory the directory to watch
+     * @throws IOException if the directory cannot be registered
+     */
+    private void registerWatchDirectory(Path directory) throws IOException {
+        WatchKey key = directory.register(watchService, WATCH_EVENT_KINDS);
+        watchKeys.put(directory.toAbsolutePath().normalize().toString(), key);
+        markWatched(directory);
+        logger.debug("Registered watch for directory: {}", directory);
+    }
+    
+    private void markWatched(Path directory) {
+        if (metadataCatalog != null) {
+            metadataCatalog.markWatched(directory);
         }
     }
     
@@ -133,8 +214,11 @@ import java.util.concurrent.TimeUnit;
                 try {
                     WatchKey key = watchService.take();
                     handleWatchEvents(key);
-                    key.reset();
-                } catch (InterruptedException e) {
+                    if (!key.reset()) {
+                        // The directory is gone
+                        watchKeys.remove(((Path) key.watchable()).toAbsolutePath().normalize().toString(), key);
+                    }
+                } catch (InterruptedException | ClosedWatchServiceException e) {
                     Thread.currentThread().interrupt();
                     break;
                 } catch (Exception e) {
@@ -145,7 +229,46 @@ import java.util.concurrent.TimeUnit;
     }
     
     /**
-     * Handle watch events for file changes.
+     * Scan the skills directory for changes at a fixed interval. Also used alongside notifications
+     * once a directory could not be registered, so changes there are still picked up.
+     */
+    private void startPolling() {
+        if (!polling.compareAndSet(false, true)) {
+            return;
+        }
+        long interval = getScanIntervalMillis();
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                onSkillFoldersChanged(treeScanner.scan());
+            } catch (Exception e) {
+                logger.error("Error scanning skills directory for changes", e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+        logger.info("Scanning {} for skill changes every {}ms", skillsDirectory, interval);
+    }
+    
+    /**
+     * Handle skill folders a scan found to be added, removed or changed.
+     */
+    private void onSkillFoldersChanged(Set<Path> skillFolders) {
+        if (metrics != null && !skillFolders.isEmpty()) {
+            metrics.recordScanChanges(skillFolders.size());
+        }
+        for (Path skillFolder : skillFolders) {
+            logger.debug("Skill folder changed: {}", skillFolder);
+            if (metadataCatalog != null) {
+                metadataCatalog.invalidate(skillFolder);
+            }
+            if (hotReloadEnabled) {
+                scheduleReload(skillFolder);
+            }
+        }
+    }
+    
+    /**
+     * Handle watch events for file changes. Events are only mapped to their skill folder here;
+     * reloads happen after the folder has been quiet for the watch polling interval, so saving a
+     * file or unpacking a skill archive reloads each affected skill once.
      * 
      * @param key the watch key
      */
@@ -154,8 +277,12 @@ import java.util.concurrent.TimeUnit;
         
         for (WatchEvent<?> event : key.pollEvents()) {
             WatchEvent.Kind<?> kind = event.kind();
+            if (metrics != null) {
+                metrics.recordWatchEvent(kind);
+            }
             
             if (kind == StandardWatchEventKinds.OVERFLOW) {
+                handleOverflow(watchedDir);
                 continue;
             }
             
@@ -163,156 +290,182 @@ import java.util.concurrent.TimeUnit;
             Path fullPath = watchedDir.resolve(eventPath);
             
             logger.debug("File event: {} on {}", kind, fullPath);
+            if (metadataCatalog != null) {
+                metadataCatalog.invalidate(fullPath);
+            }
             
-            if (kind == StandardWatchEventKinds.ENTRY_CREATE) {
-                handleFileCreated(fullPath);
-            } else if (kind == StandardWatchEventKinds.ENTRY_DELETE) {
-                handleFileDeleted(fullPath);
-            } else if (kind == StandardWatchEventKinds.ENTRY_MODIFY) {
-                handleFileModified(fullPath);
+            if (kind == StandardWatchEventKinds.ENTRY_CREATE && !recursiveWatchSupported && Files.isDirectory(fullPath)) {
+                watchNewDirectory(fullPath);
+            }
+            
+            Path skillFolder = treeScanner.skillFolderOf(fullPath);
+            if (hotReloadEnabled && skillFolder != null) {
+                scheduleReload(skillFolder);
             }
         }
     }
     
     /**
-     * Handle file creation events.
-     * 
-     * @param filePath the created file path
+     * Watch a directory created inside the tree, together with anything already created below it.
+     * If the platform refuses further registrations, scanning takes over for what cannot be watched.
      */
-    private void handleFileCreated(Path filePath) {
-        if (!hotReloadEnabled) {
+    private void watchNewDirectory(Path directory) {
+        if (directory.getFileName().toString().startsWith(".")) {
             return;
         }
-        
-        // Debounce rapid file changes
-        scheduler.schedule(() -> {
-            try {
-                if (Files.isDirectory(filePath)) {
-                    // New skill folder created
-                    handleNewSkillFolder(filePath);
-                } else if (isSkillDescriptor(filePath)) {
-                    // Skill descriptor created/updated
-                    handleSkillDescriptorChange(filePath.getParent());
-                }
-            } catch (Exception e) {
-                logger.error("Error handling file creation: {}", filePath, e);
-            }
-        }, 500, TimeUnit.MILLISECONDS);
+        try {
+            registerTree(directory);
+        } catch (IOException e) {
+            logger.warn("Cannot watch {}, scanning for changes instead: {}", directory, e.getMessage());
+            startPolling();
+        }
     }
     
     /**
-     * Handle file deletion events.
-     * 
-     * @param filePath the deleted file path
+     * Recover from dropped events: rescan only the part of the tree the overflowing watch covers,
+     * reload the skill folders that changed, and watch directories created in the meantime.
      */
-    private void handleFileDeleted(Path filePath) {
-        if (!hotReloadEnabled) {
-            return;
+    private void handleOverflow(Path watchedDir) {
+        logger.warn("File watch events were lost for {}, rescanning", watchedDir);
+        if (!recursiveWatchSupported) {
+            watchNewDirectory(watchedDir);
         }
-        
-        scheduler.schedule(() -> {
-            try {
-                if (isSkillDescriptor(filePath)) {
-                    // Skill descriptor deleted, unload skill
-                    String skillName = inferSkillNameFromPath(filePath.getParent());
-                    unloadSkill(skillName);
-                }
-            } catch (Exception e) {
-                logger.error("Error handling file deletion: {}", filePath, e);
-            }
-        }, 500, TimeUnit.MILLISECONDS);
+        onSkillFoldersChanged(treeScanner.rescan(watchedDir));
     }
     
     /**
-     * Handle file modification events.
-     * 
-     * @param filePath the modified file path
+     * Schedule a reload of a skill folder once no further changes arrive for the quiet window.
+     * Changes reported while a reload is already pending are folded into it.
+     *
+     * @param skillFolder the changed skill folder
      */
-    private void handleFileModified(Path filePath) {
-        if (!hotReloadEnabled) {
+    void scheduleReload(Path skillFolder) {
+        Path folder = skillFolder.toAbsolutePath().normalize();
+        pendingReloads.compute(folder, (key, pending) -> {
+            if (pending == null) {
+                pending = new PendingReload();
+                scheduler.schedule(() -> flushReload(key), getQuietWindowMillis(), TimeUnit.MILLISECONDS);
+            }
+            pending.touch();
+            return pending;
+        });
+    }
+
+    /**
+     * Hand a pending reload to the reload workers if its folder has been quiet for the whole window,
+     * otherwise check again later. A reload held back because the folder is still being reloaded is
+     * flushed again when that reload finishes.
+     */
+    private void flushReload(Path skillFolder) {
+        long quietWindow = getQuietWindowMillis();
+        PendingReload[] due = new PendingReload[1];
+        pendingReloads.computeIfPresent(skillFolder, (key, pending) -> {
+            if (pending.quietMillis() < quietWindow || !reloadsInProgress.add(key)) {
+                return pending;
+            }
+            due[0] = pending;
+            return null;
+        });
+
+        if (due[0] == null) {
+            PendingReload pending = pendingReloads.get(skillFolder);
+            if (pending != null && !reloadsInProgress.contains(skillFolder)) {
+                long delay = Math.max(1, quietWindow - pending.quietMillis());
+                scheduler.schedule(() -> flushReload(skillFolder), delay, TimeUnit.MILLISECONDS);
+            }
             return;
         }
-        
-        scheduler.schedule(() -> {
-            try {
-                if (isSkillDescriptor(filePath)) {
-                    // Skill descriptor modified, reload skill
-                    handleSkillDescriptorChange(filePath.getParent());
-                }
-            } catch (Exception e) {
-                logger.error("Error handling file modification: {}", filePath, e);
-            }
-        }, 1000, TimeUnit.MILLISECONDS);
+
+        int events = due[0].events;
+        try {
+            reloadExecutor.execute(() -> reloadSkillFolder(skillFolder, events));
+        } catch (RejectedExecutionException e) {
+            reloadsInProgress.remove(skillFolder);
+            logger.debug("Reload of {} skipped, lifecycle manager is shutting down", skillFolder);
+        }
     }
-    
+
     /**
-     * Handle new skill folder creation.
-     * 
-     * @param skillFolder the new skill folder
+     * Bring the registered skill in line with the current contents of its folder: swap in the new
+     * version, or unload the skill if its folder has been removed.
+     *
+     * @param skillFolder the skill folder
+     * @param events number of file events coalesced into this reload
      */
-    private void handleNewSkillFolder(Path skillFolder) {
-        logger.info("New skill folder detected: {}", skillFolder);
-        
-        scheduler.schedule(() -> {
-            try {
-                FolderBasedSkillLoader.LoadedSkill loadedSkill = 
-                    skillLoader.loadSkillFromFolder(skillFolder);
-                
-                if (loadedSkill != null) {
-                    AgentSkill skillInstance = loadedSkill.getSkillInstance();
-                    skillManager.registerSkill(skillInstance);
-                    
-                    // Watch the new skill folder
-                    registerWatchDirectory(skillFolder);
-                    
-                    logger.info("Successfully loaded new skill: {}", loadedSkill.getDescriptor().getName());
+    private void reloadSkillFolder(Path skillFolder, int events) {
+        try {
+            if (treeScanner != null) {
+                treeScanner.refresh(skillFolder);
+            }
+            String skillName = findSkillName(skillFolder);
+            if (!Files.isDirectory(skillFolder)) {
+                if (skillName != null) {
+                    unloadSkill(skillName);
                 }
-            } catch (Exception e) {
-                logger.error("Failed to load new skill from folder: {}", skillFolder, e);
+                return;
             }
-        }, 1000, TimeUnit.MILLISECONDS);
+
+            FolderBasedSkillLoader.LoadedSkill loadedSkill = skillLoader.swapSkill(skillFolder, skillManager);
+            if (loadedSkill != null) {
+                logger.info("Successfully {} skill: {} ({} file events)", skillName != null ? "reloaded" : "loaded",
+                    loadedSkill.getDescriptor().getName(), events);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to reload skill from folder: {}", skillFolder, e);
+        } finally {
+            reloadsInProgress.remove(skillFolder);
+            if (pendingReloads.containsKey(skillFolder)) {
+                flushReload(skillFolder);
+            }
+        }
     }
-    
+
     /**
-     * Handle skill descriptor changes.
-     * 
-     * @param skillFolder the skill folder containing the descriptor
+     * Find the name of the loaded skill that was loaded from a folder.
+     *
+     * @param skillFolder the skill folder
+     * @return the skill name, or null if no skill is loaded from the folder
      */
-    private void handleSkillDescriptorChange(Path skillFolder) {
-        String skillName = inferSkillNameFromPath(skillFolder);
-        logger.info("Skill descriptor changed for: {}", skillName);
-        
-        scheduler.schedule(() -> {
-            try {
-                // Unload existing skill
-                unloadSkill(skillName);
-                
-                // Reload skill
-                FolderBasedSkillLoader.LoadedSkill loadedSkill = 
-                    skillLoader.loadSkillFromFolder(skillFolder);
-                
-                if (loadedSkill != null) {
-                    AgentSkill skillInstance = loadedSkill.getSkillInstance();
-                    skillManager.registerSkill(skillInstance);
-                    
-                    logger.info("Successfully reloaded skill: {}", skillName);
-                }
-            } catch (Exception e) {
-                logger.error("Failed to reload skill from folder: {}", skillFolder, e);
+    private String findSkillName(Path skillFolder) {
+        for (Map.Entry<String, FolderBasedSkillLoader.LoadedSkill> entry : skillLoader.getLoadedSkills().entrySet()) {
+            Path folder = entry.getValue().getSkillFolder();
+            if (folder != null && folder.toAbsolutePath().normalize().equals(skillFolder)) {
+                return entry.getKey();
             }
-        }, 1000, TimeUnit.MILLISECONDS);
+        }
+        return null;
     }
-    
+
+    private String getWatchMode() {
+        return skillProperties != null ? skillProperties.getWatchMode() : null;
+    }
+
+    private long getScanIntervalMillis() {
+        return skillProperties != null ? skillProperties.getWatchScanInterval() : DEFAULT_SCAN_INTERVAL_MS;
+    }
+
+    /**
+     * Quiet window for coalescing file events, taken from the watch polling interval.
+     */
+    private long getQuietWindowMillis() {
+        return skillProperties != null ? skillProperties.getWatchPollingInterval() : DEFAULT_QUIET_WINDOW_MS;
+    }
+
     /**
      * Unload a skill by name.
      * 
-     * @param skillName the skill name
+     * @param skillName the key the skill is loaded under, {@code name@version} for a side-by-side version
      */
     private void unloadSkill(String skillName) {
         try {
             FolderBasedSkillLoader.LoadedSkill loadedSkill = skillLoader.getLoadedSkill(skillName);
             if (loadedSkill != null) {
-                skillManager.unregisterSkill(skillName);
+                SkillDescriptor descriptor = loadedSkill.getDescriptor();
+                if (skillName.equals(descriptor.getName())) {
+                    skillManager.unregisterSkill(skillName);
+                } else {
+                    skillManager.unregisterSkillVersion(descriptor.getName(), descriptor.getVersion());
+                }
                 skillLoader.unloadSkill(skillName);
                 logger.info("Successfully unloaded skill: {}", skillName);
             }
@@ -321,36 +474,6 @@ import java.util.concurrent.TimeUnit;
         }
     }
     
-    /**
-     * Check if a file is a skill descriptor.
-     * 
-     * @param filePath the file path
-     * @return true if it's a skill descriptor
-     */
-    private boolean isSkillDescriptor(Path filePath) {
-        if (filePath == null || !Files.isRegularFile(filePath)) {
-            return false;
-        }
-        
-        String fileName = filePath.getFileName().toString().toLowerCase();
-        return fileName.equals("skill.json") || fileName.equals("skill.yaml") || fileName.equals("skill.yml");
-    }
-    
-    /**
-     * Infer skill name from folder path.
-     * 
-     * @param skillFolder the skill folder path
-     * @return inferred skill name
-     */
-    private String inferSkillNameFromPath(Path skillFolder) {
-        if (skillFolder == null) {
-            return "";
-        }
-        
-        Path fileName = skillFolder.getFileName();
-        return fileName != null ? fileName.toString() : "";
-    }
-    
     /**
      * Enable or disable hot reload.
      * 
@@ -404,14 +527,36 @@ import java.util.concurrent.TimeUnit;
                 watchService.close();
             }
             
-            // Shutdown scheduler
+            // Shutdown scheduler and reload workers
+            pendingReloads.clear();
             scheduler.shutdown();
+            reloadExecutor.shutdown();
             if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
                 scheduler.shutdownNow();
             }
+            if (!reloadExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                reloadExecutor.shutdownNow();
+            }
             
         } catch (Exception e) {
             logger.error("Error during shutdown", e);
         }
     }
+
+    /**
+     * File events collected for one skill folder while waiting for the quiet window.
+     */
+    private static final class PendingReload {
+        private volatile long lastEventNanos;
+        private volatile int events;
+
+        private void touch() {
+            lastEventNanos = System.nanoTime();
+            events++;
+        }
+
+        private long quietMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastEventNanos);
+        }
+    }
 }
@@ -0,0 +1,106 @@
+package org.unreal.agent.skill.folder;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Timing report of one {@link FolderBasedSkillLoader#loadSkillsFromDirectory(Path)} run.
+ */
+public class SkillLoadReport {
+
+    private final Path skillsDirectory;
+    private final int parallelism;
+    private final long totalMillis;
+    private final List<Entry> entries;
+
+    public SkillLoadReport(Path skillsDirectory, int parallelism, long totalMillis, List<Entry> entries) {
+        this.skillsDirectory = skillsDirectory;
+        this.parallelism = parallelism;
+        this.totalMillis = totalMillis;
+        this.entries = List.copyOf(entries);
+    }
+
+    public Path getSkillsDirectory() {
+        return skillsDirectory;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public long getTotalMillis() {
+        return totalMillis;
+    }
+
+    /**
+     * @return one entry per skill folder, in registration order
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    public long getLoadedCount() {
+        return entries.stream().filter(Entry::isLoaded).count();
+    }
+
+    /**
+     * Get the folders that took longest to load.
+     *
+     * @param limit maximum number of entries to return
+     * @return entries ordered by descending load time
+     */
+    public List<Entry> getSlowest(int limit) {
+        return entries.stream()
+                .sorted(Comparator.comparingLong(Entry::getDurationMillis).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public String toString() {
+        return "Loaded " + getLoadedCount() + " of " + entries.size() + " skill folders from " + skillsDirectory
+                + " in " + totalMillis + "ms (parallelism " + parallelism + ")";
+    }
+
+    /**
+     * Load outcome of a single skill folder.
+     */
+    public static class Entry {
+        private final Path skillFolder;
+        private final String skillName;
+        private final long durationMillis;
+
+        public Entry(Path skillFolder, String skillName, long durationMillis) {
+            this.skillFolder = skillFolder;
+            this.skillName = skillName;
+            this.durationMillis = durationMillis;
+        }
+
+        public Path getSkillFolder() {
+            return skillFolder;
+        }
+
+        /**
+         * @return the loaded skill's name, or null if the folder did not yield a skill
+         */
+        public String getSkillName() {
+            return skillName;
+        }
+
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+
+        public boolean isLoaded() {
+            return skillName != null;
+        }
+
+        @Override
+        public String toString() {
+            return skillFolder.getFileName() + " -> " + (skillName != null ? skillName : "not loaded")
+                    + " (" + durationMillis + "ms)";
+        }
+    }
+}
@@ -3,14 +3,25 @@ package org.unreal.agent.skill.folder;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.List;
+import java.nio.file.attribute.BasicFileAttributes;
 
 /**
  * Parser for SKILL.md files following the agentskills.io specification.
  * Extracts YAML frontmatter and Markdown body.
+ *
+ * <p>{@link #parseFrontmatter(Path)} stops reading at the end of the frontmatter and loads the body
+ * only when {@link SkillDescriptor#getInstructions()} is first called, so listing skills does not read
+ * their instructions.
  */
 public class SkillMarkdownParser {
 
@@ -18,54 +29,172 @@ public class SkillMarkdownParser {
 
     /**
      * Parse a SKILL.md file.
-     * 
+     *
      * @param skillFile the path to SKILL.md
      * @return SkillDescriptor with populated metadata and instructions
      * @throws IOException if file cannot be read or parsed
      */
     public static SkillDescriptor parse(Path skillFile) throws IOException {
-        List<String> lines = Files.readAllLines(skillFile);
-        
-        StringBuilder frontmatter = new StringBuilder();
-        StringBuilder body = new StringBuilder();
-        
-        boolean inFrontmatter = false;
-        boolean frontmatterFound = false;
-        
-        for (String line : lines) {
-            if (line.trim().equals("---")) {
-                if (!inFrontmatter && !frontmatterFound) {
-                    inFrontmatter = true;
-                } else if (inFrontmatter) {
-                    inFrontmatter = false;
-                    frontmatterFound = true;
-                } else {
-                    body.append(line).append("\n");
-                }
-                continue;
-            }
-            
-            if (inFrontmatter) {
-                frontmatter.append(line).append("\n");
-            } else {
-                body.append(line).append("\n");
-            }
+        Frontmatter frontmatter;
+        String body;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(skillFile))) {
+            frontmatter = readFrontmatter(in);
+            body = frontmatter.preamble + decode(in.readAllBytes());
+        }
+
+        SkillDescriptor descriptor = toDescriptor(frontmatter);
+        descriptor.setInstructions(body.trim());
+        return descriptor;
+    }
+
+    /**
+     * Parse only the frontmatter of a SKILL.md file. The Markdown body is read when the descriptor's
+     * instructions are first requested; if the file has changed by then it is parsed again in full.
+     *
+     * @param skillFile the path to SKILL.md
+     * @return SkillDescriptor with populated metadata and lazily loaded instructions
+     * @throws IOException if file cannot be read or parsed
+     */
+    public static SkillDescriptor parseFrontmatter(Path skillFile) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(skillFile, BasicFileAttributes.class);
+        Frontmatter frontmatter;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(skillFile))) {
+            frontmatter = readFrontmatter(in);
         }
-        
+
+        SkillDescriptor descriptor = toDescriptor(frontmatter);
+        descriptor.setInstructionsLoader(() -> readBody(skillFile, frontmatter, attributes));
+        return descriptor;
+    }
+
+    /**
+     * Defer the instructions of a descriptor whose metadata did not come from parsing the SKILL.md file,
+     * such as one taken from the descriptor index. The file is parsed in full when the instructions are
+     * first requested.
+     *
+     * @param descriptor the descriptor of the skill
+     * @param skillFile the path to SKILL.md
+     */
+    public static void loadBodyOnDemand(SkillDescriptor descriptor, Path skillFile) {
+        descriptor.setInstructionsLoader(() -> {
+            try {
+                return parse(skillFile).getInstructions();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read SKILL.md body: " + skillFile, e);
+            }
+        });
+    }
+
+    private static SkillDescriptor toDescriptor(Frontmatter frontmatter) throws IOException {
         SkillDescriptor descriptor;
-        if (frontmatter.length() > 0) {
-            descriptor = yamlMapper.readValue(frontmatter.toString(), SkillDescriptor.class);
+        if (frontmatter.yaml.length() > 0) {
+            descriptor = yamlMapper.readValue(frontmatter.yaml, SkillDescriptor.class);
         } else {
             descriptor = new SkillDescriptor();
         }
-        
-        descriptor.setInstructions(body.toString().trim());
-        
+
         // Set default version if missing as per spec it's optional but we might want it
         if (descriptor.getVersion() == null) {
             descriptor.setVersion("1.0");
         }
-        
+
         return descriptor;
     }
-}
\ No newline at end of file
+
+    /**
+     * Read up to and including the closing frontmatter delimiter. Lines before the opening delimiter
+     * belong to the body and are kept as the preamble.
+     */
+    private static Frontmatter readFrontmatter(InputStream in) throws IOException {
+        StringBuilder yaml = new StringBuilder();
+        StringBuilder preamble = new StringBuilder();
+        ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+        boolean inFrontmatter = false;
+        long offset = 0;
+
+        int consumed;
+        while ((consumed = readLine(in, line)) >= 0) {
+            offset += consumed;
+            String text = line.toString(StandardCharsets.UTF_8);
+            if (text.trim().equals("---")) {
+                if (inFrontmatter) {
+                    return new Frontmatter(yaml.toString(), preamble.toString(), offset);
+                }
+                inFrontmatter = true;
+                continue;
+            }
+            (inFrontmatter ? yaml : preamble).append(text).append("\n");
+        }
+        return new Frontmatter(yaml.toString(), preamble.toString(), offset);
+    }
+
+    /**
+     * Read one line into the buffer without its terminator.
+     *
+     * @return number of bytes consumed including the terminator, or -1 at end of stream
+     */
+    private static int readLine(InputStream in, ByteArrayOutputStream line) throws IOException {
+        line.reset();
+        int consumed = 0;
+        int b;
+        while ((b = in.read()) != -1) {
+            consumed++;
+            if (b == '\n') {
+                return consumed;
+            }
+            if (b == '\r') {
+                in.mark(1);
+                if (in.read() == '\n') {
+                    consumed++;
+                } else {
+                    in.reset();
+                }
+                return consumed;
+            }
+            line.write(b);
+        }
+        return consumed > 0 ? consumed : -1;
+    }
+
+    private static String readBody(Path skillFile, Frontmatter frontmatter, BasicFileAttributes parsedAttributes) {
+        try {
+            BasicFileAttributes current = Files.readAttributes(skillFile, BasicFileAttributes.class);
+            if (current.size() != parsedAttributes.size()
+                    || !current.lastModifiedTime().equals(parsedAttributes.lastModifiedTime())) {
+                return parse(skillFile).getInstructions();
+            }
+            try (SeekableByteChannel channel = Files.newByteChannel(skillFile)) {
+                long remaining = Math.max(0, channel.size() - frontmatter.bodyOffset);
+                ByteBuffer buffer = ByteBuffer.allocate((int) remaining);
+                channel.position(frontmatter.bodyOffset);
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer) < 0) {
+                        break;
+                    }
+                }
+                return (frontmatter.preamble + decode(buffer.array())).trim();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read SKILL.md body: " + skillFile, e);
+        }
+    }
+
+    /**
+     * Decode body bytes with line separators normalized to '\n'.
+     */
+    private static String decode(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8).replace("\r\n", "\n").replace('\r', '\n');
+    }
+
+    private static final class Frontmatter {
+        private final String yaml;
+        private final String preamble;
+        private final long bodyOffset;
+
+        private Frontmatter(String yaml, String preamble, long bodyOffset) {
+            this.yaml = yaml;
+            this.preamble = preamble;
+            this.bodyOffset = bodyOffset;
+        }
+    }
+}
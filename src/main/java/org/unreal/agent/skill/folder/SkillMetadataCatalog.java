@@ -0,0 +1,280 @@
+package org.unreal.agent.skill.folder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In-memory catalog of agentskills.io skill folders, so metadata listings and searches are served
+ * without touching the filesystem.
+ *
+ * <p>Each entry holds the SKILL.md frontmatter and the file facts shown in skill metadata. Directories
+ * watched by {@link SkillLifecycleManager} are trusted until a watch event {@link #invalidate
+ * invalidates} them, except that a cached folder must still exist. Other directories are validated on
+ * every read by comparing modification times, which costs a few stats instead of re-parsing every
+ * SKILL.md. Entries of folders that have disappeared are dropped when they are read or when their
+ * skills directory is listed again, so a deletion the watcher missed does not leave them behind.
+ */
+@Component
+public class SkillMetadataCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillMetadataCatalog.class);
+
+    private final Map<Path, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Path, Listing> listings = new ConcurrentHashMap<>();
+    private final Set<Path> watched = ConcurrentHashMap.newKeySet();
+
+    /**
+     * List the skill folders of a skills directory.
+     *
+     * @param skillsDir directory containing skill folders
+     * @return entries of the folders that contain a SKILL.md, ordered by folder name
+     */
+    public List<Entry> list(Path skillsDir) {
+        Path directory = normalize(skillsDir);
+        Listing listing = listings.get(directory);
+        if (listing == null || (!watched.contains(directory) && !listing.isCurrent(directory))) {
+            listing = Listing.scan(directory);
+            if (listing == null) {
+                listings.remove(directory);
+                forgetFoldersOf(directory, Set.of());
+                return List.of();
+            }
+            listings.put(directory, listing);
+            forgetFoldersOf(directory, new HashSet<>(listing.folders));
+        }
+        return listing.folders.stream()
+                .map(this::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get the entry of a single skill folder.
+     *
+     * @param skillFolder the skill folder
+     * @return the entry, or null if the folder contains no readable SKILL.md
+     */
+    public Entry get(Path skillFolder) {
+        Path folder = normalize(skillFolder);
+        Entry entry = entries.get(folder);
+        boolean valid = entry != null && (watched.contains(folder) ? Files.isDirectory(folder) : entry.isCurrent());
+        if (!valid) {
+            if (!Files.isDirectory(folder)) {
+                forget(folder);
+                return null;
+            }
+            entry = Entry.load(folder);
+            entries.put(folder, entry);
+        }
+        return entry.descriptor != null ? entry : null;
+    }
+
+    /**
+     * Declare that changes inside a directory are reported through {@link #invalidate(Path)}, so its
+     * cached state no longer needs to be validated on reads.
+     *
+     * @param directory a skills directory or skill folder that is being watched
+     */
+    public void markWatched(Path directory) {
+        watched.add(normalize(directory));
+    }
+
+    /**
+     * Drop cached state affected by a change to a path: the path itself and its parent, which covers
+     * a skill folder being added or removed as well as a file inside a skill folder changing.
+     *
+     * @param changedPath the created, modified or deleted path
+     */
+    public void invalidate(Path changedPath) {
+        Path path = normalize(changedPath);
+        entries.remove(path);
+        listings.remove(path);
+        Path parent = path.getParent();
+        if (parent != null) {
+            entries.remove(parent);
+            listings.remove(parent);
+        }
+    }
+
+    /**
+     * Drop all cached state, e.g. after the watcher lost events.
+     */
+    public void clear() {
+        entries.clear();
+        listings.clear();
+    }
+
+    private void forget(Path folder) {
+        entries.remove(folder);
+        listings.remove(folder);
+        watched.remove(folder);
+    }
+
+    /**
+     * Drop the cached folders of a skills directory that are no longer among its folders.
+     */
+    private void forgetFoldersOf(Path directory, Set<Path> folders) {
+        for (Path folder : entries.keySet()) {
+            if (directory.equals(folder.getParent()) && !folders.contains(folder)) {
+                forget(folder);
+            }
+        }
+    }
+
+    private static Path normalize(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    private static FileTime modifiedTime(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Cached state of one skill folder.
+     */
+    public static final class Entry {
+        private final Path skillFolder;
+        private final FileTime folderModified;
+        private final SkillDescriptor descriptor;
+        private final long skillMdSize;
+        private final FileTime skillMdModified;
+        private final boolean hasScripts;
+        private final boolean hasReferences;
+        private final boolean hasAssets;
+        private final boolean hasExamples;
+
+        private Entry(Path skillFolder, FileTime folderModified, SkillDescriptor descriptor, long skillMdSize,
+                      FileTime skillMdModified) {
+            this.skillFolder = skillFolder;
+            this.folderModified = folderModified;
+            this.descriptor = descriptor;
+            this.skillMdSize = skillMdSize;
+            this.skillMdModified = skillMdModified;
+            this.hasScripts = descriptor != null && Files.exists(skillFolder.resolve("scripts"));
+            this.hasReferences = descriptor != null && Files.exists(skillFolder.resolve("references"));
+            this.hasAssets = descriptor != null && Files.exists(skillFolder.resolve("assets"));
+            this.hasExamples = descriptor != null && Files.exists(skillFolder.resolve("examples"));
+        }
+
+        private static Entry load(Path skillFolder) {
+            FileTime folderModified = modifiedTime(skillFolder);
+            Path skillMd = skillFolder.resolve("SKILL.md");
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(skillMd, BasicFileAttributes.class);
+                SkillDescriptor descriptor = SkillMarkdownParser.parseFrontmatter(skillMd);
+                return new Entry(skillFolder, folderModified, descriptor, attributes.size(), attributes.lastModifiedTime());
+            } catch (IOException e) {
+                if (Files.exists(skillMd)) {
+                    logger.error("Failed to read skill metadata: {}", skillFolder, e);
+                }
+                return new Entry(skillFolder, folderModified, null, 0, null);
+            }
+        }
+
+        private boolean isCurrent() {
+            if (!Objects.equals(folderModified, modifiedTime(skillFolder))) {
+                return false;
+            }
+            if (descriptor == null) {
+                return true;
+            }
+            Path skillMd = skillFolder.resolve("SKILL.md");
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(skillMd, BasicFileAttributes.class);
+                return attributes.size() == skillMdSize && attributes.lastModifiedTime().equals(skillMdModified);
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        public Path getSkillFolder() {
+            return skillFolder;
+        }
+
+        /**
+         * @return the SKILL.md frontmatter; instructions are read on first request
+         */
+        public SkillDescriptor getDescriptor() {
+            return descriptor;
+        }
+
+        public Path getSkillMd() {
+            return skillFolder.resolve("SKILL.md");
+        }
+
+        public long getSkillMdSize() {
+            return skillMdSize;
+        }
+
+        public FileTime getSkillMdModified() {
+            return skillMdModified;
+        }
+
+        public boolean hasScripts() {
+            return hasScripts;
+        }
+
+        public boolean hasReferences() {
+            return hasReferences;
+        }
+
+        public boolean hasAssets() {
+            return hasAssets;
+        }
+
+        public boolean hasExamples() {
+            return hasExamples;
+        }
+    }
+
+    /**
+     * Cached folder list of a skills directory.
+     */
+    private static final class Listing {
+        private final FileTime modified;
+        private final List<Path> folders;
+
+        private Listing(FileTime modified, List<Path> folders) {
+            this.modified = modified;
+            this.folders = folders;
+        }
+
+        private static Listing scan(Path directory) {
+            if (!Files.isDirectory(directory)) {
+                logger.warn("Skills directory does not exist: {}", directory);
+                return null;
+            }
+            FileTime modified = modifiedTime(directory);
+            try (Stream<Path> children = Files.list(directory)) {
+                return new Listing(modified, children.filter(Files::isDirectory).sorted().collect(Collectors.toList()));
+            } catch (IOException e) {
+                logger.error("Failed to list skill directories: {}", directory, e);
+                return new Listing(modified, new ArrayList<>());
+            }
+        }
+
+        private boolean isCurrent(Path directory) {
+            return Objects.equals(modified, modifiedTime(directory));
+        }
+    }
+}
@@ -8,11 +8,7 @@ import org.unreal.agent.skill.core.AgentSkill;
 import org.unreal.agent.skill.AgentSkillManager;
 import org.unreal.agent.skill.vo.SkillMetadataVo;
 
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -29,22 +25,13 @@ public class SkillMetadataService {
     @Autowired
     private AgentSkillManager skillManager;
 
+    @Autowired
+    private SkillMetadataCatalog metadataCatalog;
+
     public SkillMetadataVo getMetadata(Path skillPath) {
         try {
-            Path skillMd = skillPath.resolve("SKILL.md");
-            if (!Files.exists(skillMd)) {
-                return null;
-            }
-
-            SkillDescriptor descriptor = SkillMarkdownParser.parse(skillMd);
-            String discoveryInfo = String.format("%s: %s",
-                    descriptor.getName(),
-                    truncateDescription(descriptor.getDescription()));
-
-            Map<String, Object> fullMetadata = buildFullMetadata(descriptor, skillMd, skillPath);
-
-            return new SkillMetadataVo(discoveryInfo, fullMetadata, descriptor.getInstructions());
-
+            SkillMetadataCatalog.Entry entry = metadataCatalog.get(skillPath);
+            return entry != null ? toMetadata(entry) : null;
         } catch (Exception e) {
             logger.error("Failed to get skill metadata: {}", skillPath, e);
             return null;
@@ -52,16 +39,8 @@ public class SkillMetadataService {
     }
 
     public List<SkillMetadataVo> listSkills(Path skillsDir) {
-        if (!Files.exists(skillsDir) || !Files.isDirectory(skillsDir)) {
-            logger.warn("Skills directory does not exist: {}", skillsDir);
-            return Collections.emptyList();
-        }
-
-        return java.util.Arrays.stream(skillsDir.toFile().listFiles())
-                .filter(java.io.File::isDirectory)
-                .map(java.io.File::toPath)
-                .map(this::getMetadata)
-                .filter(java.util.Objects::nonNull)
+        return metadataCatalog.list(skillsDir).stream()
+                .map(this::toMetadata)
                 .sorted(java.util.Comparator.comparing(SkillMetadataVo::getName))
                 .collect(Collectors.toList());
     }
@@ -105,7 +84,17 @@ public class SkillMetadataService {
         return info;
     }
 
-    private Map<String, Object> buildFullMetadata(SkillDescriptor descriptor, Path skillMd, Path skillPath) {
+    private SkillMetadataVo toMetadata(SkillMetadataCatalog.Entry entry) {
+        SkillDescriptor descriptor = entry.getDescriptor();
+        String discoveryInfo = String.format("%s: %s",
+                descriptor.getName(),
+                truncateDescription(descriptor.getDescription()));
+
+        return new SkillMetadataVo(discoveryInfo, buildFullMetadata(entry), descriptor::getInstructions);
+    }
+
+    private Map<String, Object> buildFullMetadata(SkillMetadataCatalog.Entry entry) {
+        SkillDescriptor descriptor = entry.getDescriptor();
         Map<String, Object> fullMetadata = new ConcurrentHashMap<>();
         fullMetadata.put("name", descriptor.getName());
         fullMetadata.put("description", descriptor.getDescription());
@@ -116,12 +105,12 @@ public class SkillMetadataService {
         fullMetadata.put("keywords", descriptor.getKeywords());
         fullMetadata.put("allowed_tools", descriptor.getAllowedTools());
         fullMetadata.put("extra_metadata", descriptor.getExtraMetadata());
-        fullMetadata.put("file_size", getFileSize(skillMd));
-        fullMetadata.put("last_modified", getFileModified(skillMd));
-        fullMetadata.put("has_scripts", Files.exists(skillPath.resolve("scripts")));
-        fullMetadata.put("has_references", Files.exists(skillPath.resolve("references")));
-        fullMetadata.put("has_assets", Files.exists(skillPath.resolve("assets")));
-        fullMetadata.put("has_examples", Files.exists(skillPath.resolve("examples")));
+        fullMetadata.put("file_size", getFileSize(entry.getSkillMdSize()));
+        fullMetadata.put("last_modified", entry.getSkillMdModified().toString());
+        fullMetadata.put("has_scripts", entry.hasScripts());
+        fullMetadata.put("has_references", entry.hasReferences());
+        fullMetadata.put("has_assets", entry.hasAssets());
+        fullMetadata.put("has_examples", entry.hasExamples());
         return fullMetadata;
     }
 
@@ -132,22 +121,9 @@ public class SkillMetadataService {
         return description.substring(0, 147) + "...";
     }
 
-    private String getFileSize(Path file) {
-        try {
-            long bytes = Files.size(file);
-            if (bytes < 1024) return bytes + " B";
-            if (bytes < 1024 * 1024) return (bytes / 1024) + " KB";
-            return (bytes / (1024 * 1024)) + " MB";
-        } catch (IOException e) {
-            return "unknown";
-        }
-    }
-
-    private String getFileModified(Path file) {
-        try {
-            return Files.getLastModifiedTime(file).toString();
-        } catch (IOException e) {
-            return "unknown";
-        }
+    private String getFileSize(long bytes) {
+        if (bytes < 1024) return bytes + " B";
+        if (bytes < 1024 * 1024) return (bytes / 1024) + " KB";
+        return (bytes / (1024 * 1024)) + " MB";
     }
 }
\ No newline at end of file
@@ -0,0 +1,184 @@
+package org.unreal.agent.skill.folder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Modification-time snapshot of a skills directory tree.
+ *
+ * <p>Each skill folder is reduced to a fingerprint of the paths, sizes and modification times of
+ * everything below it, including nested directories such as {@code scripts/} and {@code references/}.
+ * Comparing fingerprints finds the skill folders that were added, removed or changed since the last
+ * scan. This replaces file system notifications where the platform cannot provide them, and recovers
+ * changes from notifications the platform dropped.
+ */
+public class SkillTreeScanner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillTreeScanner.class);
+
+    private final Path root;
+    private final Map<Path, Long> fingerprints = new ConcurrentHashMap<>();
+
+    /**
+     * @param skillsDirectory the directory containing skill folders
+     */
+    public SkillTreeScanner(Path skillsDirectory) {
+        this.root = skillsDirectory.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Scan all skill folders.
+     *
+     * @return skill folders added, removed or changed since the previous scan
+     */
+    public Set<Path> scan() {
+        Set<Path> changed = new HashSet<>();
+        Set<Path> present = new HashSet<>();
+        for (Path skillFolder : listSkillFolders()) {
+            present.add(skillFolder);
+            if (refresh(skillFolder)) {
+                changed.add(skillFolder);
+            }
+        }
+        for (Path known : fingerprints.keySet()) {
+            if (!present.contains(known) && fingerprints.remove(known) != null) {
+                changed.add(known);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Scan only the part of the tree a path belongs to: the whole directory for the skills directory
+     * itself, otherwise the skill folder containing the path.
+     *
+     * @param path a path in the skills directory tree
+     * @return skill folders added, removed or changed since they were last scanned
+     */
+    public Set<Path> rescan(Path path) {
+        Path normalized = path.toAbsolutePath().normalize();
+        if (normalized.equals(root)) {
+            return scan();
+        }
+        Path skillFolder = skillFolderOf(normalized);
+        if (skillFolder == null) {
+            return Set.of();
+        }
+        return refresh(skillFolder) ? Set.of(skillFolder) : Set.of();
+    }
+
+    /**
+     * Record the current state of a skill folder, e.g. after it has been reloaded.
+     *
+     * @param skillFolder the skill folder
+     * @return true if the folder was added, removed or changed since it was last recorded
+     */
+    public boolean refresh(Path skillFolder) {
+        Path folder = skillFolder.toAbsolutePath().normalize();
+        Long current = fingerprint(folder);
+        Long previous = current != null ? fingerprints.put(folder, current) : fingerprints.remove(folder);
+        return !Objects.equals(previous, current);
+    }
+
+    /**
+     * Map a path in the tree to the skill folder it belongs to.
+     *
+     * @param path a created, modified or deleted path
+     * @return the skill folder, or null if the path is not inside a skill folder
+     */
+    public Path skillFolderOf(Path path) {
+        Path normalized = path.toAbsolutePath().normalize();
+        if (!normalized.startsWith(root) || normalized.equals(root)) {
+            return null;
+        }
+
+        Path relative = root.relativize(normalized);
+        Path skillFolder = root.resolve(relative.getName(0));
+        // Hidden entries such as the descriptor index and editor swap files are not skills
+        if (skillFolder.getFileName().toString().startsWith(".")) {
+            return null;
+        }
+        if (relative.getNameCount() == 1 && Files.isRegularFile(skillFolder)) {
+            return null;
+        }
+        return skillFolder;
+    }
+
+    /**
+     * @return number of skill folders in the snapshot
+     */
+    public int size() {
+        return fingerprints.size();
+    }
+
+    private List<Path> listSkillFolders() {
+        try (Stream<Path> children = Files.list(root)) {
+            return children
+                    .filter(Files::isDirectory)
+                    .filter(child -> !child.getFileName().toString().startsWith("."))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            logger.warn("Failed to scan skills directory: {}", root, e);
+            return List.of();
+        }
+    }
+
+    /**
+     * Combine the entries of a folder tree into one value. Entry hashes are summed so the result does
+     * not depend on the order the file system lists them in.
+     *
+     * @return the fingerprint, or null if the folder does not exist
+     */
+    private static Long fingerprint(Path folder) {
+        if (!Files.isDirectory(folder)) {
+            return null;
+        }
+        long[] sum = {0};
+        try {
+            Files.walkFileTree(folder, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+                    sum[0] += entryHash(folder.relativize(dir), attributes);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    sum[0] += entryHash(folder.relativize(file), attributes);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    // Deleted while scanning; the next scan sees the settled state
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            logger.debug("Failed to scan skill folder: {}", folder, e);
+        }
+        return sum[0];
+    }
+
+    private static long entryHash(Path relativePath, BasicFileAttributes attributes) {
+        long hash = relativePath.toString().hashCode();
+        hash = hash * 1_000_003L + attributes.size();
+        hash = hash * 1_000_003L + attributes.lastModifiedTime().toMillis();
+        return hash * 1_000_003L + (attributes.isDirectory() ? 1 : 0);
+    }
+}
@@ -30,7 +30,7 @@ public class SkillValidator {
                 return new SkillValidationResult(false, errors, warnings);
             }
 
-            SkillDescriptor descriptor = SkillMarkdownParser.parse(skillMd);
+            SkillDescriptor descriptor = SkillMarkdownParser.parseFrontmatter(skillMd);
             validateDescriptor(descriptor, skillPath, errors, warnings);
             validateFileSize(skillMd, warnings);
 
@@ -0,0 +1,64 @@
+package org.unreal.agent.skill.journal;
+
+/**
+ * One skill execution read back from a {@link SkillExecutionJournal}.
+ */
+public class JournalRecord {
+
+    private final long timestamp;
+    private final String skillName;
+    private final String version;
+    private final long durationNanos;
+    private final byte status;
+    private final int parametersHash;
+    private final int requestHash;
+
+    public JournalRecord(long timestamp, String skillName, String version, long durationNanos, byte status,
+                         int parametersHash, int requestHash) {
+        this.timestamp = timestamp;
+        this.skillName = skillName;
+        this.version = version;
+        this.durationNanos = durationNanos;
+        this.status = status;
+        this.parametersHash = parametersHash;
+        this.requestHash = requestHash;
+    }
+
+    /**
+     * @return when the execution finished, in epoch milliseconds
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public String getSkillName() {
+        return skillName;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * @return one of the {@code SkillExecutionJournal.STATUS_} constants
+     */
+    public byte getStatus() {
+        return status;
+    }
+
+    public boolean isSuccess() {
+        return status == SkillExecutionJournal.STATUS_SUCCESS;
+    }
+
+    public int getParametersHash() {
+        return parametersHash;
+    }
+
+    public int getRequestHash() {
+        return requestHash;
+    }
+}
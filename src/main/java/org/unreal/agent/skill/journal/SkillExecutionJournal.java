@@ -0,0 +1,297 @@
+package org.unreal.agent.skill.journal;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.unreal.agent.skill.config.AgentSkillProperties;
+import org.unreal.agent.skill.core.AgentSkill;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Append-only binary journal of skill executions, enabled with {@code agent.skill.journal-enabled}.
+ *
+ * <p>The journal is a directory of segment files written through memory-mapped buffers. Every
+ * execution takes one fixed-size record slot claimed with a single atomic add, so recording costs a
+ * few stores and no locks, allocations or system calls; only rolling over to a new segment is
+ * synchronized. Records are not forced to disk one by one: a full segment is flushed by a background
+ * thread once its successor is installed, the current one on shutdown, and the operating system writes
+ * back dirty pages in between.
+ *
+ * <p>Segment layout: a {@value #RECORD_SIZE}-byte header (magic, format version, record size,
+ * creation time) followed by records of {@value #RECORD_SIZE} bytes:
+ *
+ * <pre>
+ *  0  byte   marker, written last; 0 marks a slot that was never completed
+ *  1  byte   status: 0 failure result, 1 success, 2 exception
+ *  2  byte   skill name length, 3  byte  version length
+ *  4  int    hash of the parameters
+ *  8  long   timestamp, epoch milliseconds
+ * 16  long   duration, nanoseconds
+ * 24  int    hash of the request
+ * 28  int    reserved
+ * 32  bytes  skill name, UTF-8, at most 64 bytes
+ * 96  bytes  version, UTF-8, at most 32 bytes
+ * </pre>
+ *
+ * Skill names follow the agentskills.io limit of 64 characters; longer names and versions are cut.
+ * Use {@link SkillJournalReader} or {@link SkillJournalCli} to read a journal.
+ */
+@Component
+@ConditionalOnProperty(prefix = "agent.skill", name = "journal-enabled", havingValue = "true")
+public class SkillExecutionJournal implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillExecutionJournal.class);
+
+    static final int MAGIC = 0x534B4A31;
+    static final short FORMAT_VERSION = 1;
+    static final int RECORD_SIZE = 128;
+    static final int MAX_NAME_LENGTH = 64;
+    static final int MAX_VERSION_LENGTH = 32;
+    static final String SEGMENT_PREFIX = "skill-journal-";
+    static final String SEGMENT_SUFFIX = ".log";
+
+    static final int OFFSET_STATUS = 1;
+    static final int OFFSET_NAME_LENGTH = 2;
+    static final int OFFSET_VERSION_LENGTH = 3;
+    static final int OFFSET_PARAMETERS_HASH = 4;
+    static final int OFFSET_TIMESTAMP = 8;
+    static final int OFFSET_DURATION = 16;
+    static final int OFFSET_REQUEST_HASH = 24;
+    static final int OFFSET_NAME = 32;
+    static final int OFFSET_VERSION = OFFSET_NAME + MAX_NAME_LENGTH;
+
+    public static final byte STATUS_FAILURE = 0;
+    public static final byte STATUS_SUCCESS = 1;
+    public static final byte STATUS_EXCEPTION = 2;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final Map<String, byte[]> encodedNames = new ConcurrentHashMap<>();
+    private final Map<String, byte[]> encodedVersions = new ConcurrentHashMap<>();
+    private final ExecutorService flusher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "skill-journal-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Segment current;
+    private long nextSegmentIndex;
+
+    @Autowired
+    public SkillExecutionJournal(AgentSkillProperties properties) {
+        this(Paths.get(properties.getJournalDirectory()), properties.getJournalSegmentSizeMb() * 1024 * 1024,
+                properties.getJournalMaxSegments());
+    }
+
+    /**
+     * @param directory the journal directory, created if missing
+     * @param segmentSize size of each segment file in bytes, rounded down to whole records
+     * @param maxSegments number of segments to keep, deleting the oldest on rollover; 0 keeps all
+     */
+    public SkillExecutionJournal(Path directory, int segmentSize, int maxSegments) {
+        if (segmentSize < 2 * RECORD_SIZE) {
+            throw new IllegalArgumentException("Segment size must hold at least one record: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize / RECORD_SIZE * RECORD_SIZE;
+        this.maxSegments = maxSegments;
+    }
+
+    /**
+     * Start a new segment after the existing ones.
+     *
+     * @throws IOException if the directory or segment cannot be created
+     */
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        if (current != null) {
+            return;
+        }
+        Files.createDirectories(directory);
+        List<Path> segments = SkillJournalReader.listSegments(directory);
+        nextSegmentIndex = segments.isEmpty() ? 0 : segmentIndex(segments.get(segments.size() - 1)) + 1;
+        current = createSegment();
+        logger.info("Opened skill execution journal in {}", directory.toAbsolutePath());
+    }
+
+    /**
+     * Record an execution of a skill.
+     *
+     * @param skill the executed skill
+     * @param request the request, only its hash is recorded
+     * @param parameters the parameters, only their hash is recorded
+     * @param status one of the {@code STATUS_} constants
+     * @param durationNanos execution duration
+     */
+    public void record(AgentSkill skill, String request, Map<String, Object> parameters, byte status, long durationNanos) {
+        record(skill.getName(), skill.getVersion(), request != null ? request.hashCode() : 0,
+                parameters != null ? parameters.hashCode() : 0, status, durationNanos);
+    }
+
+    /**
+     * Record an execution.
+     *
+     * @param skillName the skill name
+     * @param version the skill version
+     * @param requestHash hash of the request
+     * @param parametersHash hash of the parameters
+     * @param status one of the {@code STATUS_} constants
+     * @param durationNanos execution duration
+     */
+    public void record(String skillName, String version, int requestHash, int parametersHash, byte status, long durationNanos) {
+        long timestamp = System.currentTimeMillis();
+        byte[] name = encode(encodedNames, skillName, MAX_NAME_LENGTH);
+        byte[] encodedVersion = encode(encodedVersions, version, MAX_VERSION_LENGTH);
+        while (true) {
+            Segment segment = current;
+            if (segment == null) {
+                return;
+            }
+            int offset = segment.claim();
+            if (offset >= 0) {
+                MappedByteBuffer buffer = segment.buffer;
+                buffer.put(offset + OFFSET_STATUS, status);
+                buffer.put(offset + OFFSET_NAME_LENGTH, (byte) name.length);
+                buffer.put(offset + OFFSET_VERSION_LENGTH, (byte) encodedVersion.length);
+                buffer.putInt(offset + OFFSET_PARAMETERS_HASH, parametersHash);
+                buffer.putLong(offset + OFFSET_TIMESTAMP, timestamp);
+                buffer.putLong(offset + OFFSET_DURATION, durationNanos);
+                buffer.putInt(offset + OFFSET_REQUEST_HASH, requestHash);
+                buffer.put(offset + OFFSET_NAME, name);
+                buffer.put(offset + OFFSET_VERSION, encodedVersion);
+                buffer.put(offset, (byte) 1);
+                return;
+            }
+            roll(segment);
+        }
+    }
+
+    /**
+     * @return the journal directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Flush the current segment, wait for pending flushes of full segments and stop recording.
+     */
+    @PreDestroy
+    @Override
+    public synchronized void close() {
+        Segment segment = current;
+        current = null;
+        if (segment != null) {
+            segment.buffer.force();
+        }
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized void roll(Segment full) {
+        if (current != full) {
+            return;
+        }
+        try {
+            current = createSegment();
+        } catch (IOException e) {
+            current = null;
+            logger.error("Failed to roll over skill execution journal in {}; journaling stopped", directory, e);
+        }
+        // Writers blocked on the rollover continue in the new segment; the disk flush of the full one
+        // and the retention sweep run on the flusher thread.
+        flusher.execute(() -> retire(full));
+    }
+
+    private void retire(Segment full) {
+        try {
+            full.buffer.force();
+            deleteOldSegments();
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to flush or clean up skill execution journal segments in {}", directory, e);
+        }
+    }
+
+    private Segment createSegment() throws IOException {
+        Path file = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, nextSegmentIndex++, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            buffer.putInt(0, MAGIC);
+            buffer.putShort(4, FORMAT_VERSION);
+            buffer.putShort(6, (short) RECORD_SIZE);
+            buffer.putLong(8, System.currentTimeMillis());
+            return new Segment(buffer, segmentSize);
+        }
+    }
+
+    private void deleteOldSegments() throws IOException {
+        if (maxSegments <= 0) {
+            return;
+        }
+        List<Path> segments = SkillJournalReader.listSegments(directory);
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            Files.deleteIfExists(segments.get(i));
+        }
+    }
+
+    private static byte[] encode(Map<String, byte[]> cache, String value, int maxLength) {
+        String key = value != null ? value : "";
+        byte[] encoded = cache.get(key);
+        if (encoded == null) {
+            byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+            encoded = bytes.length > maxLength ? Arrays.copyOf(bytes, maxLength) : bytes;
+            cache.put(key, encoded);
+        }
+        return encoded;
+    }
+
+    static long segmentIndex(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * A mapped segment file and the next free record slot in it.
+     */
+    private static final class Segment {
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        private final AtomicInteger position = new AtomicInteger(RECORD_SIZE);
+
+        private Segment(MappedByteBuffer buffer, int capacity) {
+            this.buffer = buffer;
+            this.capacity = capacity;
+        }
+
+        private int claim() {
+            int offset = position.getAndAdd(RECORD_SIZE);
+            return offset <= capacity - RECORD_SIZE ? offset : -1;
+        }
+    }
+}
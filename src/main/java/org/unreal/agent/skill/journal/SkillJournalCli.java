@@ -0,0 +1,107 @@
+package org.unreal.agent.skill.journal;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Command line access to a skill execution journal. Needs only the framework jar on the class path:
+ *
+ * <pre>
+ * java -cp agent-skill-manager.jar org.unreal.agent.skill.journal.SkillJournalCli \
+ *     summary journal [--skill name] [--from epochMillis] [--to epochMillis]
+ * </pre>
+ *
+ * {@code scan} prints one tab-separated line per execution, {@code summary} one line per skill.
+ */
+public final class SkillJournalCli {
+
+    private static final String USAGE = "Usage: SkillJournalCli <scan|summary> <journal-directory>"
+            + " [--skill name] [--from epochMillis] [--to epochMillis]";
+
+    private SkillJournalCli() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    /**
+     * Run a command.
+     *
+     * @param args command line arguments
+     * @param out output of the command
+     * @param err usage and error messages
+     * @return the process exit code
+     * @throws IOException if the journal cannot be read
+     */
+    static int run(String[] args, PrintStream out, PrintStream err) throws IOException {
+        if (args.length < 2 || args.length % 2 != 0) {
+            err.println(USAGE);
+            return 2;
+        }
+        Path directory = Paths.get(args[1]);
+        Predicate<JournalRecord> filter = record -> true;
+        for (int i = 2; i < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--skill" -> filter = filter.and(record -> record.getSkillName().equals(value));
+                case "--from" -> {
+                    long from = Long.parseLong(value);
+                    filter = filter.and(record -> record.getTimestamp() >= from);
+                }
+                case "--to" -> {
+                    long to = Long.parseLong(value);
+                    filter = filter.and(record -> record.getTimestamp() < to);
+                }
+                default -> {
+                    err.println(USAGE);
+                    return 2;
+                }
+            }
+        }
+
+        SkillJournalReader reader = new SkillJournalReader(directory);
+        switch (args[0]) {
+            case "scan" -> {
+                Predicate<JournalRecord> accepted = filter;
+                out.println("timestamp\tskill\tversion\tstatus\tduration_us\tparameters_hash\trequest_hash");
+                reader.scan(record -> {
+                    if (accepted.test(record)) {
+                        out.printf(Locale.ROOT, "%s\t%s\t%s\t%s\t%.1f\t%08x\t%08x%n",
+                                Instant.ofEpochMilli(record.getTimestamp()), record.getSkillName(),
+                                record.getVersion(), statusName(record.getStatus()),
+                                record.getDurationNanos() / 1000.0, record.getParametersHash(),
+                                record.getRequestHash());
+                    }
+                });
+            }
+            case "summary" -> {
+                Map<String, SkillJournalReader.Summary> summaries = reader.aggregate(filter);
+                out.println("skill\tcount\tfailures\texceptions\tavg_us\tmax_us\tversions");
+                summaries.forEach((skill, summary) -> out.printf(Locale.ROOT, "%s\t%d\t%d\t%d\t%.1f\t%.1f\t%s%n",
+                        skill, summary.getCount(), summary.getFailures(), summary.getExceptions(),
+                        summary.getAverageNanos() / 1000.0, summary.getMaxNanos() / 1000.0,
+                        String.join(",", summary.getVersions())));
+            }
+            default -> {
+                err.println(USAGE);
+                return 2;
+            }
+        }
+        return 0;
+    }
+
+    private static String statusName(byte status) {
+        return switch (status) {
+            case SkillExecutionJournal.STATUS_SUCCESS -> "success";
+            case SkillExecutionJournal.STATUS_EXCEPTION -> "exception";
+            default -> "failure";
+        };
+    }
+}
@@ -0,0 +1,188 @@
+package org.unreal.agent.skill.journal;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static org.unreal.agent.skill.journal.SkillExecutionJournal.*;
+
+/**
+ * Reads the segments of a {@link SkillExecutionJournal} directory in the order they were written.
+ * Slots that were claimed but never completed, e.g. because the process stopped, are skipped.
+ */
+public class SkillJournalReader {
+
+    private final Path directory;
+
+    public SkillJournalReader(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @param directory the journal directory
+     * @return the segment files, oldest first
+     * @throws IOException if the directory cannot be listed
+     */
+    public static List<Path> listSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(SkillJournalReader::isSegment).sorted().toList();
+        }
+    }
+
+    /**
+     * Pass every record to {@code consumer}, oldest segment first. Records within a segment are in the
+     * order their slots were claimed.
+     *
+     * @param consumer the record consumer
+     * @throws IOException if a segment cannot be read or is not a journal segment
+     */
+    public void scan(Consumer<JournalRecord> consumer) throws IOException {
+        for (Path segment : listSegments(directory)) {
+            scanSegment(segment, consumer);
+        }
+    }
+
+    /**
+     * Aggregate the records accepted by {@code filter} per skill.
+     *
+     * @param filter the records to include
+     * @return summary per skill name, sorted by name
+     * @throws IOException if a segment cannot be read or is not a journal segment
+     */
+    public Map<String, Summary> aggregate(Predicate<JournalRecord> filter) throws IOException {
+        Map<String, Summary> summaries = new TreeMap<>();
+        scan(record -> {
+            if (filter.test(record)) {
+                summaries.computeIfAbsent(record.getSkillName(), name -> new Summary()).add(record);
+            }
+        });
+        return summaries;
+    }
+
+    private static void scanSegment(Path segment, Consumer<JournalRecord> consumer) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.capacity() < RECORD_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a skill journal segment: " + segment);
+        }
+        if (buffer.getShort(4) != FORMAT_VERSION || buffer.getShort(6) != RECORD_SIZE) {
+            throw new IOException("Unsupported skill journal format in " + segment);
+        }
+        byte[] text = new byte[MAX_NAME_LENGTH];
+        for (int offset = RECORD_SIZE; offset <= buffer.capacity() - RECORD_SIZE; offset += RECORD_SIZE) {
+            if (buffer.get(offset) == 0) {
+                continue;
+            }
+            int nameLength = Math.min(buffer.get(offset + OFFSET_NAME_LENGTH) & 0xFF, MAX_NAME_LENGTH);
+            int versionLength = Math.min(buffer.get(offset + OFFSET_VERSION_LENGTH) & 0xFF, MAX_VERSION_LENGTH);
+            buffer.get(offset + OFFSET_NAME, text, 0, nameLength);
+            String skillName = new String(text, 0, nameLength, StandardCharsets.UTF_8);
+            buffer.get(offset + OFFSET_VERSION, text, 0, versionLength);
+            String version = new String(text, 0, versionLength, StandardCharsets.UTF_8);
+            consumer.accept(new JournalRecord(
+                    buffer.getLong(offset + OFFSET_TIMESTAMP),
+                    skillName,
+                    version,
+                    buffer.getLong(offset + OFFSET_DURATION),
+                    buffer.get(offset + OFFSET_STATUS),
+                    buffer.getInt(offset + OFFSET_PARAMETERS_HASH),
+                    buffer.getInt(offset + OFFSET_REQUEST_HASH)));
+        }
+    }
+
+    private static boolean isSegment(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    /**
+     * Executions of one skill.
+     */
+    public static class Summary {
+        private long count;
+        private long failures;
+        private long exceptions;
+        private long totalNanos;
+        private long maxNanos;
+        private long firstTimestamp = Long.MAX_VALUE;
+        private long lastTimestamp = Long.MIN_VALUE;
+        private final List<String> versions = new ArrayList<>();
+
+        private void add(JournalRecord record) {
+            count++;
+            if (record.getStatus() == STATUS_FAILURE) {
+                failures++;
+            } else if (record.getStatus() == STATUS_EXCEPTION) {
+                exceptions++;
+            }
+            totalNanos += record.getDurationNanos();
+            maxNanos = Math.max(maxNanos, record.getDurationNanos());
+            firstTimestamp = Math.min(firstTimestamp, record.getTimestamp());
+            lastTimestamp = Math.max(lastTimestamp, record.getTimestamp());
+            if (!versions.contains(record.getVersion())) {
+                versions.add(record.getVersion());
+            }
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return executions that returned a failed result
+         */
+        public long getFailures() {
+            return failures;
+        }
+
+        /**
+         * @return executions that threw an exception
+         */
+        public long getExceptions() {
+            return exceptions;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getAverageNanos() {
+            return count > 0 ? totalNanos / count : 0;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public long getFirstTimestamp() {
+            return firstTimestamp;
+        }
+
+        public long getLastTimestamp() {
+            return lastTimestamp;
+        }
+
+        /**
+         * @return the versions seen, in order of first appearance
+         */
+        public List<String> getVersions() {
+            return versions;
+        }
+    }
+}
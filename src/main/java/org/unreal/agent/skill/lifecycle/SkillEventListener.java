@@ -0,0 +1,33 @@
+package org.unreal.agent.skill.lifecycle;
+
+import org.unreal.agent.skill.lifecycle.event.SkillExecutionRecord;
+
+import java.util.List;
+
+/**
+ * Receives skill executions in batches from the {@link SkillEventManager}. Beans implementing this
+ * interface are picked up automatically.
+ *
+ * <p>With the default async event mode batches are delivered on the event dispatcher thread, so a slow
+ * listener delays other listeners but never a skill call. Records may be dropped or sampled when the
+ * event buffer fills up; see {@code agent.skill.event-overflow-policy}.
+ */
+public interface SkillEventListener {
+
+    /**
+     * Handle a batch of executions, in publishing order. The list must not be kept after returning.
+     *
+     * @param executions the executions
+     */
+    void onSkillExecutions(List<SkillExecutionRecord> executions);
+
+    /**
+     * Whether this listener needs the request, parameters and result of each execution. Recording
+     * payloads keeps them reachable until the batch is delivered.
+     *
+     * @return true to receive payloads
+     */
+    default boolean isPayloadRequired() {
+        return false;
+    }
+}
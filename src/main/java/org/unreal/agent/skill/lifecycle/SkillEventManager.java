@@ -1,55 +1,255 @@
 package org.unreal.agent.skill.lifecycle;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
+import org.unreal.agent.skill.config.AgentSkillProperties;
 import org.unreal.agent.skill.core.AgentSkill;
 import org.unreal.agent.skill.core.AgentSkillResult;
 import org.unreal.agent.skill.lifecycle.event.SkillExecutedEvent;
+import org.unreal.agent.skill.lifecycle.event.SkillExecutionRecord;
 import org.unreal.agent.skill.lifecycle.event.SkillLoadedEvent;
 import org.unreal.agent.skill.lifecycle.event.SkillUnloadedEvent;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Component responsible for publishing skill-related events.
+ *
+ * <p>Load and unload events are published synchronously. Execution events are on the hot path: in the
+ * default async event mode the calling thread only appends a {@link SkillExecutionRecord} to a bounded
+ * lock-free ring buffer, and a daemon dispatcher thread delivers the records in batches to
+ * {@link SkillEventListener}s and as {@link SkillExecutedEvent}s to Spring listeners. A full buffer drops
+ * new records; with the sample overflow policy records are already thinned out once the buffer is half
+ * full. Records carry only IDs and timings unless a listener asks for payloads. The dispatcher parks while
+ * the buffer is empty and is woken by the first record published after it went idle.
  */
 @Component
 public class SkillEventManager {
-    
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillEventManager.class);
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+
     @Autowired
     private ApplicationEventPublisher eventPublisher;
-    
+
+    @Autowired(required = false)
+    private AgentSkillProperties skillProperties;
+
+    @Autowired(required = false)
+    private List<SkillEventListener> listeners = List.of();
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder droppedEvents = new LongAdder();
+    private final LongAdder sampledOutEvents = new LongAdder();
+    private volatile SkillEventRingBuffer<SkillExecutionRecord> buffer;
+    private volatile boolean running;
+    private volatile boolean idle;
+    private volatile Thread dispatcher;
+    private boolean payloadsRequired;
+    private boolean sampling;
+    private int sampleRate;
+    private int batchSize;
+
+    /**
+     * Start the event dispatcher if execution events are delivered asynchronously.
+     *
+     * @throws IllegalArgumentException if the event sample rate or batch size is not positive
+     */
+    @PostConstruct
+    public synchronized void start() {
+        if (dispatcher != null) {
+            return;
+        }
+        AgentSkillProperties properties = skillProperties != null ? skillProperties : new AgentSkillProperties();
+        payloadsRequired = properties.isEventPayloadsEnabled()
+                || listeners.stream().anyMatch(SkillEventListener::isPayloadRequired);
+        if (!"async".equals(properties.getEventMode())) {
+            return;
+        }
+        if (properties.getEventSampleRate() <= 0) {
+            throw new IllegalArgumentException("Event sample rate must be positive: " + properties.getEventSampleRate());
+        }
+        if (properties.getEventBatchSize() <= 0) {
+            throw new IllegalArgumentException("Event batch size must be positive: " + properties.getEventBatchSize());
+        }
+        sampling = "sample".equals(properties.getEventOverflowPolicy());
+        sampleRate = properties.getEventSampleRate();
+        batchSize = properties.getEventBatchSize();
+        buffer = new SkillEventRingBuffer<>(properties.getEventBufferSize());
+        running = true;
+        dispatcher = new Thread(this::dispatchLoop, "skill-events");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+        logger.info("Started skill event dispatcher: buffer {}, batch {}, overflow policy {}",
+                buffer.capacity(), batchSize, properties.getEventOverflowPolicy());
+    }
+
+    /**
+     * Stop the event dispatcher after delivering the records already buffered. Execution events
+     * published afterwards, including by threads that raced with the shutdown, are delivered synchronously.
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        Thread thread = dispatcher;
+        if (thread == null) {
+            return;
+        }
+        buffer.close();
+        buffer = null;
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(SHUTDOWN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        dispatcher = null;
+    }
+
     /**
      * Publishes a skill loaded event.
-     * 
+     *
      * @param skill the loaded skill
      */
     public void publishSkillLoaded(AgentSkill skill) {
         eventPublisher.publishEvent(new SkillLoadedEvent(this, skill));
     }
-    
+
     /**
      * Publishes a skill unloaded event.
-     * 
+     *
      * @param skill the unloaded skill
      */
     public void publishSkillUnloaded(AgentSkill skill) {
         eventPublisher.publishEvent(new SkillUnloadedEvent(this, skill));
     }
-    
+
     /**
-     * Publishes a skill executed event.
-     * 
+     * Publishes a skill executed event. In the async event mode this only enqueues a record and never
+     * blocks; the record is dropped if the event buffer is full.
+     *
      * @param skill the executed skill
      * @param request the request that was processed
      * @param parameters the parameters used
      * @param result the execution result
      * @param executionTime the execution time in milliseconds
      */
-    public void publishSkillExecuted(AgentSkill skill, String request, 
-                                   Map<String, Object> parameters, 
+    public void publishSkillExecuted(AgentSkill skill, String request,
+                                   Map<String, Object> parameters,
                                    AgentSkillResult result, long executionTime) {
+        long id = sequence.incrementAndGet();
+        SkillEventRingBuffer<SkillExecutionRecord> pending = buffer;
+        if (pending == null) {
+            publishDirectly(id, skill, request, parameters, result, executionTime);
+            return;
+        }
+        if (sampling && pending.size() >= pending.capacity() / 2
+                && ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+            sampledOutEvents.increment();
+            return;
+        }
+        boolean withPayload = payloadsRequired;
+        SkillExecutionRecord record = new SkillExecutionRecord(id, skill.getName(), skill.getVersion(),
+                result != null && result.isSuccess(), System.currentTimeMillis(), executionTime,
+                withPayload ? request : null, withPayload ? parameters : null, withPayload ? result : null);
+        if (pending.offer(record)) {
+            if (idle) {
+                LockSupport.unpark(dispatcher);
+            }
+        } else if (pending.isClosed()) {
+            publishDirectly(id, skill, request, parameters, result, executionTime);
+        } else {
+            droppedEvents.increment();
+        }
+    }
+
+    private void publishDirectly(long id, AgentSkill skill, String request, Map<String, Object> parameters,
+                                 AgentSkillResult result, long executionTime) {
         eventPublisher.publishEvent(new SkillExecutedEvent(this, skill, request, parameters, result, executionTime));
+        if (!listeners.isEmpty()) {
+            deliver(List.of(new SkillExecutionRecord(id, skill.getName(), skill.getVersion(),
+                    result != null && result.isSuccess(), System.currentTimeMillis(), executionTime,
+                    request, parameters, result)));
+        }
+    }
+
+    /**
+     * @return execution records dropped because the event buffer was full
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    /**
+     * @return execution records skipped by the sample overflow policy
+     */
+    public long getSampledOutEvents() {
+        return sampledOutEvents.sum();
+    }
+
+    /**
+     * @return execution records waiting for the dispatcher
+     */
+    public int getPendingEvents() {
+        SkillEventRingBuffer<SkillExecutionRecord> pending = buffer;
+        return pending != null ? pending.size() : 0;
+    }
+
+    private void dispatchLoop() {
+        SkillEventRingBuffer<SkillExecutionRecord> pending = buffer;
+        List<SkillExecutionRecord> batch = new ArrayList<>(batchSize);
+        while (running) {
+            if (pending.drainTo(batch, batchSize) > 0) {
+                dispatch(batch);
+                continue;
+            }
+            idle = true;
+            if (pending.size() == 0 && running) {
+                LockSupport.park(this);
+            }
+            idle = false;
+        }
+        // The buffer is closed: drain every accepted record, waiting for claims still being published.
+        while (pending.size() > 0) {
+            if (pending.drainTo(batch, batchSize) > 0) {
+                dispatch(batch);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private void dispatch(List<SkillExecutionRecord> batch) {
+        deliver(Collections.unmodifiableList(batch));
+        for (SkillExecutionRecord record : batch) {
+            try {
+                eventPublisher.publishEvent(new SkillExecutedEvent(this, record));
+            } catch (RuntimeException e) {
+                logger.warn("Skill executed event listener failed for skill {}", record.getSkillName(), e);
+            }
+        }
+        batch.clear();
+    }
+
+    private void deliver(List<SkillExecutionRecord> executions) {
+        for (SkillEventListener listener : listeners) {
+            try {
+                listener.onSkillExecutions(executions);
+            } catch (RuntimeException e) {
+                logger.warn("Skill event listener {} failed", listener.getClass().getName(), e);
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,124 @@
+package org.unreal.agent.skill.lifecycle;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free queue of pending skill events, written by any number of request threads and drained
+ * by the single dispatcher thread of {@link SkillEventManager}.
+ *
+ * <p>Each slot carries a sequence number telling whose turn it is: a producer claims a position with one
+ * compare-and-set on the tail and publishes its element by advancing the slot's sequence; the consumer
+ * frees the slot by moving its sequence one lap ahead. A full buffer rejects the element instead of
+ * blocking the producer. Closing the buffer marks the tail so that every later claim fails, which lets the
+ * consumer drain exactly the elements that were accepted.
+ *
+ * @param <E> the element type
+ */
+final class SkillEventRingBuffer<E> {
+
+    private static final long CLOSED = 1L << 62;
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * @param requestedCapacity minimum number of elements; rounded up to a power of two
+     */
+    SkillEventRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2 || requestedCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 2 and 2^30: " + requestedCapacity);
+        }
+        this.capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Add an element without blocking. Safe to call from any thread.
+     *
+     * @param element the element
+     * @return false if the buffer is full or closed
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Move up to {@code maxElements} published elements into {@code batch}, in the order they were
+     * claimed. Must only be called by one thread at a time.
+     *
+     * @param batch the list to add to
+     * @param maxElements the maximum number of elements to move
+     * @return the number of elements moved
+     */
+    int drainTo(List<E> batch, int maxElements) {
+        long position = head.get();
+        int drained = 0;
+        while (drained < maxElements) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            batch.add(slots.get(index));
+            slots.lazySet(index, null);
+            sequences.set(index, position + capacity);
+            position++;
+            drained++;
+        }
+        head.set(position);
+        return drained;
+    }
+
+    /**
+     * Reject all further elements. Elements accepted before remain available to {@link #drainTo}.
+     */
+    void close() {
+        long position = tail.get();
+        while ((position & CLOSED) == 0 && !tail.compareAndSet(position, position | CLOSED)) {
+            position = tail.get();
+        }
+    }
+
+    boolean isClosed() {
+        return (tail.get() & CLOSED) != 0;
+    }
+
+    /**
+     * @return the number of claimed elements not yet drained; approximate while producers are writing
+     */
+    int size() {
+        long size = (tail.get() & ~CLOSED) - head.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -12,9 +12,13 @@ public abstract class SkillEvent extends ApplicationEvent {
     private final String skillName;
     
     public SkillEvent(Object source, AgentSkill skill) {
+        this(source, skill, skill != null ? skill.getName() : "unknown");
+    }
+    
+    protected SkillEvent(Object source, AgentSkill skill, String skillName) {
         super(source);
         this.skill = skill;
-        this.skillName = skill != null ? skill.getName() : "unknown";
+        this.skillName = skillName;
     }
     
     public AgentSkill getSkill() {
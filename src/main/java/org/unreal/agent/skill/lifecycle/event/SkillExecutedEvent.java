@@ -7,6 +7,10 @@ import java.util.Map;
 
 /**
  * Event published when a skill is executed.
+ *
+ * <p>In the async event mode it is published from the event dispatcher thread and built from a
+ * {@link SkillExecutionRecord}: {@link #getSkill()} is null, and the request, parameters and result are
+ * only set when payloads are recorded.
  */
 public class SkillExecutedEvent extends SkillEvent {
     
@@ -24,6 +28,14 @@ public class SkillExecutedEvent extends SkillEvent {
         this.executionTime = executionTime;
     }
     
+    public SkillExecutedEvent(Object source, SkillExecutionRecord record) {
+        super(source, null, record.getSkillName());
+        this.request = record.getRequest();
+        this.parameters = record.getParameters();
+        this.result = record.getResult();
+        this.executionTime = record.getExecutionTime();
+    }
+    
     public String getRequest() {
         return request;
     }
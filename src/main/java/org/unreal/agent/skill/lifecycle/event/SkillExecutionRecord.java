@@ -0,0 +1,100 @@
+package org.unreal.agent.skill.lifecycle.event;
+
+import org.unreal.agent.skill.core.AgentSkillResult;
+
+import java.util.Map;
+
+/**
+ * Lightweight record of one skill execution, delivered in batches to
+ * {@link org.unreal.agent.skill.lifecycle.SkillEventListener}s.
+ *
+ * <p>The request, parameters and result are only kept when a listener asks for payloads; otherwise
+ * they are null and the record holds no reference to data of the call.
+ */
+public class SkillExecutionRecord {
+
+    private final long sequence;
+    private final String skillName;
+    private final String skillVersion;
+    private final boolean success;
+    private final long timestamp;
+    private final long executionTime;
+    private final String request;
+    private final Map<String, Object> parameters;
+    private final AgentSkillResult result;
+
+    public SkillExecutionRecord(long sequence, String skillName, String skillVersion, boolean success,
+                                long timestamp, long executionTime, String request,
+                                Map<String, Object> parameters, AgentSkillResult result) {
+        this.sequence = sequence;
+        this.skillName = skillName;
+        this.skillVersion = skillVersion;
+        this.success = success;
+        this.timestamp = timestamp;
+        this.executionTime = executionTime;
+        this.request = request;
+        this.parameters = parameters;
+        this.result = result;
+    }
+
+    /**
+     * @return the number of the execution, increasing in publishing order; gaps mark dropped records
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public String getSkillName() {
+        return skillName;
+    }
+
+    public String getSkillVersion() {
+        return skillVersion;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    /**
+     * @return when the execution finished, in epoch milliseconds
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return the execution time in milliseconds
+     */
+    public long getExecutionTime() {
+        return executionTime;
+    }
+
+    /**
+     * @return the request, null unless payloads are recorded
+     */
+    public String getRequest() {
+        return request;
+    }
+
+    /**
+     * @return the parameters, null unless payloads are recorded
+     */
+    public Map<String, Object> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * @return the result, null unless payloads are recorded
+     */
+    public AgentSkillResult getResult() {
+        return result;
+    }
+
+    /**
+     * @return whether the request, parameters and result were recorded
+     */
+    public boolean hasPayload() {
+        return result != null;
+    }
+}
@@ -4,10 +4,24 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.unreal.agent.skill.core.AgentSkill;
 import org.unreal.agent.skill.core.AgentSkillResult;
+import org.unreal.agent.skill.core.SkillResultSink;
+import org.unreal.agent.skill.core.StreamingAgentSkill;
+import org.unreal.agent.skill.execution.SkillBulkheadRegistry;
+import org.unreal.agent.skill.execution.SkillExecutor;
+import org.unreal.agent.skill.execution.SkillRequestCoalescer;
+import org.unreal.agent.skill.execution.SkillResultMemoizer;
+import org.unreal.agent.skill.journal.SkillExecutionJournal;
 import org.unreal.agent.skill.lifecycle.SkillEventManager;
+import org.unreal.agent.skill.metrics.SkillMetrics;
+import org.unreal.agent.skill.routing.SkillMatch;
+import org.unreal.agent.skill.routing.SkillRouter;
+import org.unreal.agent.skill.routing.SkillVersionRegistry;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Default implementation of SkillManager that manages skills in memory.
@@ -16,14 +30,36 @@ import java.util.concurrent.ConcurrentHashMap;
 public class DefaultSkillManager implements SkillManager {
     
     private final Map<String, AgentSkill> skills = new ConcurrentHashMap<>();
+    private final SkillRouter router = new SkillRouter();
+    private final SkillVersionRegistry versions = new SkillVersionRegistry();
+    private final SkillBulkheadRegistry bulkheads = new SkillBulkheadRegistry();
+    private final SkillRequestCoalescer coalescer = new SkillRequestCoalescer();
     
     @Autowired(required = false)
     private SkillEventManager eventManager;
     
+    @Autowired(required = false)
+    private volatile SkillExecutor skillExecutor;
+    
+    @Autowired(required = false)
+    private SkillResultMemoizer resultMemoizer;
+    
+    @Autowired(required = false)
+    private SkillMetrics metrics;
+    
+    @Autowired(required = false)
+    private SkillExecutionJournal journal;
+    
     @Override
     public void registerSkill(AgentSkill skill) {
         Objects.requireNonNull(skill, "Skill cannot be null");
         skills.put(skill.getName(), skill);
+        router.register(skill);
+        bulkheads.register(skill);
+        // A secondary version registered as primary is promoted
+        versions.unregister(skill.getName(), skill.getVersion());
+        // Results of the code this registration replaces must not be served any more
+        invalidateResults(skill.getName());
         
         // Publish event if event manager is available
         if (eventManager != null) {
@@ -34,11 +70,106 @@ public class DefaultSkillManager implements SkillManager {
     @Override
     public void unregisterSkill(String skillName) {
         AgentSkill removedSkill = skills.remove(skillName);
+        router.unregister(skillName);
+        bulkheads.unregister(skillName);
+        List<AgentSkill> removedVersions = versions.unregisterAll(skillName);
+        invalidateResults(skillName);
         
         // Publish event if event manager is available and skill was removed
-        if (eventManager != null && removedSkill != null) {
-            eventManager.publishSkillUnloaded(removedSkill);
+        if (eventManager != null) {
+            if (removedSkill != null) {
+                eventManager.publishSkillUnloaded(removedSkill);
+            }
+            removedVersions.forEach(eventManager::publishSkillUnloaded);
+        }
+    }
+
+    @Override
+    public void registerSkillVersion(AgentSkill skill) {
+        Objects.requireNonNull(skill, "Skill cannot be null");
+        AgentSkill primary = skills.get(skill.getName());
+        if (primary == null || Objects.equals(primary.getVersion(), skill.getVersion())) {
+            registerSkill(skill);
+            return;
+        }
+        versions.register(skill);
+        invalidateResults(skill.getName());
+        
+        if (eventManager != null) {
+            eventManager.publishSkillLoaded(skill);
+        }
+    }
+
+    @Override
+    public boolean unregisterSkillVersion(String skillName, String version) {
+        AgentSkill primary = skills.get(skillName);
+        if (primary != null && Objects.equals(primary.getVersion(), version)) {
+            if (!versions.getVersions(skillName).isEmpty()) {
+                return false;
+            }
+            unregisterSkill(skillName);
+            return true;
+        }
+        
+        AgentSkill removed = versions.unregister(skillName, version);
+        if (removed != null) {
+            invalidateResults(skillName);
+        }
+        if (eventManager != null && removed != null) {
+            eventManager.publishSkillUnloaded(removed);
+        }
+        return removed != null;
+    }
+
+    @Override
+    public AgentSkill getSkill(String name, String version) {
+        AgentSkill primary = skills.get(name);
+        if (primary != null && Objects.equals(primary.getVersion(), version)) {
+            return primary;
+        }
+        return versions.get(name, version);
+    }
+
+    @Override
+    public List<AgentSkill> getSkillVersions(String name) {
+        AgentSkill primary = skills.get(name);
+        if (primary == null) {
+            return List.of();
         }
+        List<AgentSkill> all = new ArrayList<>();
+        all.add(primary);
+        all.addAll(versions.getVersions(name));
+        return all;
+    }
+    
+    /**
+     * Split name-based executions of a skill between its registered versions.
+     * Each execution goes to a version with probability proportional to its weight; pinned
+     * executions through {@link #executeSkillVersion} are not affected. All versions share the
+     * skill's bulkhead.
+     *
+     * @param skillName the skill name
+     * @param weights relative weight per version; empty to send all traffic to the primary version
+     * @throws IllegalArgumentException if the skill or a version is not registered, or the weights are invalid
+     */
+    public void setTrafficSplit(String skillName, Map<String, Integer> weights) {
+        if (!skills.containsKey(skillName)) {
+            throw new IllegalArgumentException("Skill not found: " + skillName);
+        }
+        for (String version : weights.keySet()) {
+            if (getSkill(skillName, version) == null) {
+                throw new IllegalArgumentException("Skill version not found: " + skillName + "@" + version);
+            }
+        }
+        versions.setWeights(skillName, weights);
+    }
+    
+    /**
+     * @param skillName the skill name
+     * @return weight per version, empty if all traffic goes to the primary version
+     */
+    public Map<String, Integer> getTrafficSplit(String skillName) {
+        return versions.getWeights(skillName);
     }
     
     @Override
@@ -53,10 +184,24 @@ public class DefaultSkillManager implements SkillManager {
     
     @Override
     public AgentSkill findSkillForRequest(String request) {
-        return skills.values().stream()
-                .filter(skill -> skill.canHandle(request))
-                .findFirst()
-                .orElse(null);
+        if (metrics == null) {
+            return router.route(request);
+        }
+        long start = System.nanoTime();
+        AgentSkill skill = router.route(request);
+        metrics.recordRouting(System.nanoTime() - start, skill != null);
+        return skill;
+    }
+
+    @Override
+    public long getRegistryVersion() {
+        // Every change to the primary skills is mirrored in the router
+        return router.getVersion();
+    }
+    
+    @Override
+    public List<SkillMatch> rankSkillsForRequest(String request, int k) {
+        return router.rank(request, k);
     }
     
     @Override
@@ -69,7 +214,35 @@ public class DefaultSkillManager implements SkillManager {
                     .build();
         }
         
-        return executeSkill(skill, request, parameters);
+        return executeWithinLimits(versions.select(skill), request, parameters);
+    }
+    
+    @Override
+    public CompletableFuture<AgentSkillResult> executeSkillAsync(String skillName, String request, Map<String, Object> parameters) {
+        AgentSkill skill = skills.get(skillName);
+        if (skill == null) {
+            return CompletableFuture.completedFuture(AgentSkillResult.failure()
+                    .message("Skill not found: " + skillName)
+                    .skillName(skillName)
+                    .build());
+        }
+        
+        AgentSkill selected = versions.select(skill);
+        return submit(selected, request, parameters, null, true);
+    }
+    
+    @Override
+    public CompletableFuture<AgentSkillResult> executeSkillStreaming(String skillName, String request, Map<String, Object> parameters, SkillResultSink sink) {
+        AgentSkill skill = skills.get(skillName);
+        if (skill == null) {
+            return CompletableFuture.completedFuture(AgentSkillResult.failure()
+                    .message("Skill not found: " + skillName)
+                    .skillName(skillName)
+                    .build());
+        }
+        
+        AgentSkill selected = versions.select(skill);
+        return submit(selected, request, parameters, sink, true);
     }
     
     @Override
@@ -81,22 +254,165 @@ public class DefaultSkillManager implements SkillManager {
                     .build();
         }
         
-        return executeSkill(skill, request, parameters);
+        return executeWithinLimits(versions.select(skill), request, parameters);
+    }
+    
+    @Override
+    public AgentSkillResult executeSkillVersion(String skillName, String version, String request, Map<String, Object> parameters) {
+        AgentSkill skill = getSkill(skillName, version);
+        if (skill == null) {
+            return AgentSkillResult.failure()
+                    .message("Skill version not found: " + skillName + "@" + version)
+                    .skillName(skillName)
+                    .build();
+        }
+
+        return executeWithinLimits(skill, request, parameters);
+    }
+    
+    /**
+     * Drop the memoized results of a skill.
+     *
+     * @param skillName the skill name
+     */
+    private void invalidateResults(String skillName) {
+        if (resultMemoizer != null) {
+            resultMemoizer.invalidate(skillName);
+        }
+    }
+    
+    /**
+     * Get the executor for asynchronous execution, creating one with default limits when the
+     * manager is used outside a Spring context.
+     *
+     * @return the skill executor
+     */
+    private SkillExecutor getSkillExecutor() {
+        SkillExecutor executor = skillExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = skillExecutor;
+                if (executor == null) {
+                    executor = new SkillExecutor();
+                    skillExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+    
+    /**
+     * Execute a skill on the calling thread, or through its bulkhead when the skill declares
+     * per-skill concurrency or timeout limits.
+     *
+     * @param skill the skill to execute
+     * @param request the request to process
+     * @param parameters the parameters for skill execution
+     * @return the result of skill execution
+     */
+    private AgentSkillResult executeWithinLimits(AgentSkill skill, String request, Map<String, Object> parameters) {
+        return submit(skill, request, parameters, null, false).join();
+    }
+    
+    /**
+     * Start an execution of a skill. Deterministic skills are answered from the execution cache and
+     * identical executions of coalescing skills join the one in flight before the bulkhead and
+     * executor are involved, so neither a cache hit nor a joining caller takes a slot. A cache hit is
+     * counted as such and not recorded as an execution.
+     *
+     * @param skill the skill to execute
+     * @param request the request to process
+     * @param parameters the parameters for skill execution
+     * @param sink receiver of partial results, null to execute without streaming
+     * @param async true to always run on the executor, false to run skills without per-skill limits on the calling thread
+     * @return future result of skill execution
+     */
+    private CompletableFuture<AgentSkillResult> submit(AgentSkill skill, String request, Map<String, Object> parameters,
+                                                       SkillResultSink sink, boolean async) {
+        if (streams(skill, sink)) {
+            return admit(skill, request, parameters, sink, async);
+        }
+        if (resultMemoizer != null && skill.isDeterministic()) {
+            AgentSkillResult cached = resultMemoizer.getCached(skill, request, parameters);
+            if (cached != null) {
+                // A hit is not an execution: count it, but keep it out of execution timers, the journal and events
+                if (metrics != null) {
+                    metrics.recordCacheHit(skill.getName());
+                }
+                return CompletableFuture.completedFuture(cached);
+            }
+            return resultMemoizer.submit(skill, request, parameters, () -> admit(skill, request, parameters, sink, async));
+        }
+        if (skill.isCoalescing()) {
+            return coalescer.submit(skill, request, parameters, () -> admit(skill, request, parameters, sink, async));
+        }
+        return admit(skill, request, parameters, sink, async);
+    }
+    
+    /**
+     * Run an execution through the skill's bulkhead, or directly on the calling thread when it is
+     * synchronous and the skill has no per-skill limits.
+     *
+     * @param skill the skill to execute
+     * @param request the request to process
+     * @param parameters the parameters for skill execution
+     * @param sink receiver of partial results, null to execute without streaming
+     * @param async true to always run on the executor
+     * @return future result of skill execution
+     */
+    private CompletableFuture<AgentSkillResult> admit(AgentSkill skill, String request, Map<String, Object> parameters,
+                                                      SkillResultSink sink, boolean async) {
+        if (!async && !bulkheads.isBounded(skill.getName())) {
+            return CompletableFuture.completedFuture(executeSkill(skill, request, parameters, sink));
+        }
+        return bulkheads.submit(getSkillExecutor(), skill.getName(), () -> executeSkill(skill, request, parameters, sink));
     }
     
     /**
-     * Execute a specific skill instance.
+     * Execute a specific skill instance, streaming partial results when the skill supports it.
      *
      * @param skill the skill to execute
      * @param request the request to process
      * @param parameters the parameters for skill execution
+     * @param sink receiver of partial results, null to execute without streaming
+     * @return the result of skill execution
+     */
+    private AgentSkillResult executeSkill(AgentSkill skill, String request, Map<String, Object> parameters, SkillResultSink sink) {
+        return recordExecution(skill, request, parameters, () -> streams(skill, sink)
+                ? ((StreamingAgentSkill) skill).executeStreaming(request, parameters, sink)
+                : skill.execute(request, parameters));
+    }
+    
+    private static boolean streams(AgentSkill skill, SkillResultSink sink) {
+        return sink != null && skill instanceof StreamingAgentSkill;
+    }
+    
+    /**
+     * Run an invocation of a skill and record it in metrics, the journal and execution events.
+     *
+     * @param skill the skill being executed
+     * @param request the request to process
+     * @param parameters the parameters for skill execution
+     * @param invocation produces the result of the execution
      * @return the result of skill execution
      */
-    private AgentSkillResult executeSkill(AgentSkill skill, String request, Map<String, Object> parameters) {
-        long startTime = System.currentTimeMillis();
+    private AgentSkillResult recordExecution(AgentSkill skill, String request, Map<String, Object> parameters,
+                                             Supplier<AgentSkillResult> invocation) {
+        onExecutionStarted(skill, request, parameters);
+        long startNanos = System.nanoTime();
         try {
-            AgentSkillResult result = skill.execute(request, parameters);
-            long executionTime = System.currentTimeMillis() - startTime;
+            AgentSkillResult result = invocation.get();
+            long elapsedNanos = System.nanoTime() - startNanos;
+            long executionTime = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            if (metrics != null) {
+                metrics.recordExecution(skill.getName(), elapsedNanos, result != null && result.isSuccess());
+            }
+            if (journal != null) {
+                journal.record(skill, request, parameters, result != null && result.isSuccess()
+                        ? SkillExecutionJournal.STATUS_SUCCESS : SkillExecutionJournal.STATUS_FAILURE, elapsedNanos);
+            }
+            
+            onExecutionCompleted(skill, request, parameters, result);
             
             // Publish event if event manager is available
             if (eventManager != null) {
@@ -105,11 +421,25 @@ public class DefaultSkillManager implements SkillManager {
             
             return result;
         } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
+            long elapsedNanos = System.nanoTime() - startNanos;
+            long executionTime = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            if (metrics != null) {
+                metrics.recordExecution(skill.getName(), elapsedNanos, false);
+            }
+            if (journal != null) {
+                journal.record(skill, request, parameters, SkillExecutionJournal.STATUS_EXCEPTION, elapsedNanos);
+            }
+            Map<String, Object> metadata = new LinkedHashMap<>();
+            metadata.put("error", e.getClass().getSimpleName());
+            if (request != null) {
+                metadata.put("request", request);
+            }
             AgentSkillResult result = AgentSkillResult.failure()
                     .message("Skill execution failed: " + e.getMessage())
                     .skillName(skill.getName())
+                    .metadata(metadata)
                     .build();
+            onExecutionFailed(skill, request, parameters, e);
             
             // Publish event even for failed executions
             if (eventManager != null) {
@@ -119,4 +449,37 @@ public class DefaultSkillManager implements SkillManager {
             return result;
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * Called before each execution, on the thread running it. Does nothing by default.
+     *
+     * @param skill the skill about to be executed
+     * @param request the request to process
+     * @param parameters the parameters for skill execution
+     */
+    protected void onExecutionStarted(AgentSkill skill, String request, Map<String, Object> parameters) {
+    }
+    
+    /**
+     * Called after an execution returned a result. Does nothing by default.
+     *
+     * @param skill the executed skill
+     * @param request the request that was processed
+     * @param parameters the parameters used
+     * @param result the execution result
+     */
+    protected void onExecutionCompleted(AgentSkill skill, String request, Map<String, Object> parameters,
+                                        AgentSkillResult result) {
+    }
+    
+    /**
+     * Called after an execution threw. Does nothing by default.
+     *
+     * @param skill the executed skill
+     * @param request the request that was processed
+     * @param parameters the parameters used
+     * @param error the exception thrown by the skill
+     */
+    protected void onExecutionFailed(AgentSkill skill, String request, Map<String, Object> parameters, Exception error) {
+    }
+}
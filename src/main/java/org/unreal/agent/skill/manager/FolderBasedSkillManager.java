@@ -37,6 +37,11 @@ public class FolderBasedSkillManager implements SkillManager {
                 .toList();
     }
     
+    @Override
+    public long getRegistryVersion() {
+        return skillLoader.getLoadedSkillsVersion();
+    }
+    
     @Override
     public AgentSkill getSkill(String name) {
         FolderBasedSkillLoader.LoadedSkill loadedSkill = skillLoader.getLoadedSkill(name);
@@ -2,9 +2,18 @@ package org.unreal.agent.skill.manager;
 
 import org.unreal.agent.skill.core.AgentSkill;
 import org.unreal.agent.skill.core.AgentSkillResult;
+import org.unreal.agent.skill.core.SkillResultSink;
+import org.unreal.agent.skill.core.StreamingAgentSkill;
+import org.unreal.agent.skill.execution.SkillInvocation;
+import org.unreal.agent.skill.routing.SkillMatch;
+import org.unreal.agent.skill.routing.SkillRouter;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Interface for skill managers that handle different types of skills.
@@ -48,6 +57,32 @@ public interface SkillManager {
      */
     AgentSkill findSkillForRequest(String request);
     
+    /**
+     * Get a counter that changes whenever {@link #getAllSkills()} changes, so callers that index the
+     * skills can tell when to index them again without comparing them.
+     * The default implementation returns -1, meaning the manager does not track changes.
+     *
+     * @return the registry version, or -1 if changes are not tracked
+     */
+    default long getRegistryVersion() {
+        return -1;
+    }
+    
+    /**
+     * Rank the skills most relevant to the given request.
+     * The default implementation indexes {@link #getAllSkills()} on every call; managers that keep
+     * a persistent {@link SkillRouter} should override it.
+     *
+     * @param request the request to rank skills for
+     * @param k the maximum number of matches to return
+     * @return up to {@code k} matches with their scores, best match first
+     */
+    default List<SkillMatch> rankSkillsForRequest(String request, int k) {
+        SkillRouter router = new SkillRouter();
+        getAllSkills().forEach(router::register);
+        return router.rank(request, k);
+    }
+    
     /**
      * Execute a skill by name.
      *
@@ -66,4 +101,141 @@ public interface SkillManager {
      * @return the result of skill execution
      */
     AgentSkillResult executeSkill(String request, Map<String, Object> parameters);
-}
\ No newline at end of file
+    
+    /**
+     * Register a skill next to the versions already registered under its name.
+     * The first version of a skill becomes its primary version; managers that run several versions
+     * side by side keep other versions as secondary versions that only receive pinned executions and
+     * their share of a traffic split. The default implementation keeps a single version per name
+     * and behaves like {@link #registerSkill(AgentSkill)}.
+     *
+     * @param skill the skill to register
+     */
+    default void registerSkillVersion(AgentSkill skill) {
+        registerSkill(skill);
+    }
+    
+    /**
+     * Unregister one version of a skill.
+     * The primary version can only be removed once it is the last version of the skill.
+     *
+     * @param skillName the skill name
+     * @param version the version to unregister
+     * @return true if the version was unregistered
+     */
+    default boolean unregisterSkillVersion(String skillName, String version) {
+        if (getSkill(skillName, version) == null) {
+            return false;
+        }
+        unregisterSkill(skillName);
+        return true;
+    }
+    
+    /**
+     * Get a specific version of a skill.
+     *
+     * @param name the skill name
+     * @param version the skill version
+     * @return the skill if that version is registered, null otherwise
+     */
+    default AgentSkill getSkill(String name, String version) {
+        AgentSkill skill = getSkill(name);
+        return skill != null && Objects.equals(skill.getVersion(), version) ? skill : null;
+    }
+    
+    /**
+     * Get all registered versions of a skill.
+     *
+     * @param name the skill name
+     * @return the primary version followed by any secondary versions, empty if the skill is not registered
+     */
+    default List<AgentSkill> getSkillVersions(String name) {
+        AgentSkill skill = getSkill(name);
+        return skill != null ? List.of(skill) : List.of();
+    }
+    
+    /**
+     * Execute a specific version of a skill, bypassing any traffic split.
+     *
+     * @param skillName the name of the skill to execute
+     * @param version the version to execute
+     * @param request the request to process
+     * @param parameters the parameters for skill execution
+     * @return the result of skill execution
+     */
+    default AgentSkillResult executeSkillVersion(String skillName, String version, String request, Map<String, Object> parameters) {
+        if (getSkill(skillName, version) == null) {
+            return AgentSkillResult.failure()
+                    .message("Skill version not found: " + skillName + "@" + version)
+                    .skillName(skillName)
+                    .build();
+        }
+        return executeSkill(skillName, request, parameters);
+    }
+    
+    /**
+     * Execute a skill by name without blocking the calling thread.
+     * The default implementation executes synchronously and returns a completed future; managers
+     * backed by a {@link org.unreal.agent.skill.execution.SkillExecutor} override it to enforce
+     * the configured concurrency limit and execution timeout.
+     *
+     * @param skillName the name of the skill to execute
+     * @param request the request to process
+     * @param parameters the parameters for skill execution
+     * @return future completed with the result of skill execution
+     */
+    default CompletableFuture<AgentSkillResult> executeSkillAsync(String skillName, String request, Map<String, Object> parameters) {
+        return CompletableFuture.completedFuture(executeSkill(skillName, request, parameters));
+    }
+    
+    /**
+     * Execute a skill by name, forwarding partial results of a {@link StreamingAgentSkill} to the sink.
+     * The default implementation does not stream: the sink receives nothing and only the final
+     * result is delivered.
+     *
+     * @param skillName the name of the skill to execute
+     * @param request the request to process
+     * @param parameters the parameters for skill execution
+     * @param sink receiver of partial results
+     * @return future completed with the final result of skill execution
+     */
+    default CompletableFuture<AgentSkillResult> executeSkillStreaming(String skillName, String request, Map<String, Object> parameters, SkillResultSink sink) {
+        return executeSkillAsync(skillName, request, parameters);
+    }
+    
+    /**
+     * Start a batch of skill calls in parallel.
+     * Each invocation goes through {@link #executeSkillAsync(String, String, Map)}, so executor and
+     * per-skill limits apply to every call.
+     *
+     * @param invocations the skill calls to execute
+     * @return one future per invocation, in request order
+     */
+    default List<CompletableFuture<AgentSkillResult>> submitBatch(List<SkillInvocation> invocations) {
+        List<CompletableFuture<AgentSkillResult>> futures = new ArrayList<>(invocations.size());
+        for (SkillInvocation invocation : invocations) {
+            if (invocation == null || invocation.getSkillName() == null || invocation.getSkillName().isBlank()) {
+                futures.add(CompletableFuture.completedFuture(AgentSkillResult.failure()
+                        .message("Skill name is required")
+                        .build()));
+                continue;
+            }
+            futures.add(executeSkillAsync(invocation.getSkillName(), invocation.getRequest(), invocation.getParameters()));
+        }
+        return futures;
+    }
+    
+    /**
+     * Execute a batch of skill calls in parallel and wait for all of them.
+     *
+     * @param invocations the skill calls to execute
+     * @return the results, in request order
+     */
+    default List<AgentSkillResult> executeBatch(List<SkillInvocation> invocations) {
+        List<AgentSkillResult> results = new ArrayList<>(invocations.size());
+        for (CompletableFuture<AgentSkillResult> future : submitBatch(invocations)) {
+            results.add(future.join());
+        }
+        return results;
+    }
+}
@@ -39,6 +39,12 @@ public class SpringBeanSkillManager implements SkillManager {
         return beans.values();
     }
     
+    @Override
+    public long getRegistryVersion() {
+        // Skill beans are fixed once the application context has been refreshed
+        return 0;
+    }
+    
     @Override
     public AgentSkill getSkill(String name) {
         try {
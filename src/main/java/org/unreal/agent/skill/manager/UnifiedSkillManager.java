@@ -4,13 +4,25 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.unreal.agent.skill.core.AgentSkill;
 import org.unreal.agent.skill.core.AgentSkillResult;
+import org.unreal.agent.skill.core.SkillResultSink;
+import org.unreal.agent.skill.routing.SkillMatch;
+import org.unreal.agent.skill.routing.SkillRouter;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Unified skill manager that delegates to specialized skill managers based on skill type.
+ *
+ * <p>Ranking uses one {@link SkillRouter} over the skills of all managers. Skills can be registered with
+ * the managers directly, so before each ranking the managers' {@link SkillManager#getRegistryVersion()
+ * registry versions} are compared with those seen at the last reconciliation. Only when one has changed,
+ * or a manager does not track changes, is the router reconciled with the combined skills; even then only
+ * skills that were added, removed or replaced are re-indexed.
  */
 @Component
 public class UnifiedSkillManager implements SkillManager {
@@ -18,6 +30,10 @@ public class UnifiedSkillManager implements SkillManager {
     @Autowired
     private List<SkillManager> skillManagers;
     
+    private final SkillRouter router = new SkillRouter();
+    private Map<String, AgentSkill> indexedSkills = Map.of();
+    private long[] indexedVersions;
+    
     @Override
     public void registerSkill(AgentSkill skill) {
         // Default to the first available manager
@@ -71,6 +87,45 @@ public class UnifiedSkillManager implements SkillManager {
         return null;
     }
     
+    @Override
+    public List<SkillMatch> rankSkillsForRequest(String request, int k) {
+        refreshRouter();
+        return router.rank(request, k);
+    }
+    
+    /**
+     * Bring the router in line with the skills of all managers if any of them changed. Where managers
+     * share a skill name the first manager's skill is indexed, as in {@link #getSkill(String)}.
+     */
+    private synchronized void refreshRouter() {
+        // Read the versions before the skills, so a change made during the walk is seen next time
+        long[] versions = new long[skillManagers.size()];
+        boolean tracked = true;
+        for (int i = 0; i < versions.length; i++) {
+            versions[i] = skillManagers.get(i).getRegistryVersion();
+            tracked &= versions[i] >= 0;
+        }
+        if (tracked && Arrays.equals(versions, indexedVersions)) {
+            return;
+        }
+        Map<String, AgentSkill> current = new HashMap<>();
+        for (AgentSkill skill : getAllSkills()) {
+            current.putIfAbsent(skill.getName(), skill);
+        }
+        for (String name : indexedSkills.keySet()) {
+            if (!current.containsKey(name)) {
+                router.unregister(name);
+            }
+        }
+        for (AgentSkill skill : current.values()) {
+            if (indexedSkills.get(skill.getName()) != skill) {
+                router.register(skill);
+            }
+        }
+        indexedSkills = current;
+        indexedVersions = versions;
+    }
+    
     @Override
     public AgentSkillResult executeSkill(String skillName, String request, Map<String, Object> parameters) {
         // Try to execute the skill using each manager
@@ -87,6 +142,37 @@ public class UnifiedSkillManager implements SkillManager {
                 .build();
     }
     
+    @Override
+    public CompletableFuture<AgentSkillResult> executeSkillAsync(String skillName, String request, Map<String, Object> parameters) {
+        // Delegate to the manager owning the skill so its executor limits apply
+        for (SkillManager manager : skillManagers) {
+            AgentSkill skill = manager.getSkill(skillName);
+            if (skill != null) {
+                return manager.executeSkillAsync(skillName, request, parameters);
+            }
+        }
+        
+        return CompletableFuture.completedFuture(AgentSkillResult.failure()
+                .message("Skill not found in any manager: " + skillName)
+                .skillName(skillName)
+                .build());
+    }
+    
+    @Override
+    public CompletableFuture<AgentSkillResult> executeSkillStreaming(String skillName, String request, Map<String, Object> parameters, SkillResultSink sink) {
+        for (SkillManager manager : skillManagers) {
+            AgentSkill skill = manager.getSkill(skillName);
+            if (skill != null) {
+                return manager.executeSkillStreaming(skillName, request, parameters, sink);
+            }
+        }
+        
+        return CompletableFuture.completedFuture(AgentSkillResult.failure()
+                .message("Skill not found in any manager: " + skillName)
+                .skillName(skillName)
+                .build());
+    }
+    
     @Override
     public AgentSkillResult executeSkill(String request, Map<String, Object> parameters) {
         // Try to find and execute a skill in each manager
@@ -0,0 +1,285 @@
+package org.unreal.agent.skill.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.unreal.agent.skill.cache.SimpleCache;
+import org.unreal.agent.skill.cache.SkillCacheManager;
+
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer metrics of skill execution, routing, loading, caching and directory watching, enabled
+ * with {@code agent.skill.metrics-enabled}. Exposed through Actuator, e.g. at {@code /actuator/prometheus}.
+ *
+ * <ul>
+ *   <li>{@code agent.skill.execution}: duration of each skill run, tagged with the skill and whether
+ *       it succeeded; publishes p50/p95/p99 and a histogram</li>
+ *   <li>{@code agent.skill.execution.timeouts} and {@code agent.skill.execution.rejections}: calls
+ *       that exceeded their timeout or were turned away by the executor or a skill's bulkhead. A run
+ *       that times out is also timed with the outcome it eventually completes with.</li>
+ *   <li>{@code agent.skill.routing}: latency of finding the skill for a request</li>
+ *   <li>{@code agent.skill.load}: duration of loading a skill from its folder, tagged load or reload</li>
+ *   <li>{@code agent.skill.cache.gets} and {@code agent.skill.cache.hit.ratio}: cache effectiveness</li>
+ *   <li>{@code agent.skill.watch.events}: file events and scan changes seen by the lifecycle manager</li>
+ * </ul>
+ *
+ * <p>Meters are created once per skill and looked up by name afterwards, so recording on the hot
+ * paths takes no locks and allocates nothing.
+ */
+@Component
+@ConditionalOnProperty(prefix = "agent.skill", name = "metrics-enabled", havingValue = "true")
+public class SkillMetrics {
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry registry;
+    private final Map<String, ExecutionMeters> executionMeters = new ConcurrentHashMap<>();
+    private final Map<String, LoadMeters> loadMeters = new ConcurrentHashMap<>();
+    private final Timer routingMatched;
+    private final Timer routingUnmatched;
+    private final Counter watchCreated;
+    private final Counter watchModified;
+    private final Counter watchDeleted;
+    private final Counter watchOverflow;
+    private final Counter watchScanned;
+
+    @Autowired(required = false)
+    private SkillCacheManager cacheManager;
+
+    public SkillMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.routingMatched = routingTimer("true");
+        this.routingUnmatched = routingTimer("false");
+        this.watchCreated = watchCounter("create");
+        this.watchModified = watchCounter("modify");
+        this.watchDeleted = watchCounter("delete");
+        this.watchOverflow = watchCounter("overflow");
+        this.watchScanned = watchCounter("scan");
+    }
+
+    /**
+     * Bind the hit and miss counts of the framework caches.
+     */
+    @PostConstruct
+    public void bindCaches() {
+        if (cacheManager != null) {
+            bindCache("metadata", cacheManager.getSkillMetadataCache());
+            bindCache("execution", cacheManager.getSkillExecutionCache());
+        }
+    }
+
+    /**
+     * Bind the hit and miss counts of a cache. The counts are read when metrics are published; the
+     * cache must record statistics.
+     *
+     * @param name the cache name used as tag
+     * @param cache the cache
+     */
+    public void bindCache(String name, SimpleCache<?, ?> cache) {
+        FunctionCounter.builder("agent.skill.cache.gets", cache, c -> c.getStats().getHitCount())
+                .description("Cache lookups")
+                .tag("cache", name)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("agent.skill.cache.gets", cache, c -> c.getStats().getMissCount())
+                .description("Cache lookups")
+                .tag("cache", name)
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("agent.skill.cache.hit.ratio", cache, c -> c.getStats().getHitRate())
+                .description("Share of cache lookups that were hits")
+                .tag("cache", name)
+                .register(registry);
+    }
+
+    /**
+     * Record a completed skill run.
+     *
+     * @param skillName the skill name
+     * @param durationNanos duration of the run
+     * @param success whether the run produced a successful result
+     */
+    public void recordExecution(String skillName, long durationNanos, boolean success) {
+        ExecutionMeters meters = executionMeters(skillName);
+        (success ? meters.success : meters.failure).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Record a call answered from the execution cache without running the skill.
+     *
+     * @param skillName the skill name
+     */
+    public void recordCacheHit(String skillName) {
+        executionMeters(skillName).cacheHits.increment();
+    }
+
+    /**
+     * Record a call that exceeded its execution timeout.
+     *
+     * @param skillName the skill name
+     */
+    public void recordTimeout(String skillName) {
+        executionMeters(skillName).timeouts.increment();
+    }
+
+    /**
+     * Record a call rejected because the executor or the skill's bulkhead was full.
+     *
+     * @param skillName the skill name
+     */
+    public void recordRejection(String skillName) {
+        executionMeters(skillName).rejections.increment();
+    }
+
+    /**
+     * Record the time taken to find the skill for a request.
+     *
+     * @param durationNanos routing duration
+     * @param matched whether a skill was found
+     */
+    public void recordRouting(long durationNanos, boolean matched) {
+        (matched ? routingMatched : routingUnmatched).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Record loading a skill from its folder.
+     *
+     * @param skillName the skill name
+     * @param durationNanos load duration
+     * @param reload whether an already loaded skill was replaced
+     */
+    public void recordLoad(String skillName, long durationNanos, boolean reload) {
+        LoadMeters meters = loadMeters.get(skillName);
+        if (meters == null) {
+            meters = loadMeters.computeIfAbsent(skillName, this::createLoadMeters);
+        }
+        (reload ? meters.reload : meters.load).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Record a file system event from the skills directory watcher.
+     *
+     * @param kind the event kind
+     */
+    public void recordWatchEvent(WatchEvent.Kind<?> kind) {
+        if (kind == StandardWatchEventKinds.ENTRY_CREATE) {
+            watchCreated.increment();
+        } else if (kind == StandardWatchEventKinds.ENTRY_MODIFY) {
+            watchModified.increment();
+        } else if (kind == StandardWatchEventKinds.ENTRY_DELETE) {
+            watchDeleted.increment();
+        } else {
+            watchOverflow.increment();
+        }
+    }
+
+    /**
+     * Record skill folders found changed by scanning the skills directory.
+     *
+     * @param changedFolders number of changed folders
+     */
+    public void recordScanChanges(int changedFolders) {
+        watchScanned.increment(changedFolders);
+    }
+
+    private ExecutionMeters executionMeters(String skillName) {
+        ExecutionMeters meters = executionMeters.get(skillName);
+        if (meters == null) {
+            meters = executionMeters.computeIfAbsent(skillName, this::createExecutionMeters);
+        }
+        return meters;
+    }
+
+    private ExecutionMeters createExecutionMeters(String skillName) {
+        return new ExecutionMeters(
+                executionTimer(skillName, "success"),
+                executionTimer(skillName, "failure"),
+                Counter.builder("agent.skill.execution.timeouts")
+                        .description("Skill calls that exceeded their execution timeout")
+                        .tag("skill", skillName)
+                        .register(registry),
+                Counter.builder("agent.skill.execution.rejections")
+                        .description("Skill calls rejected by the executor or the skill's bulkhead")
+                        .tag("skill", skillName)
+                        .register(registry),
+                Counter.builder("agent.skill.execution.cache.hits")
+                        .description("Skill calls answered from the execution cache")
+                        .tag("skill", skillName)
+                        .register(registry));
+    }
+
+    private Timer executionTimer(String skillName, String outcome) {
+        return Timer.builder("agent.skill.execution")
+                .description("Skill execution time")
+                .tag("skill", skillName)
+                .tag("outcome", outcome)
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private LoadMeters createLoadMeters(String skillName) {
+        return new LoadMeters(loadTimer(skillName, "load"), loadTimer(skillName, "reload"));
+    }
+
+    private Timer loadTimer(String skillName, String type) {
+        return Timer.builder("agent.skill.load")
+                .description("Time to load a skill from its folder")
+                .tag("skill", skillName)
+                .tag("type", type)
+                .register(registry);
+    }
+
+    private Timer routingTimer(String matched) {
+        return Timer.builder("agent.skill.routing")
+                .description("Time to find the skill for a request")
+                .tag("matched", matched)
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private Counter watchCounter(String kind) {
+        return Counter.builder("agent.skill.watch.events")
+                .description("Changes seen in the skills directory")
+                .tag("kind", kind)
+                .register(registry);
+    }
+
+    private static final class ExecutionMeters {
+        private final Timer success;
+        private final Timer failure;
+        private final Counter timeouts;
+        private final Counter rejections;
+        private final Counter cacheHits;
+
+        private ExecutionMeters(Timer success, Timer failure, Counter timeouts, Counter rejections, Counter cacheHits) {
+            this.success = success;
+            this.failure = failure;
+            this.timeouts = timeouts;
+            this.rejections = rejections;
+            this.cacheHits = cacheHits;
+        }
+    }
+
+    private static final class LoadMeters {
+        private final Timer load;
+        private final Timer reload;
+
+        private LoadMeters(Timer load, Timer reload) {
+            this.load = load;
+            this.reload = reload;
+        }
+    }
+}
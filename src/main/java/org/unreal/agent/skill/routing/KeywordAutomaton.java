@@ -0,0 +1,138 @@
+package org.unreal.agent.skill.routing;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick automaton over lower-cased trigger keywords.
+ * Built once from a keyword list and shared read-only between routing threads.
+ */
+final class KeywordAutomaton {
+
+    private static final int[] NO_OUTPUT = new int[0];
+
+    // Per-node sorted transition labels and their target nodes
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] fail;
+    // Keyword ids recognised when the automaton reaches a node (fail chain already merged)
+    private final int[][] outputs;
+
+    KeywordAutomaton(List<String> keywords) {
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> nodeOutputs = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        nodeOutputs.add(new ArrayList<>());
+
+        for (int id = 0; id < keywords.size(); id++) {
+            String keyword = keywords.get(id);
+            int node = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = keyword.charAt(i);
+                Integer next = trie.get(node).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    nodeOutputs.add(new ArrayList<>());
+                    trie.get(node).put(c, next);
+                }
+                node = next;
+            }
+            nodeOutputs.get(node).add(id);
+        }
+
+        int size = trie.size();
+        this.labels = new char[size][];
+        this.targets = new int[size][];
+        this.fail = new int[size];
+        this.outputs = new int[size][];
+
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> edges = trie.get(node);
+            char[] nodeLabels = new char[edges.size()];
+            int[] nodeTargets = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                nodeLabels[i] = edge.getKey();
+                nodeTargets[i] = edge.getValue();
+                i++;
+            }
+            labels[node] = nodeLabels;
+            targets[node] = nodeTargets;
+        }
+
+        // Breadth-first construction of failure links
+        Deque<Integer> queue = new ArrayDeque<>();
+        outputs[0] = toArray(nodeOutputs.get(0));
+        for (int child : targets[0]) {
+            fail[child] = 0;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            List<Integer> merged = nodeOutputs.get(node);
+            int[] inherited = outputs[fail[node]];
+            for (int id : inherited) {
+                merged.add(id);
+            }
+            outputs[node] = toArray(merged);
+
+            for (int i = 0; i < labels[node].length; i++) {
+                char c = labels[node][i];
+                int child = targets[node][i];
+                int f = fail[node];
+                while (f != 0 && transition(f, c) < 0) {
+                    f = fail[f];
+                }
+                int target = transition(f, c);
+                fail[child] = target >= 0 && target != child ? target : 0;
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Scan the text once and mark every keyword that occurs in it.
+     *
+     * @param text the text to scan, matched case-insensitively
+     * @return ids of the keywords found
+     */
+    BitSet match(String text) {
+        BitSet found = new BitSet();
+        if (text == null) {
+            return found;
+        }
+        int node = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int next = transition(node, c);
+            while (next < 0 && node != 0) {
+                node = fail[node];
+                next = transition(node, c);
+            }
+            node = next < 0 ? 0 : next;
+            for (int id : outputs[node]) {
+                found.set(id);
+            }
+        }
+        return found;
+    }
+
+    private int transition(int node, char c) {
+        int index = Arrays.binarySearch(labels[node], c);
+        return index >= 0 ? targets[node][index] : -1;
+    }
+
+    private static int[] toArray(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return NO_OUTPUT;
+        }
+        return ids.stream().distinct().mapToInt(Integer::intValue).toArray();
+    }
+}
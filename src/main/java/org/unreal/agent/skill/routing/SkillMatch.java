@@ -0,0 +1,25 @@
+package org.unreal.agent.skill.routing;
+
+import org.unreal.agent.skill.core.AgentSkill;
+
+/**
+ * A skill ranked for a request, together with its relevance score.
+ */
+public class SkillMatch {
+
+    private final AgentSkill skill;
+    private final double score;
+
+    public SkillMatch(AgentSkill skill, double score) {
+        this.skill = skill;
+        this.score = score;
+    }
+
+    public AgentSkill getSkill() {
+        return skill;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,312 @@
+package org.unreal.agent.skill.routing;
+
+import org.unreal.agent.skill.core.AgentSkill;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keyword index used to route a request to the skills that may handle it.
+ *
+ * <p>Skills that declare {@link AgentSkill#getKeywords() keywords} are only offered as candidates when
+ * one of their keywords occurs in the request. Skills without keywords are candidates when the request
+ * shares a term with their name or description, and otherwise only if their {@code canHandle} is
+ * specific: a skill that accepts even an empty request is a catch-all and is not offered for a request
+ * that matches nothing about it, so an unmatched request finds no skill rather than an arbitrary one.
+ * {@link AgentSkill#canHandle(String)} remains the final check, so only the few candidate skills are asked.
+ *
+ * <p>Candidates are ordered by a BM25 score over each skill's name, description and keywords, with the
+ * skill name as tie-breaker, so routing is deterministic regardless of registration order.
+ *
+ * <p>Per-skill keyword sets and term frequencies are computed on register/unregister; the shared
+ * automaton and document statistics are rebuilt lazily on the first lookup after a change.
+ */
+public class SkillRouter {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private volatile Index index;
+
+    /**
+     * Add a skill to the index, replacing any skill with the same name.
+     *
+     * @param skill the skill to index
+     */
+    public void register(AgentSkill skill) {
+        Objects.requireNonNull(skill, "Skill cannot be null");
+        List<String> keywords = skill.getKeywords();
+        TermStatistics statistics = TermStatistics.of(skill.getName(), skill.getDescription(), keywords);
+        entries.put(skill.getName(), new Entry(skill, normalizeKeywords(keywords), statistics));
+        version.incrementAndGet();
+    }
+
+    /**
+     * Remove a skill from the index.
+     *
+     * @param skillName the name of the skill to remove
+     */
+    public void unregister(String skillName) {
+        if (skillName != null && entries.remove(skillName) != null) {
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * @return a counter that changes whenever a skill is registered or unregistered
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Get the skills that may handle the request, best match first.
+     *
+     * @param request the request to route
+     * @return candidate skills; {@code canHandle} has not been consulted yet
+     */
+    public List<AgentSkill> candidates(String request) {
+        Index current = currentIndex();
+        Map<Entry, Double> scores = current.score(request);
+
+        List<Entry> matched = new ArrayList<>();
+        for (Entry entry : current.unindexed) {
+            if (!entry.catchAll || scores.containsKey(entry)) {
+                matched.add(entry);
+            }
+        }
+        Set<Entry> seen = new HashSet<>();
+        BitSet found = current.automaton.match(request);
+        for (int id = found.nextSetBit(0); id >= 0; id = found.nextSetBit(id + 1)) {
+            for (Entry owner : current.owners.get(id)) {
+                if (seen.add(owner)) {
+                    matched.add(owner);
+                }
+            }
+        }
+        matched.sort(Comparator.<Entry>comparingDouble(entry -> scores.getOrDefault(entry, 0.0))
+                .reversed()
+                .thenComparing(entry -> entry.name));
+
+        List<AgentSkill> skills = new ArrayList<>(matched.size());
+        for (Entry entry : matched) {
+            skills.add(entry.skill);
+        }
+        return skills;
+    }
+
+    /**
+     * Find the best-scoring candidate skill that accepts the request.
+     *
+     * @param request the request to route
+     * @return the skill that can handle the request, null if none found
+     */
+    public AgentSkill route(String request) {
+        for (AgentSkill skill : candidates(request)) {
+            if (skill.canHandle(request)) {
+                return skill;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Rank skills by relevance to the request.
+     *
+     * @param request the request to rank skills for
+     * @param k the maximum number of matches to return
+     * @return up to {@code k} skills with a positive score, best match first
+     */
+    public List<SkillMatch> rank(String request, int k) {
+        if (k <= 0) {
+            return Collections.emptyList();
+        }
+        Map<Entry, Double> scores = currentIndex().score(request);
+        if (scores.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Comparator<Map.Entry<Entry, Double>> worstFirst = Map.Entry.<Entry, Double>comparingByValue()
+                .thenComparing(scored -> scored.getKey().name, Comparator.reverseOrder());
+        PriorityQueue<Map.Entry<Entry, Double>> top = new PriorityQueue<>(Math.min(k, scores.size()) + 1, worstFirst);
+        for (Map.Entry<Entry, Double> scored : scores.entrySet()) {
+            top.add(scored);
+            if (top.size() > k) {
+                top.poll();
+            }
+        }
+
+        List<SkillMatch> matches = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            Map.Entry<Entry, Double> scored = top.poll();
+            matches.add(new SkillMatch(scored.getKey().skill, scored.getValue()));
+        }
+        Collections.reverse(matches);
+        return matches;
+    }
+
+    /**
+     * Split text into the terms the router scores, e.g. to match a request against skill metadata.
+     *
+     * @param text the text to tokenize
+     * @return lower-cased terms without stop words, in order of appearance
+     */
+    public static List<String> terms(String text) {
+        return TermStatistics.tokenize(text);
+    }
+
+    private Index currentIndex() {
+        Index current = index;
+        if (current == null || current.version != version.get()) {
+            synchronized (this) {
+                current = index;
+                long expected = version.get();
+                if (current == null || current.version != expected) {
+                    current = new Index(expected, new ArrayList<>(entries.values()));
+                    index = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static List<String> normalizeKeywords(List<String> keywords) {
+        List<String> normalized = new ArrayList<>();
+        if (keywords == null) {
+            return normalized;
+        }
+        for (String keyword : keywords) {
+            if (keyword == null || keyword.isBlank()) {
+                continue;
+            }
+            String value = keyword.trim().toLowerCase(Locale.ROOT);
+            if (!normalized.contains(value)) {
+                normalized.add(value);
+            }
+        }
+        return normalized;
+    }
+
+    private static final class Entry {
+        private final AgentSkill skill;
+        private final String name;
+        private final List<String> keywords;
+        private final TermStatistics statistics;
+        private final boolean catchAll;
+
+        private Entry(AgentSkill skill, List<String> keywords, TermStatistics statistics) {
+            this.skill = skill;
+            this.name = skill.getName();
+            this.keywords = keywords;
+            this.statistics = statistics;
+            this.catchAll = keywords.isEmpty() && acceptsAnything(skill);
+        }
+
+        private static boolean acceptsAnything(AgentSkill skill) {
+            try {
+                return skill.canHandle("");
+            } catch (RuntimeException e) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Precomputed BM25 contribution of one term to one skill.
+     */
+    private static final class Posting {
+        private final Entry entry;
+        private final double weight;
+
+        private Posting(Entry entry, double weight) {
+            this.entry = entry;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Immutable routing snapshot built from the registered entries.
+     */
+    private static final class Index {
+        private final long version;
+        private final KeywordAutomaton automaton;
+        private final List<List<Entry>> owners = new ArrayList<>();
+        private final List<Entry> unindexed = new ArrayList<>();
+        private final Map<String, List<Posting>> postings = new HashMap<>();
+
+        private Index(long version, List<Entry> entries) {
+            this.version = version;
+            Map<String, List<Entry>> byKeyword = new LinkedHashMap<>();
+            for (Entry entry : entries) {
+                if (entry.keywords.isEmpty()) {
+                    unindexed.add(entry);
+                    continue;
+                }
+                for (String keyword : entry.keywords) {
+                    byKeyword.computeIfAbsent(keyword, k -> new ArrayList<>()).add(entry);
+                }
+            }
+            owners.addAll(byKeyword.values());
+            automaton = new KeywordAutomaton(new ArrayList<>(byKeyword.keySet()));
+            buildPostings(entries);
+        }
+
+        private void buildPostings(List<Entry> entries) {
+            if (entries.isEmpty()) {
+                return;
+            }
+            long totalLength = 0;
+            Map<String, List<Entry>> containing = new HashMap<>();
+            for (Entry entry : entries) {
+                totalLength += entry.statistics.length();
+                for (String term : entry.statistics.frequencies().keySet()) {
+                    containing.computeIfAbsent(term, t -> new ArrayList<>()).add(entry);
+                }
+            }
+            double averageLength = Math.max(1.0, (double) totalLength / entries.size());
+            int documents = entries.size();
+
+            for (Map.Entry<String, List<Entry>> term : containing.entrySet()) {
+                int df = term.getValue().size();
+                double idf = Math.log(1.0 + (documents - df + 0.5) / (df + 0.5));
+                List<Posting> list = new ArrayList<>(df);
+                for (Entry entry : term.getValue()) {
+                    int tf = entry.statistics.frequencies().get(term.getKey());
+                    double norm = K1 * (1 - B + B * entry.statistics.length() / averageLength);
+                    list.add(new Posting(entry, idf * tf * (K1 + 1) / (tf + norm)));
+                }
+                postings.put(term.getKey(), list);
+            }
+        }
+
+        private Map<Entry, Double> score(String request) {
+            Map<Entry, Double> scores = new HashMap<>();
+            for (String term : new LinkedHashSet<>(TermStatistics.tokenize(request))) {
+                List<Posting> list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                for (Posting posting : list) {
+                    scores.merge(posting.entry, posting.weight, Double::sum);
+                }
+            }
+            return scores;
+        }
+    }
+}
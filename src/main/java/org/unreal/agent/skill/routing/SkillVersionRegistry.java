@@ -0,0 +1,183 @@
+package org.unreal.agent.skill.routing;
+
+import org.unreal.agent.skill.core.AgentSkill;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Additional versions of registered skills and the traffic split between them.
+ *
+ * <p>A skill manager keeps one primary instance per skill name; this registry holds the other versions
+ * running side by side with it, e.g. a canary. Weights are assigned per version, including the primary
+ * version, and name-based executions are routed to a version with probability proportional to its
+ * weight. Without weights every execution goes to the primary version.
+ *
+ * <p>The state of each skill is an immutable snapshot replaced on every change, so {@link #select}
+ * reads it without locking or allocating.
+ */
+public class SkillVersionRegistry {
+
+    private final Map<String, VersionSet> versionSets = new ConcurrentHashMap<>();
+
+    /**
+     * Add or replace a secondary version of a skill.
+     *
+     * @param skill the skill instance, identified by its name and version
+     */
+    public void register(AgentSkill skill) {
+        Objects.requireNonNull(skill, "Skill cannot be null");
+        versionSets.compute(skill.getName(), (name, set) -> {
+            Map<String, AgentSkill> versions = set != null ? new LinkedHashMap<>(set.versions) : new LinkedHashMap<>();
+            versions.put(skill.getVersion(), skill);
+            return new VersionSet(versions, set != null ? set.weights : Map.of());
+        });
+    }
+
+    /**
+     * Remove a secondary version of a skill. Its weight is dropped with it.
+     *
+     * @param skillName the skill name
+     * @param version the version to remove
+     * @return the removed instance, null if the version was not registered here
+     */
+    public AgentSkill unregister(String skillName, String version) {
+        AgentSkill[] removed = new AgentSkill[1];
+        versionSets.computeIfPresent(skillName, (name, set) -> {
+            if (!set.versions.containsKey(version)) {
+                return set;
+            }
+            Map<String, AgentSkill> versions = new LinkedHashMap<>(set.versions);
+            removed[0] = versions.remove(version);
+            Map<String, Integer> weights = new LinkedHashMap<>(set.weights);
+            weights.remove(version);
+            return versions.isEmpty() && weights.isEmpty() ? null : new VersionSet(versions, weights);
+        });
+        return removed[0];
+    }
+
+    /**
+     * Remove all secondary versions and weights of a skill.
+     *
+     * @param skillName the skill name
+     * @return the removed instances
+     */
+    public List<AgentSkill> unregisterAll(String skillName) {
+        VersionSet set = skillName != null ? versionSets.remove(skillName) : null;
+        return set != null ? new ArrayList<>(set.versions.values()) : List.of();
+    }
+
+    /**
+     * Get a secondary version of a skill.
+     *
+     * @param skillName the skill name
+     * @param version the version
+     * @return the instance, null if the version is not registered here
+     */
+    public AgentSkill get(String skillName, String version) {
+        VersionSet set = skillName != null ? versionSets.get(skillName) : null;
+        return set != null ? set.versions.get(version) : null;
+    }
+
+    /**
+     * @param skillName the skill name
+     * @return the secondary versions of the skill, in registration order
+     */
+    public List<AgentSkill> getVersions(String skillName) {
+        VersionSet set = skillName != null ? versionSets.get(skillName) : null;
+        return set != null ? new ArrayList<>(set.versions.values()) : List.of();
+    }
+
+    /**
+     * Replace the traffic split of a skill. Versions are not checked against the registered
+     * instances; a weight of a version that is not running routes to the primary version.
+     *
+     * @param skillName the skill name
+     * @param weights relative weight per version; empty to send all traffic to the primary version
+     * @throws IllegalArgumentException if a weight is negative or all weights are zero
+     */
+    public void setWeights(String skillName, Map<String, Integer> weights) {
+        Map<String, Integer> copy = new LinkedHashMap<>();
+        long total = 0;
+        for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+            Integer weight = entry.getValue();
+            if (entry.getKey() == null || weight == null || weight < 0) {
+                throw new IllegalArgumentException("Invalid weight for version " + entry.getKey() + ": " + weight);
+            }
+            total += weight;
+            copy.put(entry.getKey(), weight);
+        }
+        if (!copy.isEmpty() && (total == 0 || total > Integer.MAX_VALUE)) {
+            throw new IllegalArgumentException("Weights must sum to between 1 and " + Integer.MAX_VALUE + ": " + total);
+        }
+        versionSets.compute(skillName, (name, set) -> {
+            Map<String, AgentSkill> versions = set != null ? set.versions : Map.of();
+            return versions.isEmpty() && copy.isEmpty() ? null : new VersionSet(versions, copy);
+        });
+    }
+
+    /**
+     * @param skillName the skill name
+     * @return the traffic split of the skill, empty if all traffic goes to the primary version
+     */
+    public Map<String, Integer> getWeights(String skillName) {
+        VersionSet set = skillName != null ? versionSets.get(skillName) : null;
+        return set != null ? set.weights : Map.of();
+    }
+
+    /**
+     * Pick the instance to run for a name-based execution.
+     *
+     * @param primary the primary instance of the skill
+     * @return the instance of the version drawn from the traffic split, or {@code primary} if the skill
+     *         has no split or the drawn version is not running
+     */
+    public AgentSkill select(AgentSkill primary) {
+        VersionSet set = versionSets.get(primary.getName());
+        if (set == null || set.totalWeight == 0) {
+            return primary;
+        }
+        int ticket = ThreadLocalRandom.current().nextInt(set.totalWeight);
+        for (int i = 0; i < set.cumulativeWeights.length; i++) {
+            if (ticket < set.cumulativeWeights[i]) {
+                AgentSkill selected = set.weightedSkills[i];
+                return selected != null ? selected : primary;
+            }
+        }
+        return primary;
+    }
+
+    /**
+     * Immutable versions and traffic split of one skill. Weighted versions are resolved to their
+     * instances up front; a null instance stands for the primary version.
+     */
+    private static final class VersionSet {
+        private final Map<String, AgentSkill> versions;
+        private final Map<String, Integer> weights;
+        private final AgentSkill[] weightedSkills;
+        private final int[] cumulativeWeights;
+        private final int totalWeight;
+
+        private VersionSet(Map<String, AgentSkill> versions, Map<String, Integer> weights) {
+            this.versions = Collections.unmodifiableMap(versions);
+            this.weights = Collections.unmodifiableMap(weights);
+            this.weightedSkills = new AgentSkill[weights.size()];
+            this.cumulativeWeights = new int[weights.size()];
+            int total = 0;
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+                total += entry.getValue();
+                weightedSkills[i] = versions.get(entry.getKey());
+                cumulativeWeights[i] = total;
+                i++;
+            }
+            this.totalWeight = total;
+        }
+    }
+}
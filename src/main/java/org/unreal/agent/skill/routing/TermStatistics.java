@@ -0,0 +1,86 @@
+package org.unreal.agent.skill.routing;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tokenizer and per-skill term frequencies used for BM25 scoring.
+ * Computed once when a skill is registered so ranking never re-tokenizes skill metadata.
+ */
+final class TermStatistics {
+
+    /** Name and keyword terms count this many times more than description terms. */
+    private static final int FIELD_BOOST = 2;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "if", "in", "is", "it",
+            "of", "on", "or", "the", "this", "to", "use", "when", "with", "you", "your");
+
+    private final Map<String, Integer> frequencies;
+    private final int length;
+
+    private TermStatistics(Map<String, Integer> frequencies, int length) {
+        this.frequencies = frequencies;
+        this.length = length;
+    }
+
+    static TermStatistics of(String name, String description, List<String> keywords) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = 0;
+        length += addTerms(frequencies, name, FIELD_BOOST);
+        length += addTerms(frequencies, description, 1);
+        if (keywords != null) {
+            for (String keyword : keywords) {
+                length += addTerms(frequencies, keyword, FIELD_BOOST);
+            }
+        }
+        return new TermStatistics(frequencies, length);
+    }
+
+    Map<String, Integer> frequencies() {
+        return frequencies;
+    }
+
+    int length() {
+        return length;
+    }
+
+    /**
+     * Split text into lower-cased alphanumeric terms, dropping stop words and single ASCII characters.
+     *
+     * @param text the text to tokenize
+     * @return the terms in order of appearance
+     */
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String term = text.substring(start, i).toLowerCase(Locale.ROOT);
+                if (!(term.length() == 1 && term.charAt(0) < 128) && !STOP_WORDS.contains(term)) {
+                    terms.add(term);
+                }
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private static int addTerms(Map<String, Integer> frequencies, String text, int weight) {
+        List<String> terms = tokenize(text);
+        for (String term : terms) {
+            frequencies.merge(term, weight, Integer::sum);
+        }
+        return terms.size() * weight;
+    }
+}
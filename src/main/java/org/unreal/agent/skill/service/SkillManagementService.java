@@ -8,6 +8,7 @@ import org.springframework.web.multipart.MultipartFile;
 import org.unreal.agent.skill.core.AgentSkill;
 import org.unreal.agent.skill.AgentSkillManager;
 import org.unreal.agent.skill.folder.FolderBasedSkillLoader;
+import org.unreal.agent.skill.folder.SkillDescriptor;
 import org.unreal.agent.skill.util.InputValidationUtils;
 
 import java.io.*;
@@ -61,25 +62,18 @@ public class SkillManagementService {
                 return SkillDeployResult.failure("Cannot find skill descriptor (skill.json, skill.yaml, or SKILL.md) in uploaded file");
             }
 
-            // Load skill descriptor to get the actual name
-            FolderBasedSkillLoader.LoadedSkill tempSkill = skillLoader.loadSkillFromFolder(skillRoot);
-            if (tempSkill == null) {
+            // Load the uploaded skill off to the side; a deployed version stays in service if it fails
+            SkillDescriptor uploadedDescriptor = skillLoader.verifySkill(skillRoot);
+            if (uploadedDescriptor == null) {
                 return SkillDeployResult.failure("Failed to load skill from uploaded file. Please check the skill descriptor format.");
             }
 
-            String actualSkillName = tempSkill.getDescriptor().getName();
+            String actualSkillName = uploadedDescriptor.getName();
             if (skillName != null && !skillName.isEmpty() && !skillName.equals(actualSkillName)) {
                 // Rename skill folder if explicit name is provided
                 actualSkillName = skillName;
             }
 
-            // Check if skill already exists
-            if (agentSkillManager.getSkill(actualSkillName) != null) {
-                // Unload existing skill
-                skillLoader.unloadSkill(actualSkillName);
-                agentSkillManager.unregisterSkill(actualSkillName);
-            }
-
             // Move to skills directory
             Path skillsDir = getSkillsDirectory();
             Path targetDir = skillsDir.resolve(actualSkillName);
@@ -92,11 +86,9 @@ public class SkillManagementService {
             // Move extracted skill to target location
             moveDirectory(skillRoot, targetDir);
 
-            // Load the skill
-            FolderBasedSkillLoader.LoadedSkill loadedSkill = skillLoader.loadSkillFromFolder(targetDir);
+            // Swap the new version in; an existing version keeps serving until it has been replaced
+            FolderBasedSkillLoader.LoadedSkill loadedSkill = skillLoader.swapSkill(targetDir, agentSkillManager);
             if (loadedSkill != null) {
-                agentSkillManager.registerSkill(loadedSkill.getSkillInstance());
-
                 // Cleanup temp directory
                 deleteDirectory(tempDir);
 
@@ -165,19 +157,13 @@ public class SkillManagementService {
                 return SkillDeployResult.failure("Skill not found: " + skillName);
             }
 
-            Path skillFolder = existingSkill.getSkillFolder();
-
-            // Unload existing
-            skillLoader.unloadSkill(skillName);
-            agentSkillManager.unregisterSkill(skillName);
-
-            // Reload
-            FolderBasedSkillLoader.LoadedSkill reloadedSkill = skillLoader.loadSkillFromFolder(skillFolder);
+            // Load the new version next to the running one and swap it in
+            FolderBasedSkillLoader.LoadedSkill reloadedSkill =
+                skillLoader.swapSkill(existingSkill.getSkillFolder(), agentSkillManager);
             if (reloadedSkill != null) {
-                agentSkillManager.registerSkill(reloadedSkill.getSkillInstance());
                 return SkillDeployResult.success(skillName, "Skill reloaded successfully");
             } else {
-                return SkillDeployResult.failure("Failed to reload skill");
+                return SkillDeployResult.failure("Failed to reload skill, the previous version is still active");
             }
         } catch (Exception e) {
             logger.error("Failed to reload skill: {}", skillName, e);
@@ -1,6 +1,7 @@
 package org.unreal.agent.skill.vo;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Skill 元数据 Value Object
@@ -10,9 +11,16 @@ public class SkillMetadataVo {
     private final String name;
     private final String discoveryInfo;
     private final Map<String, Object> fullMetadata;
-    private final String instructions;
+    private final Supplier<String> instructions;
 
     public SkillMetadataVo(String discoveryInfo, Map<String, Object> fullMetadata, String instructions) {
+        this(discoveryInfo, fullMetadata, () -> instructions);
+    }
+
+    /**
+     * @param instructions supplies the instructions when first requested, so listings need not read them
+     */
+    public SkillMetadataVo(String discoveryInfo, Map<String, Object> fullMetadata, Supplier<String> instructions) {
         this.discoveryInfo = discoveryInfo;
         this.fullMetadata = fullMetadata;
         this.instructions = instructions;
@@ -32,6 +40,6 @@ public class SkillMetadataVo {
     }
 
     public String getInstructions() {
-        return instructions;
+        return instructions.get();
     }
 }
\ No newline at end of file
@@ -1,15 +1,27 @@
 package org.unreal.agent.skill.web;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.unreal.agent.skill.core.AgentSkill;
 import org.unreal.agent.skill.AgentSkillManager;
+import org.unreal.agent.skill.capture.CapturedCall.Operation;
+import org.unreal.agent.skill.capture.TrafficRecorder;
 import org.unreal.agent.skill.core.AgentSkillResult;
+import org.unreal.agent.skill.core.SkillResultSink;
+import org.unreal.agent.skill.core.StreamingAgentSkill;
+import org.unreal.agent.skill.execution.SkillInvocation;
 import org.unreal.agent.skill.folder.DescriptorAgentSkill;
+import org.unreal.agent.skill.folder.LazyAgentSkill;
 import org.unreal.agent.skill.folder.SkillDescriptor;
 
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * REST controller for agent skills.
@@ -19,9 +31,15 @@ import java.util.*;
 @RequestMapping("/api/agent-skills")
 public class AgentSkillController {
 
+    /** Upper bound for {@code k} in ranked lookups, so a request cannot size the ranking arbitrarily. */
+    static final int MAX_RANKED_MATCHES = 100;
+
     @Autowired
     private AgentSkillManager skillManager;
 
+    @Autowired(required = false)
+    private TrafficRecorder trafficRecorder;
+
     /**
      * Get all registered skill names.
      *
@@ -79,11 +97,14 @@ public class AgentSkillController {
 
         // Optionally reveal disclosed script contents kept in descriptor.extraMetadata.disclosedScripts
         if (revealScripts) {
+            SkillDescriptor desc = null;
             if (skill instanceof DescriptorAgentSkill) {
-                SkillDescriptor desc = ((DescriptorAgentSkill) skill).getDescriptor();
-                if (desc != null && desc.getExtraMetadata() != null && desc.getExtraMetadata().containsKey("disclosedScripts")) {
-                    skillDetails.put("disclosedScripts", desc.getExtraMetadata().get("disclosedScripts"));
-                }
+                desc = ((DescriptorAgentSkill) skill).getDescriptor();
+            } else if (skill instanceof LazyAgentSkill) {
+                desc = ((LazyAgentSkill) skill).getDescriptor();
+            }
+            if (desc != null && desc.getExtraMetadata() != null && desc.getExtraMetadata().containsKey("disclosedScripts")) {
+                skillDetails.put("disclosedScripts", desc.getExtraMetadata().get("disclosedScripts"));
             }
         }
 
@@ -104,6 +125,7 @@ public class AgentSkillController {
             @SuppressWarnings("unchecked")
             Map<String, Object> parameters = (Map<String, Object>) request.getOrDefault("parameters", Map.of());
 
+            capture(Operation.EXECUTE, skillName, null, "", parameters, null);
             AgentSkillResult result = skillManager.executeSkill(skillName, "", parameters);
             return ResponseEntity.ok(result);
         } catch (Exception e) {
@@ -112,15 +134,281 @@ public class AgentSkillController {
         }
     }
 
+    /**
+     * Execute a specific version of a skill, bypassing its traffic split.
+     *
+     * @param skillName the name of the skill to execute
+     * @param version the version to execute
+     * @param request the skill execution request
+     * @return execution result
+     */
+    @PostMapping("/execute/{skillName}/versions/{version}")
+    public ResponseEntity<Object> executeSkillVersion(@PathVariable String skillName,
+                                                      @PathVariable String version,
+                                                      @RequestBody Map<String, Object> request) {
+        try {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> parameters = (Map<String, Object>) request.getOrDefault("parameters", Map.of());
+
+            capture(Operation.EXECUTE_VERSION, skillName, version, "", parameters, null);
+            AgentSkillResult result = skillManager.executeSkillVersion(skillName, version, "", parameters);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Skill execution failed: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * List the versions of a skill running side by side and the traffic split between them.
+     *
+     * @param skillName the name of the skill
+     * @return versions and traffic split
+     */
+    @GetMapping("/{skillName}/versions")
+    public ResponseEntity<Map<String, Object>> getSkillVersions(@PathVariable String skillName) {
+        List<AgentSkill> versions = skillManager.getSkillVersions(skillName);
+        if (versions.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        List<Map<String, Object>> versionList = versions.stream()
+                .map(skill -> {
+                    Map<String, Object> map = new LinkedHashMap<>();
+                    map.put("version", skill.getVersion());
+                    map.put("description", skill.getDescription());
+                    return map;
+                })
+                .toList();
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("name", skillName);
+        response.put("primaryVersion", versions.get(0).getVersion());
+        response.put("versions", versionList);
+        response.put("trafficSplit", skillManager.getTrafficSplit(skillName));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Split name-based executions of a skill between its versions, e.g. to send a share of the
+     * traffic to a canary. An empty body sends all traffic to the primary version.
+     *
+     * @param skillName the name of the skill
+     * @param weights relative weight per version
+     * @return the new traffic split
+     */
+    @PutMapping("/{skillName}/traffic-split")
+    public ResponseEntity<Map<String, Object>> setTrafficSplit(@PathVariable String skillName,
+                                                               @RequestBody Map<String, Integer> weights) {
+        try {
+            skillManager.setTrafficSplit(skillName, weights);
+            return ResponseEntity.ok(Map.of("name", skillName, "trafficSplit", skillManager.getTrafficSplit(skillName)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Execute a skill on the bounded skill executor.
+     * The servlet thread is released while the skill runs; executions exceeding the configured
+     * timeout or concurrency limit complete with a failure result.
+     *
+     * @param skillName the name of the skill to execute
+     * @param request the skill execution request
+     * @return future execution result
+     */
+    @PostMapping("/execute/{skillName}/async")
+    public CompletableFuture<ResponseEntity<Object>> executeSkillAsync(@PathVariable String skillName,
+                                                                       @RequestBody Map<String, Object> request) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> parameters = (Map<String, Object>) request.getOrDefault("parameters", Map.of());
+
+        capture(Operation.EXECUTE_ASYNC, skillName, null, "", parameters, null);
+        return skillManager.executeSkillAsync(skillName, "", parameters)
+                .thenApply(result -> ResponseEntity.ok((Object) result));
+    }
+
+    /**
+     * Execute several skills in parallel on the skill executor.
+     *
+     * @param invocations the skill calls to execute
+     * @return results in request order
+     */
+    @PostMapping("/execute/batch")
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> executeBatch(@RequestBody List<SkillInvocation> invocations) {
+        captureBatch(invocations);
+        List<CompletableFuture<AgentSkillResult>> futures = skillManager.submitBatch(invocations);
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(done -> {
+                    List<AgentSkillResult> results = futures.stream()
+                            .map(CompletableFuture::join)
+                            .toList();
+                    return ResponseEntity.ok(Map.of("results", results));
+                });
+    }
+
+    /**
+     * Execute several skills in parallel and stream each result as an NDJSON line as soon as it completes.
+     * Each line carries the {@code index} of the invocation in the request and its {@code result}.
+     *
+     * @param invocations the skill calls to execute
+     * @return emitter writing one line per completed invocation
+     */
+    @PostMapping(value = "/execute/batch", params = "stream=true")
+    public ResponseEntity<ResponseBodyEmitter> executeBatchStreaming(@RequestBody List<SkillInvocation> invocations) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter();
+        captureBatch(invocations);
+        List<CompletableFuture<AgentSkillResult>> futures = skillManager.submitBatch(invocations);
+        List<CompletableFuture<Void>> written = new ArrayList<>(futures.size());
+
+        for (int i = 0; i < futures.size(); i++) {
+            int index = i;
+            written.add(futures.get(i).thenAccept(result -> {
+                Map<String, Object> line = new LinkedHashMap<>();
+                line.put("index", index);
+                line.put("result", result);
+                try {
+                    synchronized (emitter) {
+                        sendNdjsonLine(emitter, line);
+                    }
+                } catch (IOException e) {
+                    emitter.completeWithError(e);
+                }
+            }));
+        }
+        CompletableFuture.allOf(written.toArray(new CompletableFuture[0]))
+                .whenComplete((done, error) -> emitter.complete());
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(emitter);
+    }
+
+    /**
+     * Execute a skill and stream its partial results as they are produced.
+     * Skills implementing {@link StreamingAgentSkill} emit {@code chunk} events while running; every
+     * skill ends the stream with a single {@code result} event carrying the final result.
+     * The default format is NDJSON ({@code {"type": ..., "data": ...}} per line); {@code format=sse}
+     * switches to Server-Sent Events.
+     *
+     * @param skillName the name of the skill to execute
+     * @param request the skill execution request
+     * @param format {@code ndjson} or {@code sse}
+     * @return emitter forwarding chunks and the final result
+     */
+    @PostMapping("/execute/{skillName}/stream")
+    public ResponseEntity<ResponseBodyEmitter> executeSkillStreaming(@PathVariable String skillName,
+                                                                     @RequestBody Map<String, Object> request,
+                                                                     @RequestParam(name = "format", defaultValue = "ndjson") String format) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> parameters = (Map<String, Object>) request.getOrDefault("parameters", Map.of());
+        String requestText = String.valueOf(request.getOrDefault("request", ""));
+
+        boolean sse = "sse".equalsIgnoreCase(format);
+        ResponseBodyEmitter emitter = sse ? new SseEmitter() : new ResponseBodyEmitter();
+        AtomicBoolean closed = new AtomicBoolean();
+        emitter.onCompletion(() -> closed.set(true));
+        emitter.onTimeout(() -> closed.set(true));
+        emitter.onError(e -> closed.set(true));
+
+        SkillResultSink sink = new SkillResultSink() {
+            @Override
+            public void emit(Object chunk) {
+                synchronized (emitter) {
+                    if (closed.get()) {
+                        return;
+                    }
+                    try {
+                        sendEvent(emitter, sse, "chunk", chunk);
+                    } catch (IOException e) {
+                        closed.set(true);
+                        emitter.completeWithError(e);
+                    }
+                }
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return closed.get();
+            }
+        };
+
+        capture(Operation.EXECUTE_STREAM, skillName, null, requestText, parameters, null);
+        skillManager.executeSkillStreaming(skillName, requestText, parameters, sink)
+                .whenComplete((result, error) -> {
+                    synchronized (emitter) {
+                        if (!closed.compareAndSet(false, true)) {
+                            return;
+                        }
+                        try {
+                            if (error != null) {
+                                emitter.completeWithError(error);
+                                return;
+                            }
+                            sendEvent(emitter, sse, "result", result);
+                            emitter.complete();
+                        } catch (IOException e) {
+                            emitter.completeWithError(e);
+                        }
+                    }
+                });
+
+        return ResponseEntity.ok()
+                .contentType(sse ? MediaType.TEXT_EVENT_STREAM : MediaType.APPLICATION_NDJSON)
+                .body(emitter);
+    }
+
+    private static void sendEvent(ResponseBodyEmitter emitter, boolean sse, String type, Object data) throws IOException {
+        if (sse) {
+            ((SseEmitter) emitter).send(SseEmitter.event().name(type).data(data, MediaType.APPLICATION_JSON));
+            return;
+        }
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("type", type);
+        line.put("data", data);
+        sendNdjsonLine(emitter, line);
+    }
+
+    private static void sendNdjsonLine(ResponseBodyEmitter emitter, Object line) throws IOException {
+        emitter.send(line, MediaType.APPLICATION_JSON);
+        emitter.send("\n", MediaType.TEXT_PLAIN);
+    }
+
     /**
      * Find a skill that can handle the given request.
+     * When {@code k} is given, the top-k ranked skills are returned together with their scores;
+     * {@code k} may be at most {@value #MAX_RANKED_MATCHES}.
      *
      * @param request the request to find a skill for
+     * @param k optional number of ranked matches to return
      * @return skill name if found
      */
     @PostMapping("/find")
-    public ResponseEntity<Map<String, Object>> findSkill(@RequestBody Map<String, String> request) {
+    public ResponseEntity<Map<String, Object>> findSkill(@RequestBody Map<String, String> request,
+                                                         @RequestParam(name = "k", required = false) Integer k) {
         String requestText = request.getOrDefault("request", "");
+        if (k != null && k > MAX_RANKED_MATCHES) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "k must not exceed " + MAX_RANKED_MATCHES));
+        }
+        capture(Operation.FIND, null, null, requestText, null, k);
+
+        if (k != null) {
+            List<Map<String, Object>> matches = skillManager.rankSkillsForRequest(requestText, k).stream()
+                    .map(match -> {
+                        Map<String, Object> map = new LinkedHashMap<>();
+                        map.put("skillName", match.getSkill().getName());
+                        map.put("description", match.getSkill().getDescription());
+                        map.put("score", match.getScore());
+                        return map;
+                    })
+                    .toList();
+            return ResponseEntity.ok(Map.of(
+                    "found", !matches.isEmpty(),
+                    "matches", matches
+            ));
+        }
+
         AgentSkill skill = skillManager.findSkillForRequest(requestText);
 
         if (skill == null) {
@@ -133,4 +421,17 @@ public class AgentSkillController {
                 "description", skill.getDescription()
         ));
     }
+
+    private void capture(Operation operation, String skillName, String version, String request,
+                         Map<String, Object> parameters, Integer k) {
+        if (trafficRecorder != null) {
+            trafficRecorder.record(operation, skillName, version, request, parameters, k);
+        }
+    }
+
+    private void captureBatch(List<SkillInvocation> invocations) {
+        if (trafficRecorder != null) {
+            trafficRecorder.recordBatch(invocations);
+        }
+    }
 }
@@ -6,6 +6,8 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.unreal.agent.skill.cache.SkillCacheManager;
+import org.unreal.agent.skill.folder.FolderBasedSkillLoader;
 import org.unreal.agent.skill.service.SkillManagementService;
 
 import java.io.IOException;
@@ -24,6 +26,12 @@ public class SkillManagementController {
     @Autowired
     private SkillManagementService managementService;
 
+    @Autowired
+    private SkillCacheManager cacheManager;
+
+    @Autowired(required = false)
+    private FolderBasedSkillLoader skillLoader;
+
     /**
      * Deploy a skill from a ZIP file upload.
      *
@@ -61,6 +69,30 @@ public class SkillManagementController {
         }
     }
 
+    /**
+     * Get cache sizes and hit/miss/eviction counters.
+     * Counters stay at zero unless {@code agent.skill.enable-cache-stats} is set.
+     *
+     * @return cache statistics
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<SkillCacheManager.CacheStatistics> getCacheStatistics() {
+        return ResponseEntity.ok(cacheManager.getCacheStatistics());
+    }
+
+    /**
+     * Get how many folder skills have their implementation loaded and how many are dormant.
+     *
+     * @return residency statistics, or 404 if folder-based skills are disabled
+     */
+    @GetMapping("/residency")
+    public ResponseEntity<FolderBasedSkillLoader.ResidencyStats> getResidencyStatistics() {
+        if (skillLoader == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(skillLoader.getResidencyStats());
+    }
+
     /**
      * Delete a skill.
      *
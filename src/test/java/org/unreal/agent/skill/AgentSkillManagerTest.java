@@ -8,6 +8,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.unreal.agent.skill.core.AgentSkill;
 import org.unreal.agent.skill.core.AgentSkillResult;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -342,4 +343,72 @@ class AgentSkillManagerTest {
         verify(listener1).onExecutionCompleted(eq(mockSkill), eq("request"), anyMap(), eq(mockResult));
         verify(listener2).onExecutionCompleted(eq(mockSkill), eq("request"), anyMap(), eq(mockResult));
     }
+
+    // ==================== Version Tests ====================
+
+    @Test
+    void registerSkillVersion_runsVersionsSideBySide() {
+        AgentSkill stable = versionedSkill("1.0");
+        AgentSkill canary = versionedSkill("2.0");
+
+        skillManager.registerSkillVersion(stable);
+        skillManager.registerSkillVersion(canary);
+
+        assertSame(stable, skillManager.getSkill("report"));
+        assertSame(canary, skillManager.getSkill("report", "2.0"));
+        assertEquals(List.of(stable, canary), skillManager.getSkillVersions("report"));
+        assertEquals(1, skillManager.getAllSkills().size());
+    }
+
+    @Test
+    void executeSkillVersion_runsPinnedVersion() {
+        AgentSkill stable = versionedSkill("1.0");
+        AgentSkill canary = versionedSkill("2.0");
+        when(canary.execute(anyString(), anyMap())).thenReturn(mockResult);
+        skillManager.registerSkillVersion(stable);
+        skillManager.registerSkillVersion(canary);
+
+        assertSame(mockResult, skillManager.executeSkillVersion("report", "2.0", "request", Map.of()));
+        verify(stable, never()).execute(anyString(), anyMap());
+
+        AgentSkillResult missing = skillManager.executeSkillVersion("report", "3.0", "request", Map.of());
+        assertFalse(missing.isSuccess());
+        assertTrue(missing.getMessage().contains("report@3.0"));
+    }
+
+    @Test
+    void setTrafficSplit_routesNameBasedExecutionsToWeightedVersion() {
+        AgentSkill stable = versionedSkill("1.0");
+        AgentSkill canary = versionedSkill("2.0");
+        when(canary.execute(anyString(), anyMap())).thenReturn(mockResult);
+        skillManager.registerSkillVersion(stable);
+        skillManager.registerSkillVersion(canary);
+
+        skillManager.setTrafficSplit("report", Map.of("1.0", 0, "2.0", 1));
+        skillManager.executeSkill("report", "request", Map.of());
+
+        verify(canary).execute(eq("request"), anyMap());
+        verify(stable, never()).execute(anyString(), anyMap());
+        assertThrows(IllegalArgumentException.class, () -> skillManager.setTrafficSplit("report", Map.of("3.0", 1)));
+    }
+
+    @Test
+    void unregisterSkillVersion_keepsPrimaryWhileOtherVersionsRun() {
+        AgentSkill stable = versionedSkill("1.0");
+        AgentSkill canary = versionedSkill("2.0");
+        skillManager.registerSkillVersion(stable);
+        skillManager.registerSkillVersion(canary);
+
+        assertFalse(skillManager.unregisterSkillVersion("report", "1.0"));
+        assertTrue(skillManager.unregisterSkillVersion("report", "2.0"));
+        assertTrue(skillManager.unregisterSkillVersion("report", "1.0"));
+        assertNull(skillManager.getSkill("report"));
+    }
+
+    private static AgentSkill versionedSkill(String version) {
+        AgentSkill skill = mock(AgentSkill.class);
+        when(skill.getName()).thenReturn("report");
+        when(skill.getVersion()).thenReturn(version);
+        return skill;
+    }
 }
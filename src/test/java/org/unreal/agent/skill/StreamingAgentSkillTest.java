@@ -0,0 +1,85 @@
+package org.unreal.agent.skill;
+
+import org.junit.jupiter.api.Test;
+import org.unreal.agent.skill.core.AgentSkillResult;
+import org.unreal.agent.skill.core.SkillResultSink;
+import org.unreal.agent.skill.core.StreamingAgentSkill;
+import org.unreal.agent.skill.manager.DefaultSkillManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingAgentSkillTest {
+
+    @Test
+    void execute_collectsChunksAsResultData() {
+        AgentSkillResult result = new PagesSkill().execute("", Map.of("pages", 3));
+
+        assertTrue(result.isSuccess());
+        assertEquals(List.of("page-1", "page-2", "page-3"), result.getData());
+        assertEquals("pages", result.getSkillName());
+    }
+
+    @Test
+    void executeSkillStreaming_forwardsChunksBeforeFinalResult() throws Exception {
+        DefaultSkillManager manager = new DefaultSkillManager();
+        manager.registerSkill(new PagesSkill());
+        List<Object> chunks = new ArrayList<>();
+
+        AgentSkillResult result = manager.executeSkillStreaming("pages", "", Map.of("pages", 2), chunks::add)
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of("page-1", "page-2"), chunks);
+        assertTrue(result.isSuccess());
+        assertEquals("2 pages processed", result.getMessage());
+    }
+
+    private static class PagesSkill implements StreamingAgentSkill {
+
+        @Override
+        public AgentSkillResult executeStreaming(String request, Map<String, Object> parameters, SkillResultSink sink) {
+            int pages = (Integer) parameters.get("pages");
+            for (int i = 1; i <= pages && !sink.isCancelled(); i++) {
+                sink.emit("page-" + i);
+            }
+            return AgentSkillResult.success()
+                    .message(pages + " pages processed")
+                    .skillName(getName())
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "pages";
+        }
+
+        @Override
+        public String getDescription() {
+            return "Emits one chunk per page";
+        }
+
+        @Override
+        public String getVersion() {
+            return "1.0.0";
+        }
+
+        @Override
+        public boolean canHandle(String request) {
+            return true;
+        }
+
+        @Override
+        public Map<String, String> getRequiredParameters() {
+            return Map.of("pages", "Number of pages");
+        }
+
+        @Override
+        public Map<String, String> getOptionalParameters() {
+            return Map.of();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.unreal.agent.skill.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimpleCacheTest {
+
+    @Test
+    void put_evictsLeastRecentlyUsedEntryWhenFull() {
+        SimpleCache<String, String> cache = new SimpleCache<>(60_000, 2);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+
+        cache.put("c", "3");
+
+        assertEquals(2, cache.size());
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("3", cache.get("c"));
+        assertEquals(1, cache.getStats().getEvictionCount());
+    }
+
+    @Test
+    void put_respectsEntryWeights() {
+        SimpleCache<String, String> cache = new SimpleCache<>(60_000, 10, String::length, true);
+        cache.put("small", "abc");
+        cache.put("large", "abcdefgh");
+
+        assertNull(cache.get("small"));
+        assertEquals("abcdefgh", cache.get("large"));
+        assertEquals(8, cache.weight());
+
+        cache.put("huge", "abcdefghijkl");
+        assertNull(cache.get("huge"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void get_dropsExpiredEntriesAndCountsMisses() throws InterruptedException {
+        SimpleCache<String, String> cache = new SimpleCache<>(200, 10);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        assertEquals("1", cache.get("a"));
+
+        Thread.sleep(300);
+
+        assertNull(cache.get("a"));
+        cache.cleanUp();
+        assertEquals(0, cache.size());
+
+        SimpleCache.Stats stats = cache.getStats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(2, stats.getExpirationCount());
+    }
+
+    @Test
+    void removeAndClear_keepWeightConsistent() {
+        SimpleCache<String, String> cache = new SimpleCache<>(60_000, 3);
+        cache.put("a", "1");
+        cache.put("a", "2");
+        cache.put("b", "3");
+        cache.remove("b");
+
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.weight());
+        assertEquals("2", cache.get("a"));
+
+        cache.clear();
+        cache.put("c", "4");
+        assertEquals(1, cache.weight());
+        assertEquals("4", cache.get("c"));
+    }
+
+    @Test
+    void get_servesHitsWhileWriterHoldsLock() throws Exception {
+        SimpleCache<String, String> cache = new SimpleCache<>(60_000, 100);
+        cache.put("a", "1");
+        ReentrantLock lock = (ReentrantLock) ReflectionTestUtils.getField(cache, "lock");
+
+        lock.lock();
+        try {
+            int readers = 4;
+            CountDownLatch done = new CountDownLatch(readers);
+            for (int r = 0; r < readers; r++) {
+                CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        assertEquals("1", cache.get("a"));
+                    }
+                    done.countDown();
+                });
+            }
+            assertTrue(done.await(5, TimeUnit.SECONDS), "reads blocked on the cache lock");
+        } finally {
+            lock.unlock();
+        }
+
+        assertEquals(4000, cache.getStats().getHitCount());
+    }
+
+    @Test
+    void put_appliesBufferedReadsBeforeEvicting() {
+        SimpleCache<String, String> cache = new SimpleCache<>(60_000, 3);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.put("c", "3");
+        for (int i = 0; i < 40; i++) {
+            cache.get(i % 2 == 0 ? "a" : "b");
+        }
+
+        cache.put("d", "4");
+
+        assertNull(cache.get("c"));
+        assertEquals("1", cache.get("a"));
+        assertEquals("2", cache.get("b"));
+    }
+}
@@ -0,0 +1,104 @@
+package org.unreal.agent.skill.capture;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.unreal.agent.skill.capture.CapturedCall.Operation;
+import org.unreal.agent.skill.execution.SkillInvocation;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpCallTargetTest {
+
+    private final Map<String, String> responses = new ConcurrentHashMap<>();
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private final List<CapturedCall> fallbackCalls = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+    private HttpCallTarget target;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().toString();
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            requests.add(exchange.getRequestMethod() + " " + path + " " + body);
+            String response = responses.get(path);
+            byte[] bytes = (response != null ? response : "{}").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(response != null ? 200 : 404, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+        target = new HttpCallTarget("http://localhost:" + server.getAddress().getPort() + "/", call -> {
+            fallbackCalls.add(call);
+            return true;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void invoke_postsExecutionsToTheirEndpoints() throws Exception {
+        responses.put("/api/agent-skills/execute/report", "{\"success\":true}");
+        responses.put("/api/agent-skills/execute/report/versions/2.0", "{\"success\":false}");
+
+        assertTrue(target.invoke(new CapturedCall(0, Operation.EXECUTE, "report", null, null, Map.of("month", 5), null)));
+        assertFalse(target.invoke(new CapturedCall(0, Operation.EXECUTE_VERSION, "report", "2.0", null, null, null)));
+        assertFalse(target.invoke(new CapturedCall(0, Operation.EXECUTE_ASYNC, "report", null, null, null, null)));
+
+        assertEquals("POST /api/agent-skills/execute/report {\"request\":\"\",\"parameters\":{\"month\":5}}", requests.get(0));
+        assertEquals("POST /api/agent-skills/execute/report/async {\"request\":\"\",\"parameters\":{}}", requests.get(2));
+        assertTrue(fallbackCalls.isEmpty());
+    }
+
+    @Test
+    void invoke_replaysBatchAsOneRequestAndChecksEveryResult() throws Exception {
+        responses.put("/api/agent-skills/execute/batch", "{\"results\":[{\"success\":true},{\"success\":false}]}");
+        CapturedCall call = new CapturedCall(0, Operation.EXECUTE_BATCH, null, null, null, null, null);
+        call.setInvocations(List.of(new SkillInvocation("report", "monthly", Map.of()),
+                new SkillInvocation("datetime", "now", Map.of())));
+
+        assertFalse(target.invoke(call));
+
+        assertEquals(1, requests.size());
+        assertTrue(requests.get(0).startsWith("POST /api/agent-skills/execute/batch [{\"skillName\":\"report\""));
+    }
+
+    @Test
+    void invoke_readsFinalResultOfStreamedExecution() throws Exception {
+        responses.put("/api/agent-skills/execute/report/stream",
+                "{\"type\":\"chunk\",\"data\":\"part\"}\n{\"type\":\"result\",\"data\":{\"success\":true}}\n");
+        responses.put("/api/agent-skills/find?k=3", "{\"found\":false}");
+
+        assertTrue(target.invoke(new CapturedCall(0, Operation.EXECUTE_STREAM, "report", null, "go", null, null)));
+        assertTrue(target.invoke(new CapturedCall(0, Operation.FIND, null, null, "monthly report", null, 3)));
+        assertFalse(target.invoke(new CapturedCall(0, Operation.FIND, null, null, "monthly report", null, null)));
+
+        assertEquals("POST /api/agent-skills/find?k=3 {\"request\":\"monthly report\"}", requests.get(1));
+    }
+
+    @Test
+    void invoke_passesDisclosureCallsToFallback() throws Exception {
+        CapturedCall call = new CapturedCall(0, Operation.ACTIVATION, "report", null, null, null, null);
+
+        assertTrue(target.invoke(call));
+
+        assertEquals(List.of(call), fallbackCalls);
+        assertTrue(requests.isEmpty());
+    }
+}
@@ -0,0 +1,76 @@
+package org.unreal.agent.skill.capture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.unreal.agent.skill.capture.CapturedCall.Operation;
+import org.unreal.agent.skill.execution.SkillInvocation;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrafficRecorderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void record_writesCallsThatReadBackForReplay() throws Exception {
+        Path file = directory.resolve("capture/traffic.jsonl");
+        Map<String, Object> parameters = new HashMap<>(Map.of("month", 3));
+        try (TrafficRecorder recorder = new TrafficRecorder(file, 1)) {
+            recorder.start();
+            recorder.record(Operation.EXECUTE, "report", null, "", parameters, null);
+            parameters.put("month", 4);
+            recorder.record(Operation.FIND, null, null, "monthly report", null, 3);
+            recorder.record(Operation.ACTIVATION, "report", null, null, null, null);
+        }
+
+        List<CapturedCall> calls = TrafficReplayer.readCalls(file);
+        assertEquals(3, calls.size());
+        assertEquals(Operation.EXECUTE, calls.get(0).getOperation());
+        assertEquals("report", calls.get(0).getSkillName());
+        assertEquals(Map.of("month", 3), calls.get(0).getParameters());
+        assertTrue(calls.get(0).getTimestamp() > 0);
+        assertEquals("monthly report", calls.get(1).getRequest());
+        assertEquals(3, calls.get(1).getK());
+        assertNull(calls.get(2).getRequest());
+    }
+
+    @Test
+    void recordBatch_writesWholeBatchAsOneCall() throws Exception {
+        Path file = directory.resolve("traffic.jsonl");
+        Map<String, Object> parameters = new HashMap<>(Map.of("month", 3));
+        try (TrafficRecorder recorder = new TrafficRecorder(file, 1)) {
+            recorder.start();
+            recorder.recordBatch(List.of(new SkillInvocation("report", "monthly", parameters),
+                    new SkillInvocation("datetime", "now", null)));
+            parameters.put("month", 4);
+        }
+
+        List<CapturedCall> calls = TrafficReplayer.readCalls(file);
+        assertEquals(1, calls.size());
+        assertEquals(Operation.EXECUTE_BATCH, calls.get(0).getOperation());
+        List<SkillInvocation> invocations = calls.get(0).getInvocations();
+        assertEquals(2, invocations.size());
+        assertEquals("report", invocations.get(0).getSkillName());
+        assertEquals(Map.of("month", 3), invocations.get(0).getParameters());
+        assertEquals("now", invocations.get(1).getRequest());
+    }
+
+    @Test
+    void record_keepsOneInSampleRateCalls() throws Exception {
+        Path file = directory.resolve("traffic.jsonl");
+        try (TrafficRecorder recorder = new TrafficRecorder(file, 10)) {
+            recorder.start();
+            for (int i = 0; i < 2000; i++) {
+                recorder.record(Operation.DISCOVERY, null, null, null, null, null);
+            }
+            assertTrue(recorder.getCapturedCalls() > 100 && recorder.getCapturedCalls() < 400,
+                    "captured " + recorder.getCapturedCalls());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.unreal.agent.skill.capture;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.unreal.agent.skill.capture.CapturedCall.Operation;
+import org.unreal.agent.skill.folder.ProgressiveDisclosureService;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TrafficReplayRunnerTest {
+
+    @Test
+    void invokeDisclosure_callsDisclosureServiceInProcess() {
+        ProgressiveDisclosureService disclosureService = mock(ProgressiveDisclosureService.class);
+        TrafficReplayRunner runner = new TrafficReplayRunner();
+        ReflectionTestUtils.setField(runner, "disclosureService", disclosureService);
+        when(disclosureService.getSkillActivationInfo("report")).thenReturn(Map.of("name", "report"));
+
+        Boolean succeeded = ReflectionTestUtils.invokeMethod(runner, "invokeDisclosure",
+                new CapturedCall(0, Operation.ACTIVATION, "report", null, null, null, null));
+
+        assertEquals(Boolean.TRUE, succeeded);
+        verify(disclosureService).getSkillActivationInfo("report");
+        assertThrows(IllegalArgumentException.class, () -> ReflectionTestUtils.invokeMethod(runner, "invokeDisclosure",
+                new CapturedCall(0, Operation.EXECUTE, "report", null, null, null, null)));
+    }
+}
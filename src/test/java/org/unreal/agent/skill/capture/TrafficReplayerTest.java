@@ -0,0 +1,79 @@
+package org.unreal.agent.skill.capture;
+
+import org.junit.jupiter.api.Test;
+import org.unreal.agent.skill.capture.CapturedCall.Operation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrafficReplayerTest {
+
+    @Test
+    void replay_reportsCallsAndErrorsPerOperationAndSkill() throws Exception {
+        List<CapturedCall> calls = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            calls.add(call(i, Operation.EXECUTE, "report"));
+        }
+        calls.add(call(5, Operation.EXECUTE, "broken"));
+        calls.add(call(6, Operation.DISCOVERY, null));
+
+        ReplayReport report = new TrafficReplayer(call -> {
+            if ("broken".equals(call.getSkillName())) {
+                throw new IllegalStateException("Skill not found");
+            }
+            Thread.sleep(2);
+            return true;
+        }, 0, 4).replay(calls);
+
+        ReplayReport.Stats execute = report.getStats().get("execute:report");
+        assertEquals(20, execute.getCount());
+        assertEquals(0, execute.getErrors());
+        assertTrue(execute.getP50Nanos() >= 2_000_000);
+        assertTrue(execute.getP99Nanos() >= execute.getP50Nanos());
+        assertTrue(execute.getMaxNanos() >= execute.getP99Nanos());
+        assertTrue(execute.getThroughput() > 0);
+        assertEquals(1, report.getStats().get("execute:broken").getErrors());
+        assertEquals(1, report.getStats().get("discovery").getCount());
+        assertTrue(report.format().contains("execute:report"));
+    }
+
+    @Test
+    void replay_keepsCapturedGapsDividedBySpeedup() throws Exception {
+        List<CapturedCall> calls = List.of(
+                call(0, Operation.EXECUTE, "report"),
+                call(1000, Operation.EXECUTE, "report"),
+                call(2000, Operation.EXECUTE, "report"));
+
+        ReplayReport report = new TrafficReplayer(call -> true, 10, 1).replay(calls);
+
+        assertEquals(3, report.getStats().get("execute:report").getCount());
+        assertTrue(report.getDurationNanos() >= 200_000_000L, "replay took " + report.getDurationNanos() + "ns");
+        assertTrue(report.getDurationNanos() < 2_000_000_000L, "replay took " + report.getDurationNanos() + "ns");
+    }
+
+    @Test
+    void replay_limitsCallsInFlightToConcurrency() throws Exception {
+        List<CapturedCall> calls = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            calls.add(call(0, Operation.EXECUTE, "report"));
+        }
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        new TrafficReplayer(call -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            inFlight.decrementAndGet();
+            return true;
+        }, 0, 3).replay(calls);
+
+        assertEquals(3, maxInFlight.get());
+    }
+
+    private static CapturedCall call(long timestamp, Operation operation, String skillName) {
+        return new CapturedCall(timestamp, operation, skillName, null, "", null, null);
+    }
+}
@@ -0,0 +1,112 @@
+package org.unreal.agent.skill.execution;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.unreal.agent.skill.core.AgentSkill;
+import org.unreal.agent.skill.core.AgentSkillResult;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SkillBulkheadTest {
+
+    private final SkillExecutor executor = new SkillExecutor(5000, 4, 10);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void submit_failsFastWhenSlotsAndQueueAreFull() throws Exception {
+        SkillBulkhead bulkhead = new SkillBulkhead("pdf-processing", SkillExecutionPolicy.of(1, 1, null));
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<AgentSkillResult> first = bulkhead.submit(executor, blockUntil(release));
+        CompletableFuture<AgentSkillResult> queued = bulkhead.submit(executor, () -> AgentSkillResult.success().build());
+        AgentSkillResult rejected = bulkhead.submit(executor, () -> AgentSkillResult.success().build())
+                .get(1, TimeUnit.SECONDS);
+
+        assertFalse(rejected.isSuccess());
+        assertEquals("bulkhead_full", rejected.getMetadata().get("error"));
+        assertEquals(1, bulkhead.getQueuedCount());
+
+        release.countDown();
+        assertTrue(first.get(1, TimeUnit.SECONDS).isSuccess());
+        assertTrue(queued.get(1, TimeUnit.SECONDS).isSuccess());
+        assertEquals(0, bulkhead.getRunningCount());
+    }
+
+    @Test
+    void submit_saturatedSkillDoesNotBlockOtherSkills() throws Exception {
+        SkillBulkheadRegistry registry = new SkillBulkheadRegistry();
+        SkillBulkhead slow = new SkillBulkhead("pdf-processing", SkillExecutionPolicy.of(1, 0, null));
+        CountDownLatch release = new CountDownLatch(1);
+
+        slow.submit(executor, blockUntil(release));
+        AgentSkillResult rejected = slow.submit(executor, () -> AgentSkillResult.success().build())
+                .get(1, TimeUnit.SECONDS);
+        AgentSkillResult fast = registry.submit(executor, "datetime",
+                () -> AgentSkillResult.success().message("fast").build()).get(1, TimeUnit.SECONDS);
+        release.countDown();
+
+        assertFalse(rejected.isSuccess());
+        assertTrue(fast.isSuccess());
+    }
+
+    @Test
+    void submit_appliesPerSkillTimeout() throws Exception {
+        SkillBulkhead bulkhead = new SkillBulkhead("slow", SkillExecutionPolicy.of(null, null, 100L));
+        CountDownLatch release = new CountDownLatch(1);
+
+        AgentSkillResult result = bulkhead.submit(executor, blockUntil(release)).get(2, TimeUnit.SECONDS);
+        release.countDown();
+
+        assertFalse(result.isSuccess());
+        assertEquals("timeout", result.getMetadata().get("error"));
+    }
+
+    @Test
+    void register_keepsBulkheadWhilePolicyIsUnchanged() {
+        SkillBulkheadRegistry registry = new SkillBulkheadRegistry();
+        registry.register(skillWithPolicy(SkillExecutionPolicy.of(2, 4, null)));
+        SkillBulkhead original = registry.get("pdf-processing");
+
+        registry.register(skillWithPolicy(SkillExecutionPolicy.of(2, 4, null)));
+        assertSame(original, registry.get("pdf-processing"));
+
+        registry.register(skillWithPolicy(SkillExecutionPolicy.of(3, 4, null)));
+        assertNotSame(original, registry.get("pdf-processing"));
+        assertEquals(3, registry.get("pdf-processing").getPolicy().getMaxConcurrency());
+    }
+
+    @Test
+    void of_withoutLimitsIsUnlimited() {
+        assertSame(SkillExecutionPolicy.UNLIMITED, SkillExecutionPolicy.of(null, 5, 0L));
+        assertTrue(SkillExecutionPolicy.of(2, null, null).hasConcurrencyLimit());
+    }
+
+    private static AgentSkill skillWithPolicy(SkillExecutionPolicy policy) {
+        AgentSkill skill = mock(AgentSkill.class);
+        when(skill.getName()).thenReturn("pdf-processing");
+        when(skill.getExecutionPolicy()).thenReturn(policy);
+        return skill;
+    }
+
+    private static Supplier<AgentSkillResult> blockUntil(CountDownLatch release) {
+        return () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return AgentSkillResult.success().build();
+        };
+    }
+}
@@ -0,0 +1,107 @@
+package org.unreal.agent.skill.execution;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.unreal.agent.skill.core.AgentSkillResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillExecutorTest {
+
+    private SkillExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void submit_returnsTaskResult() throws Exception {
+        executor = new SkillExecutor(1000, 1, 1);
+
+        AgentSkillResult result = executor.submit("quick",
+                () -> AgentSkillResult.success().message("done").skillName("quick").build())
+                .get(1, TimeUnit.SECONDS);
+
+        assertTrue(result.isSuccess());
+        assertEquals("done", result.getMessage());
+    }
+
+    @Test
+    void submit_completesWithTimeoutResultAndInterruptsTask() throws Exception {
+        executor = new SkillExecutor(100, 1, 1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        AgentSkillResult result = executor.submit("slow", () -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return AgentSkillResult.success().skillName("slow").build();
+        }).get(2, TimeUnit.SECONDS);
+
+        assertFalse(result.isSuccess());
+        assertEquals("slow", result.getSkillName());
+        assertEquals("timeout", result.getMetadata().get("error"));
+        assertTrue(interrupted.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void submit_rejectsWhenWorkersAndQueueAreFull() throws Exception {
+        executor = new SkillExecutor(5000, 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        executor.submit("blocking", () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return AgentSkillResult.success().skillName("blocking").build();
+        });
+        executor.submit("queued", () -> AgentSkillResult.success().skillName("queued").build());
+
+        AgentSkillResult rejected = executor.submit("rejected",
+                () -> AgentSkillResult.success().skillName("rejected").build()).get(1, TimeUnit.SECONDS);
+        release.countDown();
+
+        assertFalse(rejected.isSuccess());
+        assertEquals("rejected", rejected.getMetadata().get("error"));
+    }
+
+    @Test
+    void submit_virtualThreadsModeKeepsConcurrencyLimit() throws Exception {
+        executor = new SkillExecutor(5000, 2, 10, true);
+        AtomicInteger current = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        List<CompletableFuture<AgentSkillResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit("io-" + i, () -> {
+                peak.accumulateAndGet(current.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                current.decrementAndGet();
+                return AgentSkillResult.success().build();
+            }));
+        }
+
+        for (CompletableFuture<AgentSkillResult> future : futures) {
+            assertTrue(future.get(2, TimeUnit.SECONDS).isSuccess());
+        }
+        assertTrue(peak.get() <= 2);
+    }
+}
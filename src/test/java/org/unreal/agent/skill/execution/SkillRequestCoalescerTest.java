@@ -0,0 +1,64 @@
+package org.unreal.agent.skill.execution;
+
+import org.junit.jupiter.api.Test;
+import org.unreal.agent.skill.core.AgentSkill;
+import org.unreal.agent.skill.core.AgentSkillResult;
+import org.unreal.agent.skill.example.TextAnalysisSkill;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillRequestCoalescerTest {
+
+    private final AgentSkill skill = new TextAnalysisSkill();
+    private final SkillRequestCoalescer coalescer = new SkillRequestCoalescer();
+
+    @Test
+    void execute_sharesInFlightExecutionAndRetainsNothing() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Map<String, Object> parameters = Map.of("city", "Berlin");
+
+        CompletableFuture<AgentSkillResult> leader = CompletableFuture.supplyAsync(() ->
+                coalescer.execute(skill, "weather", parameters, () -> {
+                    started.countDown();
+                    try {
+                        release.await(1, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return result(calls);
+                }));
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        CompletableFuture<AgentSkillResult> follower = new CompletableFuture<>();
+        Thread followerThread = new Thread(() ->
+                follower.complete(coalescer.execute(skill, "weather", parameters, () -> result(calls))));
+        followerThread.start();
+        AgentSkillResult other = coalescer.execute(skill, "weather", Map.of("city", "Paris"), () -> result(calls));
+
+        // The follower parks once it has joined the leader's execution
+        while (followerThread.getState() != Thread.State.WAITING && followerThread.isAlive()) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertSame(leader.get(1, TimeUnit.SECONDS), follower.get(1, TimeUnit.SECONDS));
+        assertNotSame(other, leader.get());
+        assertEquals(2, calls.get());
+        assertEquals(0, coalescer.getInFlightCount());
+
+        coalescer.execute(skill, "weather", parameters, () -> result(calls));
+        assertEquals(3, calls.get());
+    }
+
+    private static AgentSkillResult result(AtomicInteger calls) {
+        calls.incrementAndGet();
+        return AgentSkillResult.success().skillName("weather").build();
+    }
+}
@@ -0,0 +1,121 @@
+package org.unreal.agent.skill.execution;
+
+import org.junit.jupiter.api.Test;
+import org.unreal.agent.skill.cache.SimpleCache;
+import org.unreal.agent.skill.core.AgentSkill;
+import org.unreal.agent.skill.core.AgentSkillResult;
+import org.unreal.agent.skill.example.DateTimeSkill;
+import org.unreal.agent.skill.example.TextAnalysisSkill;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillResultMemoizerTest {
+
+    private final AgentSkill skill = new TextAnalysisSkill();
+    private final SkillResultMemoizer memoizer = new SkillResultMemoizer(new SimpleCache<>(60_000, 100));
+
+    @Test
+    void execute_returnsCachedResultForEqualParameters() {
+        AtomicInteger calls = new AtomicInteger();
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("text", "hello world");
+        first.put("mode", "full");
+        Map<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("mode", "full");
+        reordered.put("text", "hello world");
+
+        AgentSkillResult computed = memoizer.execute(skill, "analyze", first, () -> success(calls));
+        AgentSkillResult cached = memoizer.execute(skill, "analyze", reordered, () -> success(calls));
+
+        assertEquals(1, calls.get());
+        assertSame(computed, cached);
+        memoizer.execute(skill, "analyze", Map.of("text", "other"), () -> success(calls));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void execute_doesNotCacheFailures() {
+        AtomicInteger calls = new AtomicInteger();
+        Map<String, Object> parameters = Map.of("text", "");
+
+        memoizer.execute(skill, "analyze", parameters, () -> failure(calls));
+        memoizer.execute(skill, "analyze", parameters, () -> failure(calls));
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void execute_coalescesConcurrentMisses() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Map<String, Object> parameters = Map.of("text", "same input");
+
+        CompletableFuture<AgentSkillResult> leader = CompletableFuture.supplyAsync(() ->
+                memoizer.execute(skill, "analyze", parameters, () -> {
+                    started.countDown();
+                    await(release);
+                    return success(calls);
+                }));
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        CompletableFuture<AgentSkillResult> follower = CompletableFuture.supplyAsync(() ->
+                memoizer.execute(skill, "analyze", parameters, () -> success(calls)));
+
+        release.countDown();
+
+        assertSame(leader.get(1, TimeUnit.SECONDS), follower.get(1, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void submit_answersHitsWithoutStartingExecution() {
+        AtomicInteger calls = new AtomicInteger();
+        Map<String, Object> parameters = Map.of("text", "hello");
+        AgentSkillResult computed = memoizer.submit(skill, "analyze", parameters,
+                () -> CompletableFuture.completedFuture(success(calls))).join();
+
+        assertSame(computed, memoizer.getCached(skill, "analyze", parameters));
+        assertSame(computed, memoizer.submit(skill, "analyze", parameters,
+                () -> CompletableFuture.completedFuture(success(calls))).join());
+        assertEquals(1, calls.get());
+        assertNull(memoizer.getCached(skill, "analyze", Map.of("text", "other")));
+    }
+
+    @Test
+    void invalidate_dropsResultsOfOneSkill() {
+        AtomicInteger calls = new AtomicInteger();
+        AgentSkill other = new DateTimeSkill();
+        memoizer.execute(skill, "analyze", Map.of(), () -> success(calls));
+        memoizer.execute(other, "time", Map.of(), () -> success(calls));
+
+        memoizer.invalidate(skill.getName());
+
+        assertNull(memoizer.getCached(skill, "analyze", Map.of()));
+        assertNotNull(memoizer.getCached(other, "time", Map.of()));
+    }
+
+    private static AgentSkillResult success(AtomicInteger calls) {
+        calls.incrementAndGet();
+        return AgentSkillResult.success().skillName("text-analysis").build();
+    }
+
+    private static AgentSkillResult failure(AtomicInteger calls) {
+        calls.incrementAndGet();
+        return AgentSkillResult.failure().skillName("text-analysis").build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package org.unreal.agent.skill.folder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.unreal.agent.skill.AgentSkillManager;
+import org.unreal.agent.skill.config.AgentSkillProperties;
+import org.unreal.agent.skill.core.AgentSkill;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FolderBasedSkillLoaderTest {
+
+    @TempDir
+    Path skillsDirectory;
+
+    @Test
+    void loadSkillsFromDirectory_parallelLoadRegistersInFolderOrder() throws IOException {
+        List<String> expected = new ArrayList<>();
+        for (int i = 20; i > 0; i--) {
+            writeSkill(String.format("skill-%02d", i));
+        }
+        for (int i = 1; i <= 20; i++) {
+            expected.add(String.format("skill-%02d", i));
+        }
+        Files.createDirectories(skillsDirectory.resolve("empty-folder"));
+
+        FolderBasedSkillLoader loader = loader(4);
+        Map<String, FolderBasedSkillLoader.LoadedSkill> skills = loader.loadSkillsFromDirectory(skillsDirectory);
+
+        assertEquals(expected, new ArrayList<>(skills.keySet()));
+        SkillLoadReport report = loader.getLastLoadReport();
+        assertEquals(4, report.getParallelism());
+        assertEquals(21, report.getEntries().size());
+        assertEquals(20, report.getLoadedCount());
+        assertFalse(report.getEntries().get(0).isLoaded());
+        assertEquals("skill-01", report.getEntries().get(1).getSkillName());
+    }
+
+    @Test
+    void loadSkillsFromDirectory_sequentialAndParallelLoadAgree() throws IOException {
+        writeSkill("alpha");
+        writeSkill("beta");
+        writeSkill("gamma");
+
+        Map<String, FolderBasedSkillLoader.LoadedSkill> sequential = loader(1).loadSkillsFromDirectory(skillsDirectory);
+        Map<String, FolderBasedSkillLoader.LoadedSkill> parallel = loader(0).loadSkillsFromDirectory(skillsDirectory);
+
+        assertEquals(List.of("alpha", "beta", "gamma"), new ArrayList<>(sequential.keySet()));
+        assertEquals(new ArrayList<>(sequential.keySet()), new ArrayList<>(parallel.keySet()));
+    }
+
+    @Test
+    void loadSkillsFromDirectory_loadsInstructionSkillWithoutReadingBody() throws IOException {
+        writeSkill("alpha");
+
+        FolderBasedSkillLoader.LoadedSkill skill = loader(1).loadSkillsFromDirectory(skillsDirectory).get("alpha");
+
+        assertInstanceOf(MarkdownAgentSkill.class, skill.getSkillInstance());
+        assertNull(ReflectionTestUtils.getField(skill.getDescriptor(), "instructions"));
+        assertEquals("# alpha\n\nFollow the instructions.", skill.getSkillInstance().getInstructions());
+    }
+
+    @Test
+    void unloadIdleSkills_keepsDescriptorAndReportsDormantSkills() throws IOException {
+        Path folder = Files.createDirectories(skillsDirectory.resolve("report"));
+        Files.writeString(folder.resolve("skill.json"), "{\"name\": \"report\", \"version\": \"1.0.0\","
+                + " \"description\": \"Builds reports\", \"main\": \"com.example.ReportSkill\"}");
+        AgentSkillProperties properties = new AgentSkillProperties();
+        properties.setLazySkillLoading(true);
+        FolderBasedSkillLoader loader = loader(properties);
+
+        AgentSkill skill = loader.loadSkillsFromDirectory(skillsDirectory).get("report").getSkillInstance();
+        assertEquals(1, loader.getResidencyStats().getDormantSkills());
+
+        assertTrue(skill.execute("report", Map.of()).isSuccess());
+        assertEquals(1, loader.getResidencyStats().getLoadedSkills());
+
+        assertEquals(1, loader.unloadIdleSkills(0));
+        FolderBasedSkillLoader.ResidencyStats stats = loader.getResidencyStats();
+        assertEquals(0, stats.getLoadedSkills());
+        assertEquals(1, stats.getDormantSkills());
+        assertEquals(1, stats.getIdleUnloads());
+        assertEquals("report", loader.getLoadedSkill("report").getDescriptor().getName());
+    }
+
+    @Test
+    void swapSkill_replacesRegisteredVersionAndRetiresOldOne() throws IOException {
+        Path folder = writeReportSkill("1.0.0");
+        FolderBasedSkillLoader loader = loader(new AgentSkillProperties());
+        AgentSkillManager registry = new AgentSkillManager();
+        AgentSkill previous = loader.swapSkill(folder, registry).getSkillInstance();
+        assertTrue(previous.execute("report", Map.of()).isSuccess());
+
+        writeReportSkill("2.0.0");
+        FolderBasedSkillLoader.LoadedSkill next = loader.swapSkill(folder, registry);
+
+        assertEquals("2.0.0", registry.getSkill("report").getVersion());
+        assertSame(next, loader.getLoadedSkill("report"));
+        assertTrue(((LazyAgentSkill) previous).isRetired());
+        assertTrue(previous.execute("report", Map.of()).isSuccess());
+        assertEquals(1, loader.getLoadedSkills().size());
+    }
+
+    @Test
+    void swapSkill_keepsCurrentVersionWhenNewVersionFails() throws IOException {
+        writeSkill("alpha");
+        Path folder = skillsDirectory.resolve("alpha");
+        FolderBasedSkillLoader loader = loader(new AgentSkillProperties());
+        AgentSkillManager registry = new AgentSkillManager();
+        loader.swapSkill(folder, registry);
+
+        Files.writeString(folder.resolve("SKILL.md"), "---\ndescription: no name\n---\n# broken\n");
+
+        assertNull(loader.swapSkill(folder, registry));
+        assertNotNull(registry.getSkill("alpha"));
+        assertNotNull(loader.getLoadedSkill("alpha"));
+    }
+
+    @Test
+    void loadSkillsFromDirectory_keepsFurtherVersionsOfSkillSideBySide() throws IOException {
+        writeReportSkill("1.0.0");
+        Path canaryFolder = writeReportSkill("report-canary", "2.0.0");
+        FolderBasedSkillLoader loader = loader(new AgentSkillProperties());
+        AgentSkillManager registry = new AgentSkillManager();
+
+        loader.loadSkillsFromDirectory(skillsDirectory).values()
+                .forEach(skill -> registry.registerSkillVersion(skill.getSkillInstance()));
+
+        assertEquals("1.0.0", loader.getLoadedSkill("report").getDescriptor().getVersion());
+        assertEquals("2.0.0", loader.getLoadedSkill("report@2.0.0").getDescriptor().getVersion());
+        assertEquals("1.0.0", registry.getSkill("report").getVersion());
+
+        writeReportSkill("report-canary", "2.1.0");
+        loader.swapSkill(canaryFolder, registry);
+
+        assertNull(loader.getLoadedSkill("report@2.0.0"));
+        assertNotNull(loader.getLoadedSkill("report@2.1.0"));
+        assertEquals("1.0.0", registry.getSkill("report").getVersion());
+        assertEquals(List.of("1.0.0", "2.1.0"),
+                registry.getSkillVersions("report").stream().map(AgentSkill::getVersion).toList());
+    }
+
+    private Path writeReportSkill(String version) throws IOException {
+        return writeReportSkill("report", version);
+    }
+
+    private Path writeReportSkill(String folderName, String version) throws IOException {
+        Path folder = Files.createDirectories(skillsDirectory.resolve(folderName));
+        Files.writeString(folder.resolve("skill.json"), "{\"name\": \"report\", \"version\": \"" + version + "\","
+                + " \"description\": \"Builds reports\", \"main\": \"com.example.ReportSkill\"}");
+        return folder;
+    }
+
+    private FolderBasedSkillLoader loader(int parallelism) {
+        AgentSkillProperties properties = new AgentSkillProperties();
+        properties.setSkillLoadParallelism(parallelism);
+        return loader(properties);
+    }
+
+    private FolderBasedSkillLoader loader(AgentSkillProperties properties) {
+        FolderBasedSkillLoader loader = new FolderBasedSkillLoader();
+        ReflectionTestUtils.setField(loader, "skillProperties", properties);
+        return loader;
+    }
+
+    private void writeSkill(String name) throws IOException {
+        Path folder = Files.createDirectories(skillsDirectory.resolve(name));
+        Files.writeString(folder.resolve("SKILL.md"), "---\n"
+                + "name: " + name + "\n"
+                + "description: Test skill " + name + "\n"
+                + "---\n\n"
+                + "# " + name + "\n\nFollow the instructions.\n");
+    }
+}
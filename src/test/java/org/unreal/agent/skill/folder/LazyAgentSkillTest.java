@@ -0,0 +1,278 @@
+package org.unreal.agent.skill.folder;
+
+import org.junit.jupiter.api.Test;
+import org.unreal.agent.skill.core.AgentSkill;
+import org.unreal.agent.skill.core.AgentSkillResult;
+import org.unreal.agent.skill.core.SkillResultSink;
+import org.unreal.agent.skill.core.StreamingAgentSkill;
+import org.unreal.agent.skill.example.TextAnalysisSkill;
+import org.unreal.agent.skill.folder.model.SkillParameters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyAgentSkillTest {
+
+    @Test
+    void metadataIsAnsweredWithoutLoading() {
+        SkillDescriptor descriptor = new SkillDescriptor("text-analysis", "2.0.0", "Analyzes text");
+        SkillParameters parameters = new SkillParameters();
+        parameters.setRequired(Map.of("text", "Text to analyze"));
+        descriptor.setParameters(parameters);
+        descriptor.setKeywords(List.of("analyze"));
+
+        LazyAgentSkill skill = new LazyAgentSkill(descriptor, () -> fail("skill must not be loaded"));
+
+        assertEquals("text-analysis", skill.getName());
+        assertEquals("2.0.0", skill.getVersion());
+        assertEquals(Map.of("text", "Text to analyze"), skill.getRequiredParameters());
+        assertEquals(List.of("analyze"), skill.getKeywords());
+        assertFalse(skill.isLoaded());
+    }
+
+    @Test
+    void canHandle_answersFromDescriptorWithoutLoading() {
+        SkillDescriptor withKeywords = new SkillDescriptor("text-analysis", "1.0.0", "Analyzes text");
+        withKeywords.setKeywords(List.of("Word Count"));
+        LazyAgentSkill keyworded = new LazyAgentSkill(withKeywords, () -> fail("skill must not be loaded"));
+        LazyAgentSkill described = new LazyAgentSkill(new SkillDescriptor("report", "1.0.0", "Builds quarterly reports"),
+                () -> fail("skill must not be loaded"));
+
+        assertTrue(keyworded.canHandle("please give me the word count"));
+        assertFalse(keyworded.canHandle("analyzes this text"));
+        assertTrue(described.canHandle("build the quarterly numbers"));
+        assertFalse(described.canHandle("what time is it"));
+        assertFalse(keyworded.isLoaded());
+        assertFalse(described.isLoaded());
+    }
+
+    @Test
+    void canHandle_answersFromDescriptorOnceLoaded() {
+        SkillDescriptor descriptor = new SkillDescriptor("text-analysis", "1.0.0", "Analyzes text");
+        descriptor.setKeywords(List.of("word count"));
+        LazyAgentSkill skill = new LazyAgentSkill(descriptor, () -> new TextAnalysisSkill() {
+            @Override
+            public boolean canHandle(String request) {
+                return true;
+            }
+        });
+
+        assertFalse(skill.canHandle("what time is it"));
+        skill.execute("analyze", Map.of("text", "hello"));
+
+        assertTrue(skill.isLoaded());
+        assertFalse(skill.canHandle("what time is it"));
+        assertTrue(skill.canHandle("give me the word count"));
+    }
+
+    @Test
+    void of_streamsOnlyWhenDescriptorDeclaresStreaming() {
+        SkillDescriptor plain = new SkillDescriptor("text-analysis", "1.0.0", "Analyzes text");
+        SkillDescriptor streaming = new SkillDescriptor("report", "1.0.0", "Builds reports");
+        streaming.setStreaming(true);
+
+        LazyAgentSkill plainSkill = LazyAgentSkill.of(plain, () -> fail("skill must not be loaded"), implementation -> { });
+        LazyAgentSkill streamingSkill = LazyAgentSkill.of(streaming, () -> new StreamingAgentSkill() {
+            @Override
+            public AgentSkillResult executeStreaming(String request, Map<String, Object> parameters, SkillResultSink sink) {
+                sink.emit("part");
+                return AgentSkillResult.success().build();
+            }
+
+            @Override
+            public String getName() {
+                return "report";
+            }
+
+            @Override
+            public String getDescription() {
+                return "Builds reports";
+            }
+
+            @Override
+            public String getVersion() {
+                return "1.0.0";
+            }
+
+            @Override
+            public boolean canHandle(String request) {
+                return true;
+            }
+
+            @Override
+            public Map<String, String> getRequiredParameters() {
+                return Map.of();
+            }
+
+            @Override
+            public Map<String, String> getOptionalParameters() {
+                return Map.of();
+            }
+        }, implementation -> { });
+
+        assertFalse(plainSkill instanceof StreamingAgentSkill);
+        assertInstanceOf(StreamingAgentSkill.class, streamingSkill);
+        List<Object> chunks = new ArrayList<>();
+        assertTrue(((StreamingAgentSkill) streamingSkill).executeStreaming("go", Map.of(), chunks::add).isSuccess());
+        assertEquals(List.of("part"), chunks);
+    }
+
+    @Test
+    void execute_loadsOnceUnderConcurrentFirstUse() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        LazyAgentSkill skill = new LazyAgentSkill(new SkillDescriptor("text-analysis", "1.0.0", "Analyzes text"), () -> {
+            loads.incrementAndGet();
+            return new TextAnalysisSkill();
+        });
+
+        List<CompletableFuture<AgentSkillResult>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> skill.execute("analyze", Map.of("text", "hello world"))));
+        }
+
+        for (CompletableFuture<AgentSkillResult> result : results) {
+            assertTrue(result.get(5, TimeUnit.SECONDS).isSuccess());
+        }
+        assertEquals(1, loads.get());
+        assertTrue(skill.isLoaded());
+        assertInstanceOf(TextAnalysisSkill.class, skill.getDelegate());
+    }
+
+    @Test
+    void unloadIfIdle_dropsImplementationUntilNextUse() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        AtomicInteger unloads = new AtomicInteger();
+        LazyAgentSkill skill = new LazyAgentSkill(new SkillDescriptor("text-analysis", "1.0.0", "Analyzes text"), () -> {
+            loads.incrementAndGet();
+            return new TextAnalysisSkill();
+        }, implementation -> unloads.incrementAndGet());
+
+        assertFalse(skill.unloadIfIdle(0));
+        skill.execute("analyze", Map.of("text", "hello"));
+        assertFalse(skill.unloadIfIdle(60_000));
+        assertTrue(skill.unloadIfIdle(0));
+
+        assertFalse(skill.isLoaded());
+        assertEquals(1, unloads.get());
+        assertTrue(skill.execute("analyze", Map.of("text", "hello")).isSuccess());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void unloadIfIdle_ignoresRoutingProbes() throws Exception {
+        LazyAgentSkill skill = new LazyAgentSkill(new SkillDescriptor("text-analysis", "1.0.0", "Analyzes text"),
+                TextAnalysisSkill::new);
+        skill.execute("analyze", Map.of("text", "hello"));
+        long executedAt = skill.getLastUsedTime();
+
+        for (int i = 0; i < 5; i++) {
+            Thread.sleep(20);
+            skill.canHandle("analyze this text");
+        }
+
+        assertEquals(executedAt, skill.getLastUsedTime());
+        assertTrue(skill.unloadIfIdle(50));
+        assertFalse(skill.isLoaded());
+    }
+
+    @Test
+    void unloadIfIdle_skipsSkillWithCallInProgress() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        LazyAgentSkill skill = new LazyAgentSkill(new SkillDescriptor("slow", "1.0.0", "Slow"), () -> new TextAnalysisSkill() {
+            @Override
+            public AgentSkillResult execute(String request, Map<String, Object> parameters) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.execute(request, parameters);
+            }
+        });
+
+        CompletableFuture<AgentSkillResult> running = CompletableFuture.supplyAsync(() ->
+                skill.execute("analyze", Map.of("text", "hello")));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertFalse(skill.unloadIfIdle(0));
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS).isSuccess());
+        assertTrue(skill.unloadIfIdle(0));
+    }
+
+    @Test
+    void retire_returnsAtOnceAndLastCallReleasesImplementation() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger unloads = new AtomicInteger();
+        LazyAgentSkill skill = new LazyAgentSkill(new SkillDescriptor("slow", "1.0.0", "Slow"), () -> new TextAnalysisSkill() {
+            @Override
+            public AgentSkillResult execute(String request, Map<String, Object> parameters) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return AgentSkillResult.success().message("v1").build();
+            }
+        }, implementation -> unloads.incrementAndGet());
+        AgentSkill successor = new TextAnalysisSkill() {
+            @Override
+            public AgentSkillResult execute(String request, Map<String, Object> parameters) {
+                return AgentSkillResult.success().message("v2").build();
+            }
+        };
+
+        CompletableFuture<AgentSkillResult> running = CompletableFuture.supplyAsync(() -> skill.execute("analyze", Map.of()));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertFalse(skill.retire(successor));
+        assertEquals(0, unloads.get());
+        assertEquals("v2", skill.execute("analyze", Map.of()).getMessage());
+        assertTrue(skill.isLoaded());
+
+        release.countDown();
+        assertEquals("v1", running.get(5, TimeUnit.SECONDS).getMessage());
+        assertEquals(1, unloads.get());
+        assertEquals("v2", skill.execute("analyze", Map.of()).getMessage());
+        assertFalse(skill.isLoaded());
+    }
+
+    @Test
+    void retire_withoutSuccessorRejectsLaterCalls() {
+        LazyAgentSkill skill = new LazyAgentSkill(new SkillDescriptor("text-analysis", "1.0.0", "Analyzes text"),
+                TextAnalysisSkill::new);
+        skill.getDelegate();
+
+        assertTrue(skill.retire(null));
+
+        assertTrue(skill.isRetired());
+        assertThrows(IllegalStateException.class, () -> skill.execute("analyze", Map.of("text", "hello")));
+    }
+
+    @Test
+    void getDelegate_retriesAfterFailedLoad() {
+        AtomicInteger loads = new AtomicInteger();
+        LazyAgentSkill skill = new LazyAgentSkill(new SkillDescriptor("flaky", "1.0.0", "Flaky"), () -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new IllegalStateException("jar locked");
+            }
+            return new TextAnalysisSkill();
+        });
+
+        assertThrows(IllegalStateException.class, skill::getDelegate);
+        AgentSkill loaded = skill.getDelegate();
+
+        assertNotNull(loaded);
+        assertEquals(2, loads.get());
+    }
+}
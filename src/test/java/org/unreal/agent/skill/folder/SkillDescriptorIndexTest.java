@@ -0,0 +1,98 @@
+package org.unreal.agent.skill.folder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillDescriptorIndexTest {
+
+    @TempDir
+    Path skillsDirectory;
+
+    @Test
+    void lookup_reusesUnchangedDescriptorsAcrossRestarts() throws IOException {
+        Path skillMd = writeSkill("pdf", "Extract text from PDFs");
+        SkillDescriptorIndex index = SkillDescriptorIndex.open(skillsDirectory);
+        assertNull(index.lookup(skillMd));
+        index.put(skillMd, SkillMarkdownParser.parse(skillMd));
+        index.save();
+
+        SkillDescriptor cached = SkillDescriptorIndex.open(skillsDirectory).lookup(skillMd);
+
+        assertNotNull(cached);
+        assertEquals("pdf", cached.getName());
+        assertEquals("Extract text from PDFs", cached.getDescription());
+        assertEquals("# pdf", cached.getInstructions());
+    }
+
+    @Test
+    void lookup_detectsChangedContentButNotTouchedFiles() throws IOException {
+        Path skillMd = writeSkill("pdf", "Extract text from PDFs");
+        SkillDescriptorIndex index = SkillDescriptorIndex.open(skillsDirectory);
+        index.put(skillMd, SkillMarkdownParser.parse(skillMd));
+        index.save();
+
+        Files.setLastModifiedTime(skillMd, FileTime.fromMillis(Files.getLastModifiedTime(skillMd).toMillis() + 5000));
+        assertNotNull(SkillDescriptorIndex.open(skillsDirectory).lookup(skillMd));
+
+        writeSkill("pdf", "Extract text from PDF and DOCX files");
+        assertNull(SkillDescriptorIndex.open(skillsDirectory).lookup(skillMd));
+    }
+
+    @Test
+    void save_dropsDescriptorsNotSeenSinceOpen() throws IOException {
+        Path pdf = writeSkill("pdf", "Extract text from PDFs");
+        Path csv = writeSkill("csv", "Summarize CSV files");
+        SkillDescriptorIndex index = SkillDescriptorIndex.open(skillsDirectory);
+        index.put(pdf, SkillMarkdownParser.parse(pdf));
+        index.put(csv, SkillMarkdownParser.parse(csv));
+        index.save();
+
+        SkillDescriptorIndex reopened = SkillDescriptorIndex.open(skillsDirectory);
+        assertEquals(2, reopened.size());
+        reopened.lookup(pdf);
+        reopened.save();
+
+        assertEquals(1, SkillDescriptorIndex.open(skillsDirectory).size());
+    }
+
+    @Test
+    void put_leavesSkillMdBodyOutOfIndexWithoutReadingIt() throws IOException {
+        Path skillMd = writeSkill("pdf", "Extract text from PDFs");
+        SkillDescriptor descriptor = SkillMarkdownParser.parseFrontmatter(skillMd);
+        descriptor.setInstructionsLoader(() -> fail("instructions must not be read"));
+        SkillDescriptorIndex index = SkillDescriptorIndex.open(skillsDirectory);
+        index.put(skillMd, descriptor);
+        index.save();
+
+        String indexContent = Files.readString(skillsDirectory.resolve(SkillDescriptorIndex.INDEX_FILE_NAME),
+                StandardCharsets.ISO_8859_1);
+        assertFalse(indexContent.contains("# pdf"));
+        SkillDescriptor cached = SkillDescriptorIndex.open(skillsDirectory).lookup(skillMd);
+        assertTrue(cached.hasInstructions());
+        assertEquals("# pdf", cached.getInstructions());
+    }
+
+    @Test
+    void open_ignoresCorruptIndex() throws IOException {
+        Files.write(skillsDirectory.resolve(SkillDescriptorIndex.INDEX_FILE_NAME), new byte[] {1, 2, 3});
+
+        assertEquals(0, SkillDescriptorIndex.open(skillsDirectory).size());
+    }
+
+    private Path writeSkill(String name, String description) throws IOException {
+        Path folder = Files.createDirectories(skillsDirectory.resolve(name));
+        return Files.writeString(folder.resolve("SKILL.md"), "---\n"
+                + "name: " + name + "\n"
+                + "description: " + description + "\n"
+                + "---\n\n"
+                + "# " + name + "\n");
+    }
+}
@@ -0,0 +1,187 @@
+package org.unreal.agent.skill.folder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.unreal.agent.skill.AgentSkillManager;
+import org.unreal.agent.skill.config.AgentSkillProperties;
+import org.unreal.agent.skill.core.AgentSkill;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillLifecycleManagerTest {
+
+    private static final long QUIET_WINDOW_MS = 200;
+
+    @TempDir
+    Path skillsDirectory;
+
+    private final List<String> registrations = new CopyOnWriteArrayList<>();
+    private final List<String> reloadThreads = new CopyOnWriteArrayList<>();
+    private final AgentSkillProperties properties = new AgentSkillProperties();
+    private FolderBasedSkillLoader skillLoader;
+    private SkillLifecycleManager lifecycleManager;
+
+    @BeforeEach
+    void setUp() {
+        properties.setWatchPollingInterval(QUIET_WINDOW_MS);
+        properties.setWatchScanInterval(100);
+        skillLoader = new FolderBasedSkillLoader();
+        ReflectionTestUtils.setField(skillLoader, "skillProperties", properties);
+
+        lifecycleManager = new SkillLifecycleManager();
+        lifecycleManager.setSkillLoader(skillLoader);
+        lifecycleManager.setSkillManager(new AgentSkillManager() {
+            @Override
+            public void registerSkill(AgentSkill skill) {
+                registrations.add(skill.getName());
+                reloadThreads.add(Thread.currentThread().getName());
+                super.registerSkill(skill);
+            }
+        });
+        ReflectionTestUtils.setField(lifecycleManager, "skillProperties", properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lifecycleManager.shutdown();
+    }
+
+    @Test
+    void scheduleReload_coalescesBurstIntoSingleReload() throws Exception {
+        Path alpha = writeSkill("alpha", "First version");
+
+        for (int i = 0; i < 50; i++) {
+            writeSkill("alpha", "Version " + i);
+            lifecycleManager.scheduleReload(alpha);
+        }
+
+        awaitCondition(() -> registrations.size() == 1);
+        Thread.sleep(QUIET_WINDOW_MS * 3);
+        assertEquals(List.of("alpha"), registrations);
+        assertTrue(reloadThreads.get(0).startsWith("skill-reload"));
+        assertEquals("Version 49", skillLoader.getLoadedSkill("alpha").getDescriptor().getDescription());
+    }
+
+    @Test
+    void scheduleReload_reloadsEachChangedFolderOnce() throws Exception {
+        Path alpha = writeSkill("alpha", "First skill");
+        Path beta = writeSkill("beta", "Second skill");
+
+        for (int i = 0; i < 10; i++) {
+            lifecycleManager.scheduleReload(alpha);
+            lifecycleManager.scheduleReload(beta);
+        }
+
+        awaitCondition(() -> registrations.size() == 2);
+        Thread.sleep(QUIET_WINDOW_MS * 3);
+        assertEquals(2, registrations.size());
+        assertTrue(registrations.containsAll(List.of("alpha", "beta")));
+    }
+
+    @Test
+    void scheduleReload_holdsChangeBackUntilRunningReloadFinishes() throws Exception {
+        CountDownLatch reloading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        lifecycleManager.setSkillManager(new AgentSkillManager() {
+            @Override
+            public void registerSkill(AgentSkill skill) {
+                registrations.add(skill.getDescription());
+                if (registrations.size() == 1) {
+                    reloading.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                super.registerSkill(skill);
+            }
+        });
+        Path alpha = writeSkill("alpha", "First version");
+        lifecycleManager.scheduleReload(alpha);
+        assertTrue(reloading.await(5, TimeUnit.SECONDS));
+
+        writeSkill("alpha", "Second version");
+        lifecycleManager.scheduleReload(alpha);
+        ThreadPoolExecutor scheduler = (ThreadPoolExecutor) ReflectionTestUtils.getField(lifecycleManager, "scheduler");
+        Thread.sleep(QUIET_WINDOW_MS * 3);
+        long flushes = scheduler.getCompletedTaskCount();
+        Thread.sleep(QUIET_WINDOW_MS * 2);
+
+        // The held-back reload waits for the running one instead of being retried continuously
+        assertEquals(flushes, scheduler.getCompletedTaskCount());
+        release.countDown();
+        awaitCondition(() -> registrations.size() == 2);
+        assertEquals(List.of("First version", "Second version"), registrations);
+    }
+
+    @Test
+    void scheduleReload_unloadsRemovedFolder() throws Exception {
+        Path alpha = writeSkill("alpha", "First skill");
+        lifecycleManager.scheduleReload(alpha);
+        awaitCondition(() -> skillLoader.getLoadedSkill("alpha") != null);
+
+        Files.delete(alpha.resolve("SKILL.md"));
+        Files.delete(alpha);
+        lifecycleManager.scheduleReload(alpha);
+
+        awaitCondition(() -> skillLoader.getLoadedSkill("alpha") == null);
+        assertEquals(1, registrations.size());
+    }
+
+    @Test
+    void initialize_reloadsSkillOnChangeInNestedFolder() throws Exception {
+        Path alpha = writeSkill("alpha", "First skill");
+        Files.createDirectories(alpha.resolve("references"));
+        lifecycleManager.initialize(skillsDirectory);
+        assertEquals(List.of("alpha"), registrations);
+
+        Path nested = Files.createDirectories(alpha.resolve("references/api"));
+        Files.writeString(nested.resolve("endpoints.md"), "# Endpoints");
+
+        awaitCondition(() -> registrations.size() == 2);
+    }
+
+    @Test
+    void initialize_detectsChangesByScanningInPollingMode() throws Exception {
+        properties.setWatchMode("polling");
+        Path alpha = writeSkill("alpha", "First skill");
+        lifecycleManager.initialize(skillsDirectory);
+
+        Files.writeString(Files.createDirectories(alpha.resolve("scripts")).resolve("run.sh"), "echo hi");
+        writeSkill("beta", "Second skill");
+
+        awaitCondition(() -> registrations.containsAll(List.of("alpha", "beta")) && registrations.size() == 3);
+    }
+
+    private Path writeSkill(String name, String description) throws IOException {
+        Path folder = Files.createDirectories(skillsDirectory.resolve(name));
+        Files.writeString(folder.resolve("SKILL.md"), "---\n"
+                + "name: " + name + "\n"
+                + "description: " + description + "\n"
+                + "---\n"
+                + "# " + name + "\n");
+        return folder;
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "condition not met within 5s");
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.unreal.agent.skill.folder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillMarkdownParserTest {
+
+    @TempDir
+    Path skillDirectory;
+
+    @Test
+    void parse_splitsFrontmatterAndBody() throws IOException {
+        Path skillMd = write("---\r\nname: pdf\r\ndescription: Extract text\r\n---\r\n\r\n# PDF\r\n\r\n---\r\nFooter\r\n");
+
+        SkillDescriptor descriptor = SkillMarkdownParser.parse(skillMd);
+
+        assertEquals("pdf", descriptor.getName());
+        assertEquals("Extract text", descriptor.getDescription());
+        assertEquals("1.0", descriptor.getVersion());
+        assertEquals("# PDF\n\n---\nFooter", descriptor.getInstructions());
+    }
+
+    @Test
+    void parseFrontmatter_readsBodyOnlyWhenRequested() throws IOException {
+        Path skillMd = write("---\nname: pdf\ndescription: Extract text\n---\n# PDF\n\nUse pdftotext.\n");
+
+        SkillDescriptor descriptor = SkillMarkdownParser.parseFrontmatter(skillMd);
+        assertEquals("pdf", descriptor.getName());
+        assertTrue(descriptor.isValid());
+
+        Files.delete(skillMd);
+        assertThrows(RuntimeException.class, descriptor::getInstructions);
+    }
+
+    @Test
+    void parseFrontmatter_bodyMatchesFullParse() throws IOException {
+        Path skillMd = write("Preamble\n---\nname: pdf\ndescription: Extract text\n---\n# PDF\n\nUse pdftotext.\n");
+
+        assertEquals(SkillMarkdownParser.parse(skillMd).getInstructions(),
+                SkillMarkdownParser.parseFrontmatter(skillMd).getInstructions());
+    }
+
+    @Test
+    void parseFrontmatter_reparsesBodyOfChangedFile() throws IOException {
+        Path skillMd = write("---\nname: pdf\ndescription: Extract text\n---\n# PDF\n");
+        SkillDescriptor descriptor = SkillMarkdownParser.parseFrontmatter(skillMd);
+
+        write("---\nname: pdf\ndescription: Extract text from PDF files\n---\n# PDF v2\n");
+
+        assertEquals("# PDF v2", descriptor.getInstructions());
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(skillDirectory.resolve("SKILL.md"), content);
+    }
+}
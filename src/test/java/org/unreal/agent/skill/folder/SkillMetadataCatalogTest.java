@@ -0,0 +1,136 @@
+package org.unreal.agent.skill.folder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillMetadataCatalogTest {
+
+    @TempDir
+    Path skillsDirectory;
+
+    private final SkillMetadataCatalog catalog = new SkillMetadataCatalog();
+
+    @Test
+    void list_servesUnchangedEntriesFromCache() throws IOException {
+        writeSkill("alpha", "First skill");
+        writeSkill("beta", "Second skill");
+        Files.createDirectories(skillsDirectory.resolve("not-a-skill"));
+
+        List<SkillMetadataCatalog.Entry> first = catalog.list(skillsDirectory);
+        List<SkillMetadataCatalog.Entry> second = catalog.list(skillsDirectory);
+
+        assertEquals(List.of("alpha", "beta"), names(first));
+        assertSame(first.get(0), second.get(0));
+        assertSame(first.get(1), second.get(1));
+    }
+
+    @Test
+    void list_detectsChangesInUnwatchedDirectory() throws IOException {
+        Path alpha = writeSkill("alpha", "First skill");
+        catalog.list(skillsDirectory);
+
+        writeSkill("beta", "Second skill");
+        touch(skillsDirectory, 60_000);
+        writeSkill("alpha", "First skill, revised");
+        touch(alpha.resolve("SKILL.md"), 60_000);
+
+        List<SkillMetadataCatalog.Entry> entries = catalog.list(skillsDirectory);
+
+        assertEquals(List.of("alpha", "beta"), names(entries));
+        assertEquals("First skill, revised", entries.get(0).getDescriptor().getDescription());
+    }
+
+    @Test
+    void get_trustsWatchedFolderUntilInvalidated() throws IOException {
+        Path alpha = writeSkill("alpha", "First skill");
+        catalog.markWatched(alpha);
+        SkillMetadataCatalog.Entry cached = catalog.get(alpha);
+
+        writeSkill("alpha", "First skill, revised");
+        touch(alpha.resolve("SKILL.md"), 60_000);
+        assertSame(cached, catalog.get(alpha));
+
+        catalog.invalidate(alpha.resolve("SKILL.md"));
+        assertEquals("First skill, revised", catalog.get(alpha).getDescriptor().getDescription());
+    }
+
+    @Test
+    void list_dropsFolderDeletedWithoutWatchEvent() throws IOException {
+        writeSkill("alpha", "First skill");
+        Path beta = writeSkill("beta", "Second skill");
+        catalog.markWatched(skillsDirectory);
+        catalog.markWatched(beta);
+        assertEquals(List.of("alpha", "beta"), names(catalog.list(skillsDirectory)));
+
+        delete(beta);
+
+        assertEquals(List.of("alpha"), names(catalog.list(skillsDirectory)));
+        assertNull(catalog.get(beta));
+        Map<?, ?> entries = (Map<?, ?>) ReflectionTestUtils.getField(catalog, "entries");
+        assertFalse(entries.containsKey(beta.toAbsolutePath().normalize()));
+    }
+
+    @Test
+    void list_dropsEntriesOfFoldersMissingFromRescan() throws IOException {
+        writeSkill("alpha", "First skill");
+        Path beta = writeSkill("beta", "Second skill");
+        catalog.list(skillsDirectory);
+
+        delete(beta);
+        touch(skillsDirectory, 60_000);
+
+        assertEquals(List.of("alpha"), names(catalog.list(skillsDirectory)));
+        Map<?, ?> entries = (Map<?, ?>) ReflectionTestUtils.getField(catalog, "entries");
+        assertEquals(1, entries.size());
+    }
+
+    @Test
+    void get_readsInstructionsOnDemand() throws IOException {
+        Path alpha = writeSkill("alpha", "First skill");
+
+        SkillMetadataCatalog.Entry entry = catalog.get(alpha);
+
+        assertEquals("# alpha", entry.getDescriptor().getInstructions());
+        assertNull(catalog.get(skillsDirectory.resolve("missing")));
+    }
+
+    private Path writeSkill(String name, String description) throws IOException {
+        Path folder = Files.createDirectories(skillsDirectory.resolve(name));
+        Files.writeString(folder.resolve("SKILL.md"), "---\n"
+                + "name: " + name + "\n"
+                + "description: " + description + "\n"
+                + "---\n"
+                + "# " + name + "\n");
+        return folder;
+    }
+
+    private static void delete(Path folder) throws IOException {
+        try (Stream<Path> paths = Files.walk(folder)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static void touch(Path path, long offsetMillis) throws IOException {
+        FileTime modified = Files.getLastModifiedTime(path);
+        Files.setLastModifiedTime(path, FileTime.fromMillis(modified.toMillis() + offsetMillis));
+    }
+
+    private static List<String> names(List<SkillMetadataCatalog.Entry> entries) {
+        return entries.stream().map(entry -> entry.getDescriptor().getName()).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,67 @@
+package org.unreal.agent.skill.folder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillTreeScannerTest {
+
+    @TempDir
+    Path skillsDirectory;
+
+    @Test
+    void scan_reportsAddedChangedAndRemovedFolders() throws IOException {
+        Path alpha = writeSkill("alpha");
+        Path beta = writeSkill("beta");
+        SkillTreeScanner scanner = new SkillTreeScanner(skillsDirectory);
+
+        assertEquals(Set.of(alpha, beta), scanner.scan());
+        assertEquals(Set.of(), scanner.scan());
+
+        Files.writeString(Files.createDirectories(alpha.resolve("scripts/lib")).resolve("run.sh"), "echo hi");
+        Path gamma = writeSkill("gamma");
+        Files.delete(beta.resolve("SKILL.md"));
+        Files.delete(beta);
+
+        assertEquals(Set.of(alpha, beta, gamma), scanner.scan());
+        assertEquals(2, scanner.size());
+    }
+
+    @Test
+    void rescan_limitsScanToAffectedSkillFolder() throws IOException {
+        Path alpha = writeSkill("alpha");
+        Path beta = writeSkill("beta");
+        SkillTreeScanner scanner = new SkillTreeScanner(skillsDirectory);
+        scanner.scan();
+
+        Files.writeString(alpha.resolve("notes.md"), "alpha notes");
+        Files.writeString(beta.resolve("notes.md"), "beta notes");
+
+        assertEquals(Set.of(alpha), scanner.rescan(alpha.resolve("references")));
+        assertEquals(Set.of(beta), scanner.rescan(skillsDirectory));
+    }
+
+    @Test
+    void skillFolderOf_mapsNestedPathsAndSkipsHiddenEntries() throws IOException {
+        Path alpha = writeSkill("alpha");
+        Files.writeString(skillsDirectory.resolve("README.md"), "not a skill");
+        SkillTreeScanner scanner = new SkillTreeScanner(skillsDirectory);
+
+        assertEquals(alpha, scanner.skillFolderOf(alpha.resolve("scripts/lib/run.sh")));
+        assertNull(scanner.skillFolderOf(skillsDirectory.resolve(SkillDescriptorIndex.INDEX_FILE_NAME)));
+        assertNull(scanner.skillFolderOf(skillsDirectory.resolve("README.md")));
+        assertNull(scanner.skillFolderOf(skillsDirectory));
+    }
+
+    private Path writeSkill(String name) throws IOException {
+        Path folder = Files.createDirectories(skillsDirectory.resolve(name));
+        Files.writeString(folder.resolve("SKILL.md"), "---\nname: " + name + "\ndescription: Test skill\n---\n# " + name + "\n");
+        return folder;
+    }
+}
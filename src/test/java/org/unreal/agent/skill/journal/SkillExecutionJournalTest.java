@@ -0,0 +1,121 @@
+package org.unreal.agent.skill.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillExecutionJournalTest {
+
+    private static final int RECORDS_PER_SEGMENT = 7;
+    private static final int SEGMENT_SIZE = (RECORDS_PER_SEGMENT + 1) * SkillExecutionJournal.RECORD_SIZE;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void record_writesFixedLayoutRecordsReadBackInOrder() throws IOException {
+        try (SkillExecutionJournal journal = new SkillExecutionJournal(directory, SEGMENT_SIZE, 0)) {
+            journal.open();
+            journal.record("report", "1.0", "monthly".hashCode(), Map.of("month", 3).hashCode(),
+                    SkillExecutionJournal.STATUS_SUCCESS, 1_500);
+            journal.record("report", "2.0", 0, 0, SkillExecutionJournal.STATUS_EXCEPTION, 2_500);
+        }
+
+        List<JournalRecord> records = readAll();
+        assertEquals(2, records.size());
+        JournalRecord first = records.get(0);
+        assertEquals("report", first.getSkillName());
+        assertEquals("1.0", first.getVersion());
+        assertEquals(1_500, first.getDurationNanos());
+        assertTrue(first.isSuccess());
+        assertEquals("monthly".hashCode(), first.getRequestHash());
+        assertEquals(Map.of("month", 3).hashCode(), first.getParametersHash());
+        assertTrue(first.getTimestamp() > 0);
+        assertEquals("2.0", records.get(1).getVersion());
+        assertEquals(SkillExecutionJournal.STATUS_EXCEPTION, records.get(1).getStatus());
+    }
+
+    @Test
+    void record_rollsOverToNewSegmentsAndDeletesOldest() throws IOException {
+        try (SkillExecutionJournal journal = new SkillExecutionJournal(directory, SEGMENT_SIZE, 2)) {
+            journal.open();
+            for (int i = 0; i < RECORDS_PER_SEGMENT * 3 + 1; i++) {
+                journal.record("skill-" + i, "1.0", 0, 0, SkillExecutionJournal.STATUS_SUCCESS, i);
+            }
+        }
+
+        List<Path> segments = SkillJournalReader.listSegments(directory);
+        assertEquals(2, segments.size());
+        assertEquals(2, SkillExecutionJournal.segmentIndex(segments.get(0)));
+        List<JournalRecord> records = readAll();
+        assertEquals(RECORDS_PER_SEGMENT + 1, records.size());
+        assertEquals("skill-" + RECORDS_PER_SEGMENT * 2, records.get(0).getSkillName());
+    }
+
+    @Test
+    void open_startsNewSegmentAfterExistingOnes() throws IOException {
+        for (int run = 0; run < 2; run++) {
+            try (SkillExecutionJournal journal = new SkillExecutionJournal(directory, SEGMENT_SIZE, 0)) {
+                journal.open();
+                journal.record("report", "1.0", 0, 0, SkillExecutionJournal.STATUS_SUCCESS, run);
+            }
+        }
+
+        assertEquals(2, SkillJournalReader.listSegments(directory).size());
+        assertEquals(2, readAll().size());
+    }
+
+    @Test
+    void record_truncatesLongNamesToFixedField() throws IOException {
+        String longName = "x".repeat(100);
+        try (SkillExecutionJournal journal = new SkillExecutionJournal(directory, SEGMENT_SIZE, 0)) {
+            journal.open();
+            journal.record(longName, "1.0", 0, 0, SkillExecutionJournal.STATUS_SUCCESS, 1);
+        }
+
+        assertEquals("x".repeat(SkillExecutionJournal.MAX_NAME_LENGTH), readAll().get(0).getSkillName());
+    }
+
+    @Test
+    void aggregate_summarizesExecutionsPerSkill() throws IOException {
+        try (SkillExecutionJournal journal = new SkillExecutionJournal(directory, SEGMENT_SIZE, 0)) {
+            journal.open();
+            journal.record("report", "1.0", 0, 0, SkillExecutionJournal.STATUS_SUCCESS, 1_000);
+            journal.record("report", "2.0", 0, 0, SkillExecutionJournal.STATUS_FAILURE, 3_000);
+            journal.record("search", "1.0", 0, 0, SkillExecutionJournal.STATUS_EXCEPTION, 5_000);
+        }
+
+        Map<String, SkillJournalReader.Summary> summaries = new SkillJournalReader(directory).aggregate(record -> true);
+        SkillJournalReader.Summary report = summaries.get("report");
+        assertEquals(2, report.getCount());
+        assertEquals(1, report.getFailures());
+        assertEquals(2_000, report.getAverageNanos());
+        assertEquals(3_000, report.getMaxNanos());
+        assertEquals(List.of("1.0", "2.0"), report.getVersions());
+        assertEquals(1, summaries.get("search").getExceptions());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int exitCode = SkillJournalCli.run(new String[]{"summary", directory.toString(), "--skill", "search"},
+                new PrintStream(out, true, StandardCharsets.UTF_8), System.err);
+        assertEquals(0, exitCode);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("search\t1\t0\t1\t5.0\t5.0\t1.0", lines[1]);
+    }
+
+    private List<JournalRecord> readAll() throws IOException {
+        List<JournalRecord> records = new ArrayList<>();
+        new SkillJournalReader(directory).scan(records::add);
+        return records;
+    }
+}
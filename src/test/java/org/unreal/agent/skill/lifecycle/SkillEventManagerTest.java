@@ -0,0 +1,239 @@
+package org.unreal.agent.skill.lifecycle;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.unreal.agent.skill.config.AgentSkillProperties;
+import org.unreal.agent.skill.core.AgentSkill;
+import org.unreal.agent.skill.core.AgentSkillResult;
+import org.unreal.agent.skill.lifecycle.event.SkillExecutedEvent;
+import org.unreal.agent.skill.lifecycle.event.SkillExecutionRecord;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SkillEventManagerTest {
+
+    private final AgentSkillProperties properties = new AgentSkillProperties();
+    private final List<Object> publishedEvents = new CopyOnWriteArrayList<>();
+    private final List<String> publishingThreads = new CopyOnWriteArrayList<>();
+    private final List<List<SkillExecutionRecord>> batches = new CopyOnWriteArrayList<>();
+    private final AgentSkill skill = mock(AgentSkill.class);
+    private SkillEventManager eventManager;
+
+    @BeforeEach
+    void setUp() {
+        when(skill.getName()).thenReturn("report");
+        when(skill.getVersion()).thenReturn("1.0");
+        eventManager = new SkillEventManager();
+        ApplicationEventPublisher publisher = event -> {
+            publishedEvents.add(event);
+            publishingThreads.add(Thread.currentThread().getName());
+        };
+        ReflectionTestUtils.setField(eventManager, "eventPublisher", publisher);
+        ReflectionTestUtils.setField(eventManager, "skillProperties", properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventManager.shutdown();
+    }
+
+    @Test
+    void publishSkillExecuted_deliversLightweightRecordsInBatchesOffTheCallingThread() throws Exception {
+        useListener(false);
+        eventManager.start();
+
+        for (int i = 0; i < 10; i++) {
+            eventManager.publishSkillExecuted(skill, "request " + i, Map.of("n", i), ok(), i);
+        }
+
+        awaitCondition(() -> publishedEvents.size() == 10);
+        List<SkillExecutionRecord> records = batches.stream().flatMap(List::stream).toList();
+        assertEquals(10, records.size());
+        SkillExecutionRecord first = records.get(0);
+        assertEquals("report", first.getSkillName());
+        assertEquals("1.0", first.getSkillVersion());
+        assertTrue(first.isSuccess());
+        assertFalse(first.hasPayload());
+        assertNull(first.getRequest());
+        assertTrue(records.get(9).getSequence() > first.getSequence());
+
+        SkillExecutedEvent event = (SkillExecutedEvent) publishedEvents.get(9);
+        assertEquals("report", event.getSkillName());
+        assertEquals(9, event.getExecutionTime());
+        assertNull(event.getResult());
+        assertTrue(publishingThreads.stream().allMatch("skill-events"::equals));
+    }
+
+    @Test
+    void publishSkillExecuted_keepsPayloadsWhenListenerRequiresThem() throws Exception {
+        useListener(true);
+        eventManager.start();
+
+        AgentSkillResult result = ok();
+        eventManager.publishSkillExecuted(skill, "request", Map.of("n", 1), result, 5);
+
+        awaitCondition(() -> publishedEvents.size() == 1);
+        SkillExecutionRecord record = batches.get(0).get(0);
+        assertEquals("request", record.getRequest());
+        assertSame(result, record.getResult());
+        assertSame(result, ((SkillExecutedEvent) publishedEvents.get(0)).getResult());
+    }
+
+    @Test
+    void publishSkillExecuted_dropsRecordsWhenBufferIsFull() throws Exception {
+        properties.setEventBufferSize(4);
+        CountDownLatch release = new CountDownLatch(1);
+        ReflectionTestUtils.setField(eventManager, "listeners", List.<SkillEventListener>of(executions -> {
+            batches.add(List.copyOf(executions));
+            awaitQuietly(release);
+        }));
+        eventManager.start();
+
+        eventManager.publishSkillExecuted(skill, "first", Map.of(), ok(), 1);
+        awaitCondition(() -> batches.size() == 1);
+        for (int i = 0; i < 10; i++) {
+            eventManager.publishSkillExecuted(skill, "request", Map.of(), ok(), 1);
+        }
+        release.countDown();
+
+        assertEquals(6, eventManager.getDroppedEvents());
+        awaitCondition(() -> publishedEvents.size() == 5);
+        assertEquals(0, eventManager.getPendingEvents());
+    }
+
+    @Test
+    void publishSkillExecuted_samplesRecordsOnceBufferIsHalfFull() throws Exception {
+        properties.setEventBufferSize(8);
+        properties.setEventOverflowPolicy("sample");
+        properties.setEventSampleRate(1_000_000);
+        CountDownLatch release = new CountDownLatch(1);
+        ReflectionTestUtils.setField(eventManager, "listeners", List.<SkillEventListener>of(executions -> {
+            batches.add(List.copyOf(executions));
+            awaitQuietly(release);
+        }));
+        eventManager.start();
+
+        eventManager.publishSkillExecuted(skill, "first", Map.of(), ok(), 1);
+        awaitCondition(() -> batches.size() == 1);
+        for (int i = 0; i < 10; i++) {
+            eventManager.publishSkillExecuted(skill, "request", Map.of(), ok(), 1);
+        }
+        release.countDown();
+
+        assertTrue(eventManager.getSampledOutEvents() >= 5);
+        assertEquals(0, eventManager.getDroppedEvents());
+    }
+
+    @Test
+    void publishSkillExecuted_runsListenersOnCallingThreadInSyncMode() {
+        properties.setEventMode("sync");
+        useListener(false);
+        eventManager.start();
+
+        AgentSkillResult result = ok();
+        eventManager.publishSkillExecuted(skill, "request", Map.of(), result, 3);
+
+        assertEquals(1, publishedEvents.size());
+        assertSame(skill, ((SkillExecutedEvent) publishedEvents.get(0)).getSkill());
+        assertEquals(Thread.currentThread().getName(), publishingThreads.get(0));
+        assertEquals(1, batches.size());
+        assertSame(result, batches.get(0).get(0).getResult());
+    }
+
+    @Test
+    void dispatcher_parksWhileIdleAndWakesForNextRecord() throws Exception {
+        useListener(false);
+        eventManager.start();
+        Thread dispatcher = (Thread) ReflectionTestUtils.getField(eventManager, "dispatcher");
+
+        awaitCondition(() -> dispatcher.getState() == Thread.State.WAITING);
+        eventManager.publishSkillExecuted(skill, "request", Map.of(), ok(), 1);
+
+        awaitCondition(() -> publishedEvents.size() == 1);
+        awaitCondition(() -> dispatcher.getState() == Thread.State.WAITING);
+    }
+
+    @Test
+    void start_rejectsNonPositiveSampleRateAndBatchSize() {
+        properties.setEventSampleRate(0);
+        assertThrows(IllegalArgumentException.class, eventManager::start);
+
+        properties.setEventSampleRate(10);
+        properties.setEventBatchSize(0);
+        assertThrows(IllegalArgumentException.class, eventManager::start);
+        assertNull(ReflectionTestUtils.getField(eventManager, "dispatcher"));
+    }
+
+    @Test
+    void shutdown_deliversBufferedRecordsAndPublishesLaterOnesDirectly() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ReflectionTestUtils.setField(eventManager, "listeners", List.<SkillEventListener>of(executions -> {
+            batches.add(List.copyOf(executions));
+            awaitQuietly(release);
+        }));
+        eventManager.start();
+        @SuppressWarnings("unchecked")
+        SkillEventRingBuffer<SkillExecutionRecord> buffer =
+                (SkillEventRingBuffer<SkillExecutionRecord>) ReflectionTestUtils.getField(eventManager, "buffer");
+
+        eventManager.publishSkillExecuted(skill, "first", Map.of(), ok(), 1);
+        awaitCondition(() -> batches.size() == 1);
+        eventManager.publishSkillExecuted(skill, "second", Map.of(), ok(), 1);
+        Thread stopper = new Thread(eventManager::shutdown);
+        stopper.start();
+        awaitCondition(buffer::isClosed);
+        release.countDown();
+        stopper.join(5000);
+
+        assertFalse(buffer.offer(new SkillExecutionRecord(0, "report", "1.0", true, 0, 0, null, null, null)));
+        eventManager.publishSkillExecuted(skill, "third", Map.of(), ok(), 1);
+        assertEquals(3, publishedEvents.size());
+        assertEquals(0, eventManager.getDroppedEvents());
+    }
+
+    private void useListener(boolean payloadRequired) {
+        ReflectionTestUtils.setField(eventManager, "listeners", List.<SkillEventListener>of(new SkillEventListener() {
+            @Override
+            public void onSkillExecutions(List<SkillExecutionRecord> executions) {
+                batches.add(List.copyOf(executions));
+            }
+
+            @Override
+            public boolean isPayloadRequired() {
+                return payloadRequired;
+            }
+        }));
+    }
+
+    private static AgentSkillResult ok() {
+        return AgentSkillResult.success().skillName("report").build();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "condition not met within 5s");
+            Thread.sleep(20);
+        }
+    }
+}
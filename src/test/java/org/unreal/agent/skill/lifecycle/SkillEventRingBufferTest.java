@@ -0,0 +1,94 @@
+package org.unreal.agent.skill.lifecycle;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillEventRingBufferTest {
+
+    @Test
+    void offer_rejectsElementsWhenFullUntilDrained() {
+        SkillEventRingBuffer<Integer> buffer = new SkillEventRingBuffer<>(3);
+        assertEquals(4, buffer.capacity());
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+        assertEquals(4, buffer.size());
+
+        List<Integer> batch = new ArrayList<>();
+        assertEquals(3, buffer.drainTo(batch, 3));
+        assertEquals(List.of(0, 1, 2), batch);
+        assertTrue(buffer.offer(5));
+        assertEquals(2, buffer.drainTo(batch, 10));
+        assertEquals(List.of(0, 1, 2, 3, 5), batch);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void close_rejectsNewElementsButKeepsAcceptedOnes() {
+        SkillEventRingBuffer<Integer> buffer = new SkillEventRingBuffer<>(4);
+        assertTrue(buffer.offer(1));
+        assertTrue(buffer.offer(2));
+
+        buffer.close();
+
+        assertTrue(buffer.isClosed());
+        assertFalse(buffer.offer(3));
+        assertEquals(2, buffer.size());
+        List<Integer> batch = new ArrayList<>();
+        assertEquals(2, buffer.drainTo(batch, 10));
+        assertEquals(List.of(1, 2), batch);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void offer_keepsEveryElementFromConcurrentProducers() throws Exception {
+        SkillEventRingBuffer<Integer> buffer = new SkillEventRingBuffer<>(64);
+        int producers = 4;
+        int perProducer = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.yield();
+                    }
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        Set<Integer> received = new HashSet<>();
+        List<Integer> batch = new ArrayList<>();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (received.size() < producers * perProducer) {
+            assertTrue(System.currentTimeMillis() < deadline, "elements not drained within 10s");
+            buffer.drainTo(batch, 32);
+            received.addAll(batch);
+            batch.clear();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(producers * perProducer, received.size());
+    }
+
+    @Test
+    void constructor_rejectsTooSmallCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new SkillEventRingBuffer<>(1));
+    }
+}
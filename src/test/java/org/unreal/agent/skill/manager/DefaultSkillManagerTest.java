@@ -0,0 +1,150 @@
+package org.unreal.agent.skill.manager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.unreal.agent.skill.cache.SimpleCache;
+import org.unreal.agent.skill.core.AgentSkill;
+import org.unreal.agent.skill.core.AgentSkillResult;
+import org.unreal.agent.skill.execution.SkillExecutionPolicy;
+import org.unreal.agent.skill.execution.SkillResultMemoizer;
+import org.unreal.agent.skill.metrics.SkillMetrics;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class DefaultSkillManagerTest {
+
+    private DefaultSkillManager skillManager;
+
+    @BeforeEach
+    void setUp() {
+        skillManager = new DefaultSkillManager();
+    }
+
+    @Test
+    void setTrafficSplit_routesSynchronousNameBasedExecutionsToWeightedVersion() {
+        AgentSkill stable = versionedSkill("1.0");
+        AgentSkill canary = versionedSkill("2.0");
+        AgentSkillResult result = AgentSkillResult.success().skillName("report").build();
+        when(canary.execute(anyString(), anyMap())).thenReturn(result);
+        skillManager.registerSkillVersion(stable);
+        skillManager.registerSkillVersion(canary);
+
+        skillManager.setTrafficSplit("report", Map.of("1.0", 0, "2.0", 1));
+
+        assertSame(result, skillManager.executeSkill("report", "request", Map.of()));
+        verify(canary).execute(eq("request"), anyMap());
+        verify(stable, never()).execute(anyString(), anyMap());
+    }
+
+    @Test
+    void executeSkill_servesMemoizedResultWhileBulkheadIsFull() throws Exception {
+        ReflectionTestUtils.setField(skillManager, "resultMemoizer", new SkillResultMemoizer(new SimpleCache<>(60_000, 100)));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AgentSkill skill = deterministicSkill("1.0");
+        when(skill.getExecutionPolicy()).thenReturn(SkillExecutionPolicy.of(1, 0, null));
+        when(skill.execute(anyString(), anyMap())).thenAnswer(invocation -> {
+            if ("slow".equals(invocation.getArgument(0))) {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return AgentSkillResult.success().skillName("report").build();
+        });
+        skillManager.registerSkill(skill);
+
+        AgentSkillResult computed = skillManager.executeSkill("report", "cached", Map.of());
+        CompletableFuture<AgentSkillResult> slow = skillManager.executeSkillAsync("report", "slow", Map.of());
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertSame(computed, skillManager.executeSkill("report", "cached", Map.of()));
+        assertFalse(skillManager.executeSkill("report", "uncached", Map.of()).isSuccess());
+        release.countDown();
+        assertTrue(slow.get(5, TimeUnit.SECONDS).isSuccess());
+        verify(skill, times(1)).execute(eq("cached"), anyMap());
+    }
+
+    @Test
+    void registerSkill_dropsMemoizedResultsOfReplacedSkill() {
+        ReflectionTestUtils.setField(skillManager, "resultMemoizer", new SkillResultMemoizer(new SimpleCache<>(60_000, 100)));
+        AgentSkill original = deterministicSkill("1.0");
+        AgentSkill reloaded = deterministicSkill("1.0");
+        when(original.execute(anyString(), anyMap())).thenReturn(AgentSkillResult.success().message("old").build());
+        when(reloaded.execute(anyString(), anyMap())).thenReturn(AgentSkillResult.success().message("new").build());
+
+        skillManager.registerSkill(original);
+        assertEquals("old", skillManager.executeSkill("report", "request", Map.of()).getMessage());
+        assertEquals("old", skillManager.executeSkill("report", "request", Map.of()).getMessage());
+        skillManager.registerSkill(reloaded);
+
+        assertEquals("new", skillManager.executeSkill("report", "request", Map.of()).getMessage());
+        verify(original, times(1)).execute(anyString(), anyMap());
+    }
+
+    @Test
+    void executeSkill_countsMemoizedResultAsCacheHitNotExecution() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(skillManager, "metrics", new SkillMetrics(registry));
+        ReflectionTestUtils.setField(skillManager, "resultMemoizer", new SkillResultMemoizer(new SimpleCache<>(60_000, 100)));
+        AgentSkill skill = deterministicSkill("1.0");
+        when(skill.execute(anyString(), anyMap())).thenReturn(AgentSkillResult.success().build());
+        skillManager.registerSkill(skill);
+
+        skillManager.executeSkill("report", "request", Map.of());
+        skillManager.executeSkill("report", "request", Map.of());
+        skillManager.executeSkill("report", "request", Map.of());
+
+        assertEquals(1, registry.get("agent.skill.execution").tag("skill", "report").tag("outcome", "success").timer().count());
+        assertEquals(2, registry.get("agent.skill.execution.cache.hits").tag("skill", "report").counter().count());
+    }
+
+    @Test
+    void executeSkillAsync_coalescedCallersDoNotTakeBulkheadSlots() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AgentSkill skill = versionedSkill("1.0");
+        when(skill.isCoalescing()).thenReturn(true);
+        when(skill.getExecutionPolicy()).thenReturn(SkillExecutionPolicy.of(1, 0, null));
+        when(skill.execute(anyString(), anyMap())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return AgentSkillResult.success().skillName("report").build();
+        });
+        skillManager.registerSkill(skill);
+
+        CompletableFuture<AgentSkillResult> leader = skillManager.executeSkillAsync("report", "request", Map.of());
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<AgentSkillResult> follower = skillManager.executeSkillAsync("report", "request", Map.of());
+        CompletableFuture<AgentSkillResult> another = skillManager.executeSkillAsync("report", "request", Map.of());
+        release.countDown();
+
+        AgentSkillResult result = leader.get(5, TimeUnit.SECONDS);
+        assertTrue(result.isSuccess());
+        assertSame(result, follower.get(5, TimeUnit.SECONDS));
+        assertSame(result, another.get(5, TimeUnit.SECONDS));
+        verify(skill, times(1)).execute(anyString(), anyMap());
+    }
+
+    private static AgentSkill deterministicSkill(String version) {
+        AgentSkill skill = versionedSkill(version);
+        when(skill.isDeterministic()).thenReturn(true);
+        return skill;
+    }
+
+    private static AgentSkill versionedSkill(String version) {
+        AgentSkill skill = mock(AgentSkill.class);
+        when(skill.getName()).thenReturn("report");
+        when(skill.getVersion()).thenReturn(version);
+        return skill;
+    }
+}
@@ -0,0 +1,67 @@
+package org.unreal.agent.skill.manager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.unreal.agent.skill.core.AgentSkill;
+import org.unreal.agent.skill.routing.SkillMatch;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UnifiedSkillManagerTest {
+
+    private final DefaultSkillManager delegate = new DefaultSkillManager();
+    private UnifiedSkillManager skillManager;
+
+    @BeforeEach
+    void setUp() {
+        skillManager = new UnifiedSkillManager();
+        ReflectionTestUtils.setField(skillManager, "skillManagers", List.<SkillManager>of(delegate));
+    }
+
+    @Test
+    void rankSkillsForRequest_reindexesOnlyChangedSkills() {
+        AgentSkill pdf = skill("pdf-processing", "Extract text from PDF files");
+        AgentSkill report = skill("report", "Build monthly reports");
+        delegate.registerSkill(pdf);
+        delegate.registerSkill(report);
+
+        assertEquals("pdf-processing", skillManager.rankSkillsForRequest("extract pdf text", 1).get(0).getSkill().getName());
+        clearInvocations(pdf, report);
+        skillManager.rankSkillsForRequest("monthly report", 1);
+        verify(pdf, never()).getDescription();
+
+        delegate.unregisterSkill("pdf-processing");
+        List<SkillMatch> matches = skillManager.rankSkillsForRequest("extract pdf text monthly report", 5);
+
+        assertEquals(List.of("report"), matches.stream().map(match -> match.getSkill().getName()).toList());
+        verify(report, never()).getDescription();
+    }
+
+    @Test
+    void rankSkillsForRequest_walksSkillsOnlyWhenRegistryVersionChanges() {
+        DefaultSkillManager tracked = spy(new DefaultSkillManager());
+        ReflectionTestUtils.setField(skillManager, "skillManagers", List.<SkillManager>of(tracked));
+        tracked.registerSkill(skill("pdf-processing", "Extract text from PDF files"));
+
+        skillManager.rankSkillsForRequest("extract pdf text", 1);
+        skillManager.rankSkillsForRequest("extract pdf text", 1);
+        skillManager.rankSkillsForRequest("extract pdf text", 1);
+        verify(tracked, times(1)).getAllSkills();
+
+        tracked.registerSkill(skill("report", "Build monthly reports"));
+        assertEquals("report", skillManager.rankSkillsForRequest("monthly report", 1).get(0).getSkill().getName());
+        verify(tracked, times(2)).getAllSkills();
+    }
+
+    private static AgentSkill skill(String name, String description) {
+        AgentSkill skill = mock(AgentSkill.class);
+        when(skill.getName()).thenReturn(name);
+        when(skill.getDescription()).thenReturn(description);
+        when(skill.getKeywords()).thenReturn(List.of());
+        return skill;
+    }
+}
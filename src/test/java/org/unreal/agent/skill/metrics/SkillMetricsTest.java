@@ -0,0 +1,171 @@
+package org.unreal.agent.skill.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.unreal.agent.skill.AgentSkillManager;
+import org.unreal.agent.skill.cache.SimpleCache;
+import org.unreal.agent.skill.core.AgentSkill;
+import org.unreal.agent.skill.core.AgentSkillResult;
+import org.unreal.agent.skill.execution.SkillExecutor;
+
+import java.nio.file.StandardWatchEventKinds;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SkillMetrics metrics = new SkillMetrics(registry);
+    private AgentSkillManager skillManager;
+
+    @BeforeEach
+    void setUp() {
+        skillManager = new AgentSkillManager();
+        ReflectionTestUtils.setField(skillManager, "metrics", metrics);
+    }
+
+    @Test
+    void executeSkill_timesRunsPerSkillAndOutcome() {
+        skillManager.registerSkill(new TestSkill("echo", List.of("echo"), () -> AgentSkillResult.success().build()));
+        skillManager.registerSkill(new TestSkill("broken", List.of("broken"), () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        skillManager.executeSkill("echo", "hi", Map.of());
+        skillManager.executeSkill("echo", "hi", Map.of());
+        skillManager.executeSkill("broken", "hi", Map.of());
+
+        assertEquals(2, executionTimer("echo", "success").count());
+        assertEquals(1, executionTimer("broken", "failure").count());
+        assertEquals(0, executionTimer("echo", "failure").count());
+    }
+
+    @Test
+    void findSkillForRequest_timesRoutingByMatch() {
+        skillManager.registerSkill(new TestSkill("echo", List.of("echo"), () -> AgentSkillResult.success().build()));
+
+        assertNotNull(skillManager.findSkillForRequest("please echo this"));
+        assertNull(skillManager.findSkillForRequest("nothing relevant"));
+
+        assertEquals(1, registry.get("agent.skill.routing").tag("matched", "true").timer().count());
+        assertEquals(1, registry.get("agent.skill.routing").tag("matched", "false").timer().count());
+    }
+
+    @Test
+    void executeSkillAsync_countsTimeoutsAndRejections() throws Exception {
+        SkillExecutor executor = new SkillExecutor(50, 1, 1);
+        ReflectionTestUtils.setField(executor, "metrics", metrics);
+        ReflectionTestUtils.setField(skillManager, "skillExecutor", executor);
+        CountDownLatch release = new CountDownLatch(1);
+        skillManager.registerSkill(new TestSkill("slow", List.of(), () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return AgentSkillResult.success().build();
+        }));
+
+        var running = skillManager.executeSkillAsync("slow", "", Map.of());
+        var queued = skillManager.executeSkillAsync("slow", "", Map.of());
+        AgentSkillResult rejected = skillManager.executeSkillAsync("slow", "", Map.of()).join();
+        AgentSkillResult timedOut = running.join();
+        queued.join();
+        release.countDown();
+        executor.shutdown();
+
+        assertEquals("rejected", rejected.getMetadata().get("error"));
+        assertEquals("timeout", timedOut.getMetadata().get("error"));
+        assertEquals(1, registry.get("agent.skill.execution.rejections").tag("skill", "slow").counter().count());
+        assertEquals(2, registry.get("agent.skill.execution.timeouts").tag("skill", "slow").counter().count());
+    }
+
+    @Test
+    void recordsLoadsWatchEventsAndCacheHitRatio() {
+        SimpleCache<String, Object> cache = new SimpleCache<>(60_000, 10);
+        metrics.bindCache("metadata", cache);
+        cache.put("alpha", "value");
+        cache.get("alpha");
+        cache.get("missing");
+
+        metrics.recordLoad("alpha", 1_000_000, false);
+        metrics.recordLoad("alpha", 2_000_000, true);
+        metrics.recordWatchEvent(StandardWatchEventKinds.ENTRY_MODIFY);
+        metrics.recordWatchEvent(StandardWatchEventKinds.OVERFLOW);
+        metrics.recordScanChanges(3);
+
+        assertEquals(0.5, registry.get("agent.skill.cache.hit.ratio").tag("cache", "metadata").gauge().value());
+        assertEquals(1, registry.get("agent.skill.cache.gets").tags("cache", "metadata", "result", "miss").functionCounter().count());
+        assertEquals(1, registry.get("agent.skill.load").tags("skill", "alpha", "type", "reload").timer().count());
+        assertEquals(1, registry.get("agent.skill.watch.events").tag("kind", "modify").counter().count());
+        assertEquals(1, registry.get("agent.skill.watch.events").tag("kind", "overflow").counter().count());
+        assertEquals(3, registry.get("agent.skill.watch.events").tag("kind", "scan").counter().count());
+    }
+
+    private Timer executionTimer(String skill, String outcome) {
+        return registry.get("agent.skill.execution").tags("skill", skill, "outcome", outcome).timer();
+    }
+
+    private interface Body {
+        AgentSkillResult run();
+    }
+
+    private static class TestSkill implements AgentSkill {
+        private final String name;
+        private final List<String> keywords;
+        private final Body body;
+
+        TestSkill(String name, List<String> keywords, Body body) {
+            this.name = name;
+            this.keywords = keywords;
+            this.body = body;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getDescription() {
+            return name + " skill";
+        }
+
+        @Override
+        public String getVersion() {
+            return "1.0.0";
+        }
+
+        @Override
+        public boolean canHandle(String request) {
+            return keywords.stream().anyMatch(request::contains);
+        }
+
+        @Override
+        public AgentSkillResult execute(String request, Map<String, Object> parameters) {
+            return body.run();
+        }
+
+        @Override
+        public Map<String, String> getRequiredParameters() {
+            return Map.of();
+        }
+
+        @Override
+        public Map<String, String> getOptionalParameters() {
+            return Map.of();
+        }
+
+        @Override
+        public List<String> getKeywords() {
+            return keywords;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package org.unreal.agent.skill.routing;
+
+import org.junit.jupiter.api.Test;
+import org.unreal.agent.skill.core.AgentSkill;
+import org.unreal.agent.skill.core.AgentSkillResult;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillRouterTest {
+
+    @Test
+    void candidates_onlyIncludesIndexedSkillsWhoseKeywordsMatch() {
+        SkillRouter router = new SkillRouter();
+        router.register(new KeywordSkill("weather", List.of("weather", "forecast")));
+        router.register(new KeywordSkill("email", List.of("email", "send")));
+
+        List<AgentSkill> candidates = router.candidates("What is the Weather FORECAST for tomorrow?");
+
+        assertEquals(1, candidates.size());
+        assertEquals("weather", candidates.get(0).getName());
+    }
+
+    @Test
+    void candidates_includesSkillsWithoutKeywordsOrderedByScoreThenName() {
+        SkillRouter router = new SkillRouter();
+        router.register(new KeywordSkill("send-mail", List.of()));
+        router.register(new KeywordSkill("email", List.of("email")));
+        router.register(new KeywordSkill("catch-all", List.of()));
+        router.register(new SpecificSkill("mailbox", "mail"));
+
+        List<String> names = router.candidates("send an email").stream().map(AgentSkill::getName).toList();
+
+        assertEquals(List.of("email", "send-mail", "mailbox"), names);
+    }
+
+    @Test
+    void route_findsNoSkillForUnmatchedRequestDespiteCatchAllSkills() {
+        SkillRouter router = new SkillRouter();
+        router.register(new KeywordSkill("catch-all", List.of()));
+        router.register(new KeywordSkill("anything", List.of()));
+        router.register(new KeywordSkill("weather", List.of("weather")));
+        router.register(new SpecificSkill("mailbox", "mail"));
+
+        assertNull(router.route("what time is it"));
+        assertEquals("mailbox", router.route("check my mail").getName());
+    }
+
+    @Test
+    void candidates_matchesOverlappingKeywords() {
+        SkillRouter router = new SkillRouter();
+        router.register(new KeywordSkill("she", List.of("she")));
+        router.register(new KeywordSkill("hers", List.of("hers")));
+        router.register(new KeywordSkill("his", List.of("his")));
+
+        List<String> names = router.candidates("ushers").stream().map(AgentSkill::getName).toList();
+
+        assertEquals(List.of("hers", "she"), names);
+    }
+
+    @Test
+    void rank_returnsTopKByRelevance() {
+        SkillRouter router = new SkillRouter();
+        router.register(new KeywordSkill("pdf-processing", List.of("pdf", "document")));
+        router.register(new KeywordSkill("data-analysis", List.of("data", "statistics")));
+        router.register(new KeywordSkill("email", List.of("email")));
+
+        List<SkillMatch> matches = router.rank("extract tables from a pdf document", 2);
+
+        assertEquals(1, matches.size());
+        assertEquals("pdf-processing", matches.get(0).getSkill().getName());
+        assertTrue(matches.get(0).getScore() > 0);
+        assertEquals(2, router.rank("pdf data", 5).size());
+        assertTrue(router.rank("pdf", 0).isEmpty());
+        assertEquals(2, router.rank("pdf data", Integer.MAX_VALUE).size());
+        assertTrue(router.rank("unrelated words", Integer.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    void unregister_removesSkillFromIndex() {
+        SkillRouter router = new SkillRouter();
+        router.register(new KeywordSkill("weather", List.of("weather")));
+        assertNotNull(router.route("weather today"));
+
+        router.unregister("weather");
+
+        assertNull(router.route("weather today"));
+    }
+
+    /**
+     * Skill without keywords that only accepts requests containing a given word.
+     */
+    private static class SpecificSkill extends KeywordSkill {
+        private final String word;
+
+        SpecificSkill(String name, String word) {
+            super(name, List.of());
+            this.word = word;
+        }
+
+        @Override
+        public boolean canHandle(String request) {
+            return request.contains(word);
+        }
+    }
+
+    private static class KeywordSkill implements AgentSkill {
+        private final String name;
+        private final List<String> keywords;
+
+        KeywordSkill(String name, List<String> keywords) {
+            this.name = name;
+            this.keywords = keywords;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getDescription() {
+            return name + " skill";
+        }
+
+        @Override
+        public String getVersion() {
+            return "1.0.0";
+        }
+
+        @Override
+        public boolean canHandle(String request) {
+            return true;
+        }
+
+        @Override
+        public AgentSkillResult execute(String request, Map<String, Object> parameters) {
+            return AgentSkillResult.success().skillName(name).build();
+        }
+
+        @Override
+        public Map<String, String> getRequiredParameters() {
+            return Map.of();
+        }
+
+        @Override
+        public Map<String, String> getOptionalParameters() {
+            return Map.of();
+        }
+
+        @Override
+        public List<String> getKeywords() {
+            return keywords;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.unreal.agent.skill.routing;
+
+import org.junit.jupiter.api.Test;
+import org.unreal.agent.skill.core.AgentSkill;
+import org.unreal.agent.skill.core.AgentSkillResult;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillVersionRegistryTest {
+
+    private final SkillVersionRegistry registry = new SkillVersionRegistry();
+
+    @Test
+    void select_returnsPrimaryWithoutTrafficSplit() {
+        VersionedSkill primary = new VersionedSkill("report", "1.0");
+        registry.register(new VersionedSkill("report", "2.0"));
+
+        for (int i = 0; i < 100; i++) {
+            assertSame(primary, registry.select(primary));
+        }
+    }
+
+    @Test
+    void select_splitsTrafficByWeight() {
+        VersionedSkill primary = new VersionedSkill("report", "1.0");
+        VersionedSkill canary = new VersionedSkill("report", "2.0");
+        registry.register(canary);
+        registry.setWeights("report", Map.of("1.0", 80, "2.0", 20));
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            counts.merge(registry.select(primary).getVersion(), 1, Integer::sum);
+        }
+
+        assertEquals(10_000, counts.get("1.0") + counts.get("2.0"));
+        assertTrue(counts.get("2.0") > 1_500 && counts.get("2.0") < 2_500, "canary share: " + counts);
+    }
+
+    @Test
+    void select_routesWeightOfRemovedVersionToPrimary() {
+        VersionedSkill primary = new VersionedSkill("report", "1.0");
+        registry.register(new VersionedSkill("report", "2.0"));
+        registry.setWeights("report", Map.of("2.0", 1));
+
+        assertEquals("2.0", registry.select(primary).getVersion());
+
+        assertNotNull(registry.unregister("report", "2.0"));
+        assertSame(primary, registry.select(primary));
+        assertEquals(Map.of(), registry.getWeights("report"));
+    }
+
+    @Test
+    void register_replacesVersionAndKeepsWeights() {
+        VersionedSkill primary = new VersionedSkill("report", "1.0");
+        registry.register(new VersionedSkill("report", "2.0"));
+        registry.setWeights("report", Map.of("2.0", 1));
+        VersionedSkill replacement = new VersionedSkill("report", "2.0");
+
+        registry.register(replacement);
+
+        assertSame(replacement, registry.get("report", "2.0"));
+        assertSame(replacement, registry.select(primary));
+        assertEquals(List.of(replacement), registry.getVersions("report"));
+    }
+
+    @Test
+    void setWeights_rejectsInvalidWeights() {
+        assertThrows(IllegalArgumentException.class, () -> registry.setWeights("report", Map.of("1.0", -1)));
+        assertThrows(IllegalArgumentException.class, () -> registry.setWeights("report", Map.of("1.0", 0)));
+        assertEquals(Map.of(), registry.getWeights("report"));
+    }
+
+    @Test
+    void unregisterAll_dropsVersionsAndWeights() {
+        registry.register(new VersionedSkill("report", "2.0"));
+        registry.register(new VersionedSkill("report", "3.0"));
+        registry.setWeights("report", Map.of("2.0", 1, "3.0", 1));
+
+        assertEquals(2, registry.unregisterAll("report").size());
+        assertEquals(List.of(), registry.getVersions("report"));
+        assertEquals(Map.of(), registry.getWeights("report"));
+    }
+
+    private static class VersionedSkill implements AgentSkill {
+        private final String name;
+        private final String version;
+
+        VersionedSkill(String name, String version) {
+            this.name = name;
+            this.version = version;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getDescription() {
+            return name + " " + version;
+        }
+
+        @Override
+        public String getVersion() {
+            return version;
+        }
+
+        @Override
+        public boolean canHandle(String request) {
+            return true;
+        }
+
+        @Override
+        public AgentSkillResult execute(String request, Map<String, Object> parameters) {
+            return AgentSkillResult.success().skillName(name).data(version).build();
+        }
+
+        @Override
+        public Map<String, String> getRequiredParameters() {
+            return Map.of();
+        }
+
+        @Override
+        public Map<String, String> getOptionalParameters() {
+            return Map.of();
+        }
+    }
+}
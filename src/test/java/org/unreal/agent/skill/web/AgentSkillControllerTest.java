@@ -9,24 +9,36 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.unreal.agent.skill.core.AgentSkill;
 import org.unreal.agent.skill.AgentSkillManager;
 import org.unreal.agent.skill.core.AgentSkillResult;
+import org.unreal.agent.skill.core.SkillResultSink;
 import org.unreal.agent.skill.folder.DescriptorAgentSkill;
 import org.unreal.agent.skill.folder.SkillDescriptor;
+import org.unreal.agent.skill.routing.SkillMatch;
 
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -249,6 +261,54 @@ public class AgentSkillControllerTest {
                 .andExpect(jsonPath("$.success").value(true));
     }
 
+    @Test
+    void executeBatchReturnsResultsInRequestOrder() throws Exception {
+        AgentSkillResult first = AgentSkillResult.success().skillName("datetime").build();
+        AgentSkillResult second = AgentSkillResult.failure().message("Skill not found: missing").skillName("missing").build();
+        when(skillManager.submitBatch(anyList())).thenReturn(List.of(
+                CompletableFuture.completedFuture(first),
+                CompletableFuture.completedFuture(second)));
+
+        String requestBody = "[{\"skillName\": \"datetime\"}, {\"skillName\": \"missing\", \"parameters\": {}}]";
+
+        MvcResult mvcResult = mockMvc.perform(post("/api/agent-skills/execute/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].skillName").value("datetime"))
+                .andExpect(jsonPath("$.results[0].success").value(true))
+                .andExpect(jsonPath("$.results[1].skillName").value("missing"))
+                .andExpect(jsonPath("$.results[1].success").value(false));
+    }
+
+    @Test
+    void executeSkillStreamingWritesChunksThenResultAsNdjson() throws Exception {
+        when(skillManager.executeSkillStreaming(anyString(), anyString(), any(), any())).thenAnswer(invocation -> {
+            SkillResultSink sink = invocation.getArgument(3);
+            sink.emit(Map.of("row", 1));
+            sink.emit(Map.of("row", 2));
+            return CompletableFuture.completedFuture(AgentSkillResult.success().skillName("data-analysis").build());
+        });
+
+        MvcResult mvcResult = mockMvc.perform(post("/api/agent-skills/execute/data-analysis/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"parameters\": {}}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult)).andExpect(status().isOk());
+
+        String[] lines = mvcResult.getResponse().getContentAsString().trim().split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].contains("\"type\":\"chunk\""));
+        assertTrue(lines[1].contains("\"row\":2"));
+        assertTrue(lines[2].contains("\"type\":\"result\""));
+        assertTrue(lines[2].contains("\"skillName\":\"data-analysis\""));
+    }
+
     // Find Skill API Tests
     @Test
     void findSkillReturnsFoundTrueWithSkillInfoWhenMatchExists() throws Exception {
@@ -281,6 +341,37 @@ public class AgentSkillControllerTest {
                 .andExpect(jsonPath("$.skillName").doesNotExist());
     }
 
+    @Test
+    void findSkillWithKReturnsRankedMatches() throws Exception {
+        AgentSkill best = createMockSkill("pdf-processing", "Extract text from PDF files", "1.0.0");
+        AgentSkill second = createMockSkill("data-analysis", "Analyze datasets", "1.0.0");
+
+        when(skillManager.rankSkillsForRequest("extract pdf data", 2))
+                .thenReturn(List.of(new SkillMatch(best, 2.5), new SkillMatch(second, 0.7)));
+
+        String requestBody = "{\"request\": \"extract pdf data\"}";
+
+        mockMvc.perform(post("/api/agent-skills/find?k=2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.found").value(true))
+                .andExpect(jsonPath("$.matches.length()").value(2))
+                .andExpect(jsonPath("$.matches[0].skillName").value("pdf-processing"))
+                .andExpect(jsonPath("$.matches[0].score").value(2.5));
+    }
+
+    @Test
+    void findSkillRejectsOversizedK() throws Exception {
+        mockMvc.perform(post("/api/agent-skills/find?k=2147483647")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"request\": \"extract pdf data\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").exists());
+
+        verify(skillManager, never()).rankSkillsForRequest(anyString(), anyInt());
+    }
+
     // Helper methods to create mock skills
     private AgentSkill createMockSkill(String name, String description, String version) {
         AgentSkill skill = mock(AgentSkill.class);